@@ -0,0 +1,74 @@
+package com.example.app.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating a request's access token: a verified-token cache hit, a cache miss
+ * (verification plus insert, with more distinct tokens than the cache holds), and the uncached path
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenProviderBenchmark {
+    
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-256-bits-long";
+    private static final int DISTINCT_TOKENS = 4096;
+    
+    private JwtTokenProvider cached;
+    private JwtTokenProvider thrashed;
+    private JwtTokenProvider uncached;
+    private String token;
+    private String[] tokens;
+    private int next;
+    
+    @Setup
+    public void setUp() {
+        cached = provider(1024);
+        thrashed = provider(64);
+        uncached = provider(0);
+        token = cached.generateAccessToken(UUID.randomUUID(), "guest", List.of("ROLE_USER"));
+        tokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = thrashed.generateAccessToken(UUID.randomUUID(), "guest" + i, List.of("ROLE_USER"));
+        }
+    }
+    
+    @Benchmark
+    public Claims cacheHit() {
+        return cached.parseClaims(token);
+    }
+    
+    @Benchmark
+    public Claims cacheMiss() {
+        next = (next + 1) % tokens.length;
+        return thrashed.parseClaims(tokens[next]);
+    }
+    
+    @Benchmark
+    public Claims uncached() {
+        return uncached.parseClaims(token);
+    }
+    
+    private static JwtTokenProvider provider(int cacheEntries) {
+        return new JwtTokenProvider(SECRET, TimeUnit.HOURS.toMillis(1), TimeUnit.DAYS.toMillis(7), "benchmark",
+                cacheEntries, new SimpleMeterRegistry());
+    }
+}
@@ -1,14 +1,18 @@
 package com.example.app.adapter.exception;
 
+import com.example.app.common.exception.BookingConflictException;
 import com.example.app.common.exception.DuplicateResourceException;
 import com.example.app.common.exception.InvalidSearchCriteriaException;
 import com.example.app.common.exception.InvalidTokenException;
+import com.example.app.common.exception.RateLimitExceededException;
 import com.example.app.common.exception.ResourceNotFoundException;
+import com.example.app.common.exception.ServiceUnavailableException;
 import com.example.app.common.response.CommonResponse;
 import com.example.app.common.util.TraceIdGenerator;
 import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -99,6 +103,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
     
+    /**
+     * Handle booking conflict exceptions (409)
+     */
+    @ExceptionHandler(BookingConflictException.class)
+    public ResponseEntity<CommonResponse<Void>> handleBookingConflictException(BookingConflictException ex) {
+        String traceId = TraceIdGenerator.generate();
+        log.error("[{}] Booking conflict: {}", traceId, ex.getMessage());
+        
+        CommonResponse<Void> response = CommonResponse.error(
+                ex.getMessage(),
+                HttpStatus.CONFLICT.value(),
+                traceId
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+    }
+    
     /**
      * Handle validation exceptions (422)
      */
@@ -246,6 +267,44 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
     }
     
+    /**
+     * Handle rate limited requests (429)
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<CommonResponse<Void>> handleRateLimitExceededException(RateLimitExceededException ex) {
+        String traceId = TraceIdGenerator.generate();
+        log.warn("[{}] Rate limit exceeded: {}", traceId, ex.getMessage());
+        
+        CommonResponse<Void> response = CommonResponse.error(
+                ex.getMessage(),
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                traceId
+        );
+        
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+    
+    /**
+     * Handle requests shed under overload (503)
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<CommonResponse<Void>> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        String traceId = TraceIdGenerator.generate();
+        log.warn("[{}] Service unavailable: {}", traceId, ex.getMessage());
+        
+        CommonResponse<Void> response = CommonResponse.error(
+                ex.getMessage(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                traceId
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response);
+    }
+    
     /**
      * Handle multipart file upload exceptions (413)
      */
@@ -6,17 +6,23 @@ import com.example.app.adapter.web.request.RegisterRequest;
 import com.example.app.adapter.web.response.AuthenticationResponse;
 import com.example.app.adapter.web.response.UserResponse;
 import com.example.app.application.mapper.UserMapper;
+import com.example.app.common.exception.InvalidTokenException;
 import com.example.app.common.response.CommonResponse;
 import com.example.app.common.util.TraceIdGenerator;
 import com.example.app.domain.model.User;
 import com.example.app.domain.port.in.AuthenticationUseCase;
 import com.example.app.domain.port.out.TokenRepositoryPort;
 import com.example.app.infrastructure.security.jwt.JwtTokenProvider;
+import com.example.app.infrastructure.security.ratelimit.LoginRateLimiter;
+import com.example.app.infrastructure.security.ratelimit.TrustedProxyIpResolver;
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -37,6 +43,8 @@ public class AuthenticationController {
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenRepositoryPort tokenRepositoryPort;
     private final UserMapper userMapper;
+    private final LoginRateLimiter loginRateLimiter;
+    private final TrustedProxyIpResolver trustedProxyIpResolver;
     
     @PostMapping("/register")
     @Operation(summary = "Register new user", description = "Create a new user account")
@@ -54,6 +62,7 @@ public class AuthenticationController {
         
         // Generate tokens
         String accessToken = jwtTokenProvider.generateAccessToken(
+                user.getId(),
                 user.getUsername(),
                 user.getRoles().stream().map(role -> role.getName()).collect(Collectors.toList())
         );
@@ -82,10 +91,15 @@ public class AuthenticationController {
     
     @PostMapping("/login")
     @Operation(summary = "Login", description = "Authenticate user and get JWT tokens")
-    public ResponseEntity<CommonResponse<AuthenticationResponse>> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<CommonResponse<AuthenticationResponse>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
         String traceId = TraceIdGenerator.generate();
         log.info("[{}] Login request for: {}", traceId, request.getUsernameOrEmail());
         
+        // Throttled attempts are turned away before any user lookup or password hashing
+        loginRateLimiter.checkLoginAllowed(request.getUsernameOrEmail(), trustedProxyIpResolver.resolve(httpRequest));
+        
         User user = authenticationUseCase.authenticate(
                 request.getUsernameOrEmail(),
                 request.getPassword()
@@ -93,6 +107,7 @@ public class AuthenticationController {
         
         // Generate tokens
         String accessToken = jwtTokenProvider.generateAccessToken(
+                user.getId(),
                 user.getUsername(),
                 user.getRoles().stream().map(role -> role.getName()).collect(Collectors.toList())
         );
@@ -129,6 +144,7 @@ public class AuthenticationController {
         
         // Generate new access token
         String accessToken = jwtTokenProvider.generateAccessToken(
+                user.getId(),
                 user.getUsername(),
                 user.getRoles().stream().map(role -> role.getName()).collect(Collectors.toList())
         );
@@ -152,12 +168,15 @@ public class AuthenticationController {
     }
     
     @PostMapping("/logout")
-    @Operation(summary = "Logout", description = "Invalidate refresh token")
-    public ResponseEntity<CommonResponse<Void>> logout(@Valid @RequestBody RefreshTokenRequest request) {
+    @Operation(summary = "Logout", description = "Invalidate refresh token and revoke the access token it is sent with")
+    public ResponseEntity<CommonResponse<Void>> logout(
+            @Valid @RequestBody RefreshTokenRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
         String traceId = TraceIdGenerator.generate();
         log.info("[{}] Logout request", traceId);
         
         authenticationUseCase.invalidateRefreshToken(request.getRefreshToken());
+        revokeAccessToken(authorization);
         
         CommonResponse<Void> response = CommonResponse.success(
                 null,
@@ -168,4 +187,21 @@ public class AuthenticationController {
         
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * Revoke the bearer access token, if any; a token that is already invalid needs no revocation
+     */
+    private void revokeAccessToken(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return;
+        }
+        try {
+            Claims claims = jwtTokenProvider.parseClaims(authorization.substring(7));
+            if (claims.getId() != null) {
+                authenticationUseCase.revokeAccessToken(claims.getId(), claims.getExpiration().toInstant());
+            }
+        } catch (InvalidTokenException e) {
+            log.debug("Access token sent with logout is not valid: {}", e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package com.example.app.adapter.web.controller;
+
+import com.example.app.adapter.web.request.BulkCancelBookingRequest;
+import com.example.app.adapter.web.request.BulkCreateBookingRequest;
+import com.example.app.adapter.web.request.CreateBookingRequest;
+import com.example.app.adapter.web.response.BookingResponse;
+import com.example.app.adapter.web.response.BulkOperationResponse;
+import com.example.app.application.mapper.BookingMapper;
+import com.example.app.common.response.CommonResponse;
+import com.example.app.common.util.TraceIdGenerator;
+import com.example.app.domain.model.Booking;
+import com.example.app.domain.model.BulkOperationResult;
+import com.example.app.domain.port.in.BookingManagementUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * REST Controller for booking operations (front desk / Admin)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/bookings")
+@RequiredArgsConstructor
+@Tag(name = "Booking Management", description = "APIs for creating and cancelling bookings (Admin only)")
+@SecurityRequirement(name = "Bearer Authentication")
+public class BookingController {
+    
+    private final BookingManagementUseCase bookingManagementUseCase;
+    private final BookingMapper bookingMapper;
+    
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create booking", description = "Book a room for a stay if it is available")
+    public ResponseEntity<CommonResponse<BookingResponse>> createBooking(
+            @Valid @RequestBody CreateBookingRequest request) {
+        
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] Create booking - room: {}, checkIn: {}, checkOut: {}",
+                 traceId, request.getRoomId(), request.getCheckInDate(), request.getCheckOutDate());
+        
+        Booking booking = bookingManagementUseCase.createBooking(
+                request.getRoomId(),
+                request.getCheckInDate(),
+                request.getCheckOutDate()
+        );
+        
+        CommonResponse<BookingResponse> response = CommonResponse.success(
+                bookingMapper.toResponse(booking),
+                "Booking created successfully",
+                HttpStatus.CREATED.value(),
+                traceId
+        );
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+    
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk create bookings",
+               description = "Create up to several thousand bookings; results are reported per item")
+    public ResponseEntity<CommonResponse<BulkOperationResponse>> createBookings(
+            @Valid @RequestBody BulkCreateBookingRequest request) {
+        
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] Bulk create bookings - items: {}, atomic: {}",
+                 traceId, request.getBookings().size(), request.isAtomic());
+        
+        List<Booking> drafts = request.getBookings().stream()
+                .map(bookingMapper::toDomain)
+                .collect(Collectors.toList());
+        
+        BulkOperationResult result = bookingManagementUseCase.createBookings(drafts, request.isAtomic());
+        return bulkResponse(result, "Bulk booking processed", traceId);
+    }
+    
+    @PostMapping("/bulk/cancel")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk cancel bookings",
+               description = "Cancel up to several thousand bookings; results are reported per item")
+    public ResponseEntity<CommonResponse<BulkOperationResponse>> cancelBookings(
+            @Valid @RequestBody BulkCancelBookingRequest request) {
+        
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] Bulk cancel bookings - items: {}, atomic: {}",
+                 traceId, request.getBookingIds().size(), request.isAtomic());
+        
+        BulkOperationResult result = bookingManagementUseCase.cancelBookings(request.getBookingIds(), request.isAtomic());
+        return bulkResponse(result, "Bulk cancellation processed", traceId);
+    }
+    
+    @GetMapping("/{bookingId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get booking by ID", description = "Retrieve booking details by ID")
+    public ResponseEntity<CommonResponse<BookingResponse>> getBookingById(@PathVariable UUID bookingId) {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] Get booking by ID: {}", traceId, bookingId);
+        
+        Booking booking = bookingManagementUseCase.getBookingById(bookingId);
+        
+        CommonResponse<BookingResponse> response = CommonResponse.success(
+                bookingMapper.toResponse(booking),
+                "Booking retrieved successfully",
+                HttpStatus.OK.value(),
+                traceId
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/{bookingId}/cancel")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Cancel booking", description = "Cancel a booking and release its nights")
+    public ResponseEntity<CommonResponse<BookingResponse>> cancelBooking(@PathVariable UUID bookingId) {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] Cancel booking: {}", traceId, bookingId);
+        
+        Booking booking = bookingManagementUseCase.cancelBooking(bookingId);
+        
+        CommonResponse<BookingResponse> response = CommonResponse.success(
+                bookingMapper.toResponse(booking),
+                "Booking cancelled successfully",
+                HttpStatus.OK.value(),
+                traceId
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 200 when the batch was applied (possibly with failed items), 409 when an atomic batch was rejected
+     */
+    private ResponseEntity<CommonResponse<BulkOperationResponse>> bulkResponse(
+            BulkOperationResult result, String message, String traceId) {
+        
+        BulkOperationResponse body = bookingMapper.toResponse(result);
+        if (!result.isApplied()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(CommonResponse.error(
+                    body,
+                    "Atomic batch rejected: " + result.getFailed() + " of " + result.getTotal() + " items failed",
+                    HttpStatus.CONFLICT.value(),
+                    traceId
+            ));
+        }
+        
+        return ResponseEntity.ok(CommonResponse.success(
+                body,
+                message + ": " + result.getSucceeded() + " succeeded, " + result.getFailed() + " failed",
+                HttpStatus.OK.value(),
+                traceId
+        ));
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.app.adapter.web.controller;
+
+import com.example.app.adapter.web.response.BookingArchiveReportResponse;
+import com.example.app.adapter.web.response.OccupancyReportResponse;
+import com.example.app.application.mapper.ReportMapper;
+import com.example.app.common.response.CommonResponse;
+import com.example.app.common.util.TraceIdGenerator;
+import com.example.app.domain.model.BookingArchiveSummary;
+import com.example.app.domain.model.OccupancyReport;
+import com.example.app.domain.port.in.BookingReportUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+/**
+ * REST Controller for reporting endpoints
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Booking reports (Admin only)")
+@SecurityRequirement(name = "Bearer Authentication")
+public class ReportController {
+    
+    private final BookingReportUseCase bookingReportUseCase;
+    private final ReportMapper reportMapper;
+    
+    @GetMapping("/occupancy")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Occupancy report",
+               description = "Occupancy %, ADR and RevPAR per day or month, read from daily rollups (Admin only)")
+    public ResponseEntity<CommonResponse<OccupancyReportResponse>> getOccupancyReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") String granularity) {
+        
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] Occupancy report - from: {}, to: {}, granularity: {}", traceId, from, to, granularity);
+        
+        OccupancyReport report = bookingReportUseCase.getOccupancyReport(from, to, granularity);
+        
+        CommonResponse<OccupancyReportResponse> response = CommonResponse.success(
+                reportMapper.toResponse(report),
+                "Occupancy report generated successfully",
+                HttpStatus.OK.value(),
+                traceId
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/occupancy/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Rebuild occupancy rollups",
+               description = "Recompute daily room stats from all bookings in parallel (Admin only)")
+    public ResponseEntity<CommonResponse<Integer>> rebuildOccupancyRollups() {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] Rebuild occupancy rollups", traceId);
+        
+        int rows = bookingReportUseCase.rebuildDailyRoomStats();
+        
+        CommonResponse<Integer> response = CommonResponse.success(
+                rows,
+                "Occupancy rollups rebuilt successfully",
+                HttpStatus.OK.value(),
+                traceId
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/bookings/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Archived bookings report",
+               description = "Summarize archived bookings by check-in date range (Admin only)")
+    public ResponseEntity<CommonResponse<BookingArchiveReportResponse>> getArchivedBookingsReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] Archived bookings report - from: {}, to: {}", traceId, from, to);
+        
+        BookingArchiveSummary summary = bookingReportUseCase.summarizeArchivedBookings(from, to);
+        
+        CommonResponse<BookingArchiveReportResponse> response = CommonResponse.success(
+                reportMapper.toResponse(summary),
+                "Archived bookings report generated successfully",
+                HttpStatus.OK.value(),
+                traceId
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+}
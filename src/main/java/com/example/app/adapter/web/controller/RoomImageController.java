@@ -1,31 +1,62 @@
 package com.example.app.adapter.web.controller;
 
+import com.example.app.adapter.web.request.CreateImageUploadSessionRequest;
+import com.example.app.adapter.web.response.ByteRangeResponse;
+import com.example.app.adapter.web.response.ImageUploadErrorResponse;
+import com.example.app.adapter.web.response.ImageUploadSessionResponse;
+import com.example.app.adapter.web.response.ImageVariantResponse;
 import com.example.app.adapter.web.response.RoomImageResponse;
+import com.example.app.application.service.ImagePlaceholderBackfillService;
+import com.example.app.application.service.ImageStorageMigrationService;
 import com.example.app.common.exception.ImageProcessingException;
 import com.example.app.common.response.CommonResponse;
 import com.example.app.common.util.TraceIdGenerator;
+import com.example.app.domain.model.ImageSetVersion;
+import com.example.app.domain.model.ImageUploadSession;
+import com.example.app.domain.model.ImageVariant;
 import com.example.app.domain.model.RoomImage;
+import com.example.app.domain.model.StoredImage;
+import com.example.app.domain.port.in.ImageUploadSessionUseCase;
 import com.example.app.domain.port.in.RoomManagementUseCase;
 import com.example.app.infrastructure.storage.ImageStorageService;
+import com.example.app.infrastructure.storage.ImageUploadResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * REST controller for room image management.
- * Handles image upload and retrieval.
+ * Handles image upload (single request or resumable chunked sessions) and retrieval.
  */
 @Slf4j
 @RestController
@@ -34,8 +65,17 @@ import java.util.stream.Collectors;
 @Tag(name = "Room Images", description = "APIs for managing room images")
 public class RoomImageController {
     
+    private static final int VERSION_LENGTH = 16;
+    private static final int MAX_MANIFEST_ROOMS = 100;
+    private static final CacheControl IMMUTABLE_CACHE_CONTROL =
+            CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    private static final CacheControl REVALIDATE_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+    
     private final RoomManagementUseCase roomManagementUseCase;
+    private final ImageUploadSessionUseCase imageUploadSessionUseCase;
     private final ImageStorageService imageStorageService;
+    private final ImageStorageMigrationService imageStorageMigrationService;
+    private final ImagePlaceholderBackfillService imagePlaceholderBackfillService;
     
     /**
      * ADMIN: Upload images for a room
@@ -43,7 +83,7 @@ public class RoomImageController {
      */
     @PostMapping("/{roomId}/images")
     @Operation(summary = "Upload room images", description = "Upload one or more images for a room (Admin only)")
-    public ResponseEntity<CommonResponse<List<RoomImageResponse>>> uploadRoomImages(
+    public ResponseEntity<CommonResponse<?>> uploadRoomImages(
             @PathVariable UUID roomId,
             @RequestParam("images") MultipartFile[] files,
             @RequestParam(value = "mainImageIndex", defaultValue = "0") int mainImageIndex
@@ -52,28 +92,48 @@ public class RoomImageController {
         log.info("[{}] POST /api/v1/rooms/{}/images - uploading {} images", traceId, roomId, files.length);
         
         try {
+            // Validate and stream all files into image storage concurrently
+            List<ImageUploadResult> results = imageStorageService.storeImages(files);
+            
+            List<ImageUploadErrorResponse> errors = results.stream()
+                    .filter(result -> !result.isSucceeded())
+                    .map(result -> ImageUploadErrorResponse.builder()
+                            .index(result.getIndex())
+                            .filename(result.getOriginalFilename())
+                            .message(result.getError())
+                            .build())
+                    .collect(Collectors.toList());
+            
+            if (!errors.isEmpty()) {
+                // Nothing is persisted; stored files stay unreferenced and are cleaned up later
+                log.warn("[{}] Rejected upload for room {}: {} of {} images failed", traceId, roomId, errors.size(), files.length);
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(CommonResponse.error(
+                        errors,
+                        String.format("%d of %d images could not be processed", errors.size(), files.length),
+                        HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                        traceId
+                ));
+            }
+            
             List<RoomImage> roomImages = new ArrayList<>();
             
-            for (int i = 0; i < files.length; i++) {
-                MultipartFile file = files[i];
-                
-                // Validate image
-                imageStorageService.validateImage(file);
+            for (ImageUploadResult result : results) {
+                StoredImage stored = result.getStoredImage();
                 
                 // Convert to domain model
                 RoomImage roomImage = new RoomImage();
                 roomImage.setRoomId(roomId);
-                roomImage.setFilename(imageStorageService.generateUniqueFilename(file.getOriginalFilename()));
-                roomImage.setContentType(file.getContentType());
-                roomImage.setFileSize(file.getSize());
-                roomImage.setImageData(imageStorageService.convertToByteArray(file));
-                roomImage.setMain(i == mainImageIndex);
-                roomImage.setDisplayOrder(i);
+                roomImage.setFilename(imageStorageService.generateUniqueFilename(result.getOriginalFilename()));
+                roomImage.setContentType(stored.getContentType());
+                roomImage.setFileSize(stored.getSize());
+                roomImage.setContentHash(stored.getContentHash());
+                roomImage.setMain(result.getIndex() == mainImageIndex);
+                roomImage.setDisplayOrder(result.getIndex());
                 
                 roomImages.add(roomImage);
             }
             
-            // Save images
+            // Save all image metadata in one batch
             List<RoomImage> savedImages = roomManagementUseCase.uploadRoomImages(roomId, roomImages);
             
             // Convert to response
@@ -89,7 +149,7 @@ public class RoomImageController {
                     HttpStatus.CREATED.value(),
                     traceId
             ));
-            
+        
         } catch (IllegalArgumentException e) {
             log.error("[{}] Validation error: {}", traceId, e.getMessage());
             throw new ImageProcessingException(e.getMessage(), e);
@@ -125,27 +185,380 @@ public class RoomImageController {
     }
     
     /**
-     * PUBLIC: Get single image binary data
+     * PUBLIC: Get the image metadata of many rooms at once, e.g. for a listing page.
+     * The ETag follows the number of images and their latest update, so a matching If-None-Match
+     * is answered with 304 after a single aggregate query.
+     */
+    @GetMapping("/images/manifest")
+    @Operation(summary = "Get image manifest",
+               description = "Retrieve the image metadata of up to " + MAX_MANIFEST_ROOMS + " rooms in one request")
+    public ResponseEntity<CommonResponse<Map<UUID, List<RoomImageResponse>>>> getImageManifest(
+            @RequestParam("roomIds") List<UUID> roomIds,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] GET /api/v1/rooms/images/manifest - {} rooms", traceId, roomIds.size());
+        
+        List<UUID> uniqueRoomIds = roomIds.stream().distinct().sorted().collect(Collectors.toList());
+        if (uniqueRoomIds.size() > MAX_MANIFEST_ROOMS) {
+            throw new IllegalArgumentException("At most " + MAX_MANIFEST_ROOMS + " rooms can be requested at once");
+        }
+        
+        ImageSetVersion version = roomManagementUseCase.getRoomImagesVersion(uniqueRoomIds);
+        String etag = manifestETag(uniqueRoomIds, version);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        headers.setCacheControl(REVALIDATE_CACHE_CONTROL);
+        
+        if (etagMatches(ifNoneMatch, etag)) {
+            log.info("[{}] Image manifest not modified", traceId);
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+        
+        Map<UUID, List<RoomImage>> imagesByRoom = roomManagementUseCase.getRoomImagesByRoomIds(uniqueRoomIds);
+        
+        // Every requested room gets an entry, in request order
+        Map<UUID, List<RoomImageResponse>> manifest = new LinkedHashMap<>();
+        for (UUID roomId : roomIds) {
+            manifest.computeIfAbsent(roomId, id -> imagesByRoom.getOrDefault(id, List.of()).stream()
+                    .map(image -> toRoomImageResponse(image, id))
+                    .collect(Collectors.toList()));
+        }
+        
+        log.info("[{}] Successfully fetched {} images for {} rooms", traceId, version.getImageCount(), manifest.size());
+        
+        return new ResponseEntity<>(CommonResponse.success(
+                manifest,
+                "Image manifest fetched successfully",
+                HttpStatus.OK.value(),
+                traceId
+        ), headers, HttpStatus.OK);
+    }
+    
+    /**
+     * PUBLIC: Get single image binary data, streamed from image storage.
+     * With w, the narrowest variant at least that wide is served instead of the original.
+     * The ETag is the content hash, so a matching If-None-Match is answered with 304 from the metadata row alone.
+     * URLs carrying the current version (v) are immutable and may be cached for a year.
+     * Range requests get 206 with one region or multipart/byteranges; only the requested bytes are read.
      */
     @GetMapping("/{roomId}/images/{imageId}")
     @Operation(summary = "Get image binary", description = "Retrieve the actual image binary data")
-    public ResponseEntity<byte[]> getImageBinary(
+    public ResponseEntity<?> getImageBinary(
             @PathVariable UUID roomId,
-            @PathVariable UUID imageId
+            @PathVariable UUID imageId,
+            @RequestParam(value = "w", required = false) Integer width,
+            @RequestParam(value = "v", required = false) String version,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange
     ) {
         String traceId = TraceIdGenerator.generate();
-        log.info("[{}] GET /api/v1/rooms/{}/images/{} - fetching binary data", traceId, roomId, imageId);
+        log.info("[{}] GET /api/v1/rooms/{}/images/{} - fetching binary data, width: {}", traceId, roomId, imageId, width);
         
         RoomImage image = roomManagementUseCase.getRoomImageById(imageId);
         
+        Optional<ImageVariant> variant = width != null
+                ? roomManagementUseCase.findImageVariant(imageId, width)
+                : Optional.empty();
+        String contentHash = variant.map(ImageVariant::getContentHash).orElse(image.getContentHash());
+        
         HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.parseMediaType(image.getContentType()));
-        headers.setContentLength(image.getFileSize());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (contentHash != null) {
+            headers.setETag("\"" + contentHash + "\"");
+            headers.setCacheControl(version != null && version.equals(versionOf(contentHash))
+                    ? IMMUTABLE_CACHE_CONTROL
+                    : REVALIDATE_CACHE_CONTROL);
+        }
+        if (image.getUpdatedAt() != null) {
+            headers.setLastModified(image.getUpdatedAt().atZone(ZoneId.systemDefault()));
+        }
+        
+        if (contentHash != null && etagMatches(ifNoneMatch, headers.getETag())) {
+            log.info("[{}] Image not modified: {}", traceId, imageId);
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+        
+        Resource content = variant.isPresent()
+                ? roomManagementUseCase.getImageVariantContent(variant.get())
+                : roomManagementUseCase.getRoomImageContent(image);
+        
+        long contentLength = variant.map(ImageVariant::getFileSize).orElse(image.getFileSize());
+        headers.setContentType(MediaType.parseMediaType(
+                variant.map(ImageVariant::getContentType).orElse(image.getContentType())));
         headers.set(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + image.getFilename() + "\"");
         
+        if (range != null) {
+            if (ifRangeMatches(ifRange, headers.getETag())) {
+                List<ResourceRegion> regions;
+                try {
+                    regions = HttpRange.toResourceRegions(HttpRange.parseRanges(range), content);
+                } catch (IllegalArgumentException e) {
+                    log.info("[{}] Unsatisfiable range '{}' for image: {}", traceId, range, imageId);
+                    headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + contentLength);
+                    return new ResponseEntity<>(headers, HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+                }
+                log.info("[{}] Successfully fetched {} range(s) of image binary: {}", traceId, regions.size(), imageId);
+                return new ResponseEntity<>(regions.size() == 1 ? regions.get(0) : regions,
+                                            headers, HttpStatus.PARTIAL_CONTENT);
+            }
+            // Spring applies Range headers to Resource bodies on its own; a plain stream keeps the full response
+            content = new InputStreamResource(openStream(content));
+        }
+        
+        headers.setContentLength(contentLength);
+        
         log.info("[{}] Successfully fetched image binary: {}", traceId, imageId);
         
-        return new ResponseEntity<>(image.getImageData(), headers, HttpStatus.OK);
+        return new ResponseEntity<>(content, headers, HttpStatus.OK);
+    }
+    
+    /**
+     * ADMIN: Delete a room image
+     */
+    @DeleteMapping("/{roomId}/images/{imageId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Delete room image", description = "Delete an image and its variants from a room (Admin only)")
+    public ResponseEntity<CommonResponse<Void>> deleteRoomImage(
+            @PathVariable UUID roomId,
+            @PathVariable UUID imageId
+    ) {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] DELETE /api/v1/rooms/{}/images/{}", traceId, roomId, imageId);
+        
+        roomManagementUseCase.deleteRoomImage(roomId, imageId);
+        
+        log.info("[{}] Successfully deleted image: {}", traceId, imageId);
+        
+        return ResponseEntity.ok(CommonResponse.success(
+                null,
+                "Image deleted successfully",
+                HttpStatus.OK.value(),
+                traceId
+        ));
+    }
+    
+    /**
+     * ADMIN: Open a resumable upload session for one image
+     */
+    @PostMapping("/{roomId}/images/upload-sessions")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Create image upload session",
+               description = "Start a chunked, resumable upload of one room image (Admin only)")
+    public ResponseEntity<CommonResponse<ImageUploadSessionResponse>> createUploadSession(
+            @PathVariable UUID roomId,
+            @Valid @RequestBody CreateImageUploadSessionRequest request
+    ) {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] POST /api/v1/rooms/{}/images/upload-sessions - {} bytes", traceId, roomId, request.getFileSize());
+        
+        ImageUploadSession session = imageUploadSessionUseCase.createSession(roomId, request.getFilename(),
+                request.getFileSize(), request.getContentHash(), request.isMain(), request.getDisplayOrder());
+        
+        log.info("[{}] Created upload session: {}", traceId, session.getId());
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.success(
+                toUploadSessionResponse(session),
+                "Upload session created successfully",
+                HttpStatus.CREATED.value(),
+                traceId
+        ));
+    }
+    
+    /**
+     * ADMIN: Get an upload session with the ranges received so far, to resume an interrupted upload
+     */
+    @GetMapping("/{roomId}/images/upload-sessions/{sessionId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get image upload session", description = "Get the received ranges of an upload session (Admin only)")
+    public ResponseEntity<CommonResponse<ImageUploadSessionResponse>> getUploadSession(
+            @PathVariable UUID roomId,
+            @PathVariable UUID sessionId
+    ) {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] GET /api/v1/rooms/{}/images/upload-sessions/{}", traceId, roomId, sessionId);
+        
+        ImageUploadSession session = imageUploadSessionUseCase.getSession(roomId, sessionId);
+        
+        return ResponseEntity.ok(CommonResponse.success(
+                toUploadSessionResponse(session),
+                "Upload session retrieved successfully",
+                HttpStatus.OK.value(),
+                traceId
+        ));
+    }
+    
+    /**
+     * ADMIN: Upload one chunk of an upload session as the raw request body
+     */
+    @PutMapping(value = "/{roomId}/images/upload-sessions/{sessionId}/chunks/{index}",
+                consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Upload image chunk", description = "Write one chunk of an upload session (Admin only)")
+    public ResponseEntity<CommonResponse<ImageUploadSessionResponse>> uploadChunk(
+            @PathVariable UUID roomId,
+            @PathVariable UUID sessionId,
+            @PathVariable int index,
+            HttpServletRequest request
+    ) throws IOException {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] PUT /api/v1/rooms/{}/images/upload-sessions/{}/chunks/{} - {} bytes",
+                traceId, roomId, sessionId, index, request.getContentLengthLong());
+        
+        ImageUploadSession session = imageUploadSessionUseCase.uploadChunk(roomId, sessionId, index,
+                request.getContentLengthLong(), request.getInputStream());
+        
+        return ResponseEntity.ok(CommonResponse.success(
+                toUploadSessionResponse(session),
+                "Chunk uploaded successfully",
+                HttpStatus.OK.value(),
+                traceId
+        ));
+    }
+    
+    /**
+     * ADMIN: Verify the assembled image and attach it to the room
+     */
+    @PostMapping("/{roomId}/images/upload-sessions/{sessionId}/complete")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Complete image upload session",
+               description = "Verify the content hash and add the uploaded image to the room (Admin only)")
+    public ResponseEntity<CommonResponse<RoomImageResponse>> completeUploadSession(
+            @PathVariable UUID roomId,
+            @PathVariable UUID sessionId
+    ) {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] POST /api/v1/rooms/{}/images/upload-sessions/{}/complete", traceId, roomId, sessionId);
+        
+        RoomImage image = imageUploadSessionUseCase.completeSession(roomId, sessionId);
+        
+        log.info("[{}] Upload session {} completed as image: {}", traceId, sessionId, image.getId());
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.success(
+                toRoomImageResponse(image, roomId),
+                "Image uploaded successfully",
+                HttpStatus.CREATED.value(),
+                traceId
+        ));
+    }
+    
+    /**
+     * ADMIN: Abort an upload session
+     */
+    @DeleteMapping("/{roomId}/images/upload-sessions/{sessionId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Cancel image upload session", description = "Discard an upload session and its chunks (Admin only)")
+    public ResponseEntity<CommonResponse<Void>> cancelUploadSession(
+            @PathVariable UUID roomId,
+            @PathVariable UUID sessionId
+    ) {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] DELETE /api/v1/rooms/{}/images/upload-sessions/{}", traceId, roomId, sessionId);
+        
+        imageUploadSessionUseCase.cancelSession(roomId, sessionId);
+        
+        return ResponseEntity.ok(CommonResponse.success(
+                null,
+                "Upload session cancelled successfully",
+                HttpStatus.OK.value(),
+                traceId
+        ));
+    }
+    
+    /**
+     * ADMIN: Move images still stored inline in the database to image storage
+     */
+    @PostMapping("/images/storage-migration")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Migrate image storage",
+               description = "Move legacy image bytes from the database to image storage (Admin only)")
+    public ResponseEntity<CommonResponse<Long>> migrateImageStorage() {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] POST /api/v1/rooms/images/storage-migration", traceId);
+        
+        long migrated = imageStorageMigrationService.migrateInlineImages();
+        
+        log.info("[{}] Moved {} images to image storage", traceId, migrated);
+        
+        return ResponseEntity.ok(CommonResponse.success(
+                migrated,
+                "Images migrated successfully",
+                HttpStatus.OK.value(),
+                traceId
+        ));
+    }
+    
+    /**
+     * ADMIN: Generate placeholders for images uploaded before placeholders existed
+     */
+    @PostMapping("/images/placeholder-backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Backfill image placeholders",
+               description = "Generate BlurHash placeholders for images that have none (Admin only)")
+    public ResponseEntity<CommonResponse<Long>> backfillImagePlaceholders() {
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] POST /api/v1/rooms/images/placeholder-backfill", traceId);
+        
+        long generated = imagePlaceholderBackfillService.backfillPlaceholders();
+        
+        log.info("[{}] Generated {} image placeholders", traceId, generated);
+        
+        return ResponseEntity.ok(CommonResponse.success(
+                generated,
+                "Image placeholders generated successfully",
+                HttpStatus.OK.value(),
+                traceId
+        ));
+    }
+    
+    /**
+     * Strong ETag over the requested rooms and the version stamp of their images
+     */
+    private String manifestETag(List<UUID> sortedRoomIds, ImageSetVersion version) {
+        StringBuilder key = new StringBuilder();
+        sortedRoomIds.forEach(roomId -> key.append(roomId).append(','));
+        key.append(version.getImageCount()).append('@').append(version.getLastModified());
+        return "\"" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+    
+    /**
+     * If-None-Match check for strong ETags; weak validators compare equal for GET as per RFC 9110
+     */
+    private boolean etagMatches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * If-Range only allows a partial response while the validator still matches; dates are not used as validators
+     */
+    private boolean ifRangeMatches(String ifRange, String etag) {
+        return ifRange == null || (etag != null && ifRange.trim().equals(etag));
+    }
+    
+    private InputStream openStream(Resource content) {
+        try {
+            return content.getInputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open image content", e);
+        }
+    }
+    
+    private String versionOf(String contentHash) {
+        return contentHash.substring(0, VERSION_LENGTH);
+    }
+    
+    private String versionQuery(String contentHash) {
+        return contentHash != null ? "v=" + versionOf(contentHash) : null;
     }
     
     // Mapping method
@@ -157,10 +570,68 @@ public class RoomImageController {
                 .filename(image.getFilename())
                 .contentType(image.getContentType())
                 .fileSize(image.getFileSize())
+                .originalFileSize(image.getOriginalFileSize())
                 .isMain(image.isMain())
                 .displayOrder(image.getDisplayOrder())
                 .createdAt(image.getCreatedAt())
-                .imageUrl("/api/v1/rooms/" + roomId + "/images/" + image.getId())
+                .imageUrl(imageUrl(roomId, image.getId(), versionQuery(image.getContentHash())))
+                .placeholder(image.getPlaceholder())
+                .variants(image.getVariants().stream()
+                        .map(variant -> toImageVariantResponse(variant, roomId))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+    
+    private ImageUploadSessionResponse toUploadSessionResponse(ImageUploadSession session) {
+        List<ByteRangeResponse> receivedRanges = new ArrayList<>();
+        List<Integer> missingChunks = new ArrayList<>();
+        int next = 0;
+        for (int index : session.getReceivedChunks()) {
+            for (; next < index; next++) {
+                missingChunks.add(next);
+            }
+            long start = session.chunkOffset(index);
+            long end = start + session.chunkLength(index) - 1;
+            ByteRangeResponse last = receivedRanges.isEmpty() ? null : receivedRanges.get(receivedRanges.size() - 1);
+            if (last != null && last.getEnd() + 1 == start) {
+                last.setEnd(end);
+            } else {
+                receivedRanges.add(ByteRangeResponse.builder().start(start).end(end).build());
+            }
+            next = index + 1;
+        }
+        for (; next < session.getChunkCount(); next++) {
+            missingChunks.add(next);
+        }
+        
+        return ImageUploadSessionResponse.builder()
+                .id(session.getId())
+                .roomId(session.getRoomId())
+                .filename(session.getFilename())
+                .fileSize(session.getTotalSize())
+                .chunkSize(session.getChunkSize())
+                .chunkCount(session.getChunkCount())
+                .status(session.getStatus())
+                .receivedRanges(receivedRanges)
+                .missingChunks(missingChunks)
+                .expiresAt(session.getExpiresAt())
+                .uploadUrl("/api/v1/rooms/" + session.getRoomId() + "/images/upload-sessions/" + session.getId())
                 .build();
     }
+    
+    private ImageVariantResponse toImageVariantResponse(ImageVariant variant, UUID roomId) {
+        return ImageVariantResponse.builder()
+                .width(variant.getWidth())
+                .height(variant.getHeight())
+                .contentType(variant.getContentType())
+                .fileSize(variant.getFileSize())
+                .url(imageUrl(roomId, variant.getImageId(),
+                        "w=" + variant.getWidth() + "&" + versionQuery(variant.getContentHash())))
+                .build();
+    }
+    
+    private String imageUrl(UUID roomId, UUID imageId, String query) {
+        String url = "/api/v1/rooms/" + roomId + "/images/" + imageId;
+        return query != null ? url + "?" + query : url;
+    }
 }
@@ -0,0 +1,107 @@
+package com.example.app.adapter.web.controller;
+
+import com.example.app.adapter.web.request.UpdateRoomRatesRequest;
+import com.example.app.adapter.web.response.DailyRateResponse;
+import com.example.app.adapter.web.response.StayQuoteResponse;
+import com.example.app.application.mapper.RoomRateMapper;
+import com.example.app.common.response.CommonResponse;
+import com.example.app.common.util.TraceIdGenerator;
+import com.example.app.domain.model.DailyRate;
+import com.example.app.domain.model.StayQuote;
+import com.example.app.domain.port.in.RoomRateUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * REST controller for the per-day room rate calendar and stay quotes.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/rooms/{roomId}")
+@RequiredArgsConstructor
+@Tag(name = "Room Rates", description = "APIs for per-day room rates and stay pricing")
+public class RoomRateController {
+    
+    private final RoomRateUseCase roomRateUseCase;
+    private final RoomRateMapper roomRateMapper;
+    
+    @GetMapping("/rates")
+    @Operation(summary = "Get daily rates", description = "Effective nightly rates for a date range (inclusive)")
+    public ResponseEntity<CommonResponse<List<DailyRateResponse>>> getDailyRates(
+            @PathVariable UUID roomId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] GET /api/v1/rooms/{}/rates - from: {}, to: {}", traceId, roomId, from, to);
+        
+        List<DailyRate> rates = roomRateUseCase.getDailyRates(roomId, from, to);
+        
+        CommonResponse<List<DailyRateResponse>> response = CommonResponse.success(
+                roomRateMapper.toResponses(rates),
+                "Room rates retrieved successfully",
+                HttpStatus.OK.value(),
+                traceId
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PutMapping("/rates")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Update daily rates",
+               description = "Set the nightly rate for a date range, or reset it to the base price (Admin only)")
+    public ResponseEntity<CommonResponse<Void>> updateRates(
+            @PathVariable UUID roomId,
+            @Valid @RequestBody UpdateRoomRatesRequest request) {
+        
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] PUT /api/v1/rooms/{}/rates - from: {}, to: {}, price: {}",
+                 traceId, roomId, request.getStartDate(), request.getEndDate(), request.getPrice());
+        
+        roomRateUseCase.setRates(roomId, request.getStartDate(), request.getEndDate(), request.getPrice());
+        
+        CommonResponse<Void> response = CommonResponse.success(
+                null,
+                "Room rates updated successfully",
+                HttpStatus.OK.value(),
+                traceId
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/quote")
+    @Operation(summary = "Quote a stay", description = "Total price of a stay computed from the rate calendar")
+    public ResponseEntity<CommonResponse<StayQuoteResponse>> quoteStay(
+            @PathVariable UUID roomId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkIn,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOut) {
+        
+        String traceId = TraceIdGenerator.generate();
+        log.info("[{}] GET /api/v1/rooms/{}/quote - checkIn: {}, checkOut: {}", traceId, roomId, checkIn, checkOut);
+        
+        StayQuote quote = roomRateUseCase.quoteStay(roomId, checkIn, checkOut);
+        
+        CommonResponse<StayQuoteResponse> response = CommonResponse.success(
+                roomRateMapper.toResponse(quote),
+                "Stay quoted successfully",
+                HttpStatus.OK.value(),
+                traceId
+        );
+        
+        return ResponseEntity.ok(response);
+    }
+}
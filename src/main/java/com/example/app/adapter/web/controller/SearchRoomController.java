@@ -77,6 +77,7 @@ public class SearchRoomController {
                                     // Construct image URL: /api/v1/rooms/{roomId}/images/{imageId}
                                     String imageUrl = "/api/v1/rooms/" + room.getId() + "/images/" + image.getId();
                                     response.setMainImage(imageUrl);
+                                    response.setMainImagePlaceholder(image.getPlaceholder());
                                 });
                         
                         return response;
@@ -103,7 +104,7 @@ public class SearchRoomController {
                             traceId
                     )
             );
-            
+        
         } catch (IllegalArgumentException e) {
             log.error("[{}] Invalid search criteria: {}", traceId, e.getMessage());
             return ResponseEntity.badRequest().body(
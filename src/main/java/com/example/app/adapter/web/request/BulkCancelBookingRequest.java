@@ -0,0 +1,28 @@
+package com.example.app.adapter.web.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for cancelling many bookings at once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCancelBookingRequest {
+    
+    @NotEmpty(message = "At least one booking ID is required")
+    private List<UUID> bookingIds;
+    
+    /**
+     * When true, nothing is written unless every cancellation is valid
+     */
+    private boolean atomic;
+}
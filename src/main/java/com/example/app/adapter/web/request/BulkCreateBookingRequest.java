@@ -0,0 +1,29 @@
+package com.example.app.adapter.web.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for creating many bookings at once.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateBookingRequest {
+    
+    @Valid
+    @NotEmpty(message = "At least one booking is required")
+    private List<CreateBookingRequest> bookings;
+    
+    /**
+     * When true, nothing is written unless every booking is valid
+     */
+    private boolean atomic;
+}
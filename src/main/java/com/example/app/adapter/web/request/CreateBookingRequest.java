@@ -0,0 +1,31 @@
+package com.example.app.adapter.web.request;
+
+import jakarta.validation.constraints.FutureOrPresent;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Request DTO for creating a booking.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateBookingRequest {
+    
+    @NotNull(message = "Room ID is required")
+    private UUID roomId;
+    
+    @NotNull(message = "Check-in date is required")
+    @FutureOrPresent(message = "Check-in date cannot be in the past")
+    private LocalDate checkInDate;
+    
+    @NotNull(message = "Check-out date is required")
+    private LocalDate checkOutDate;
+}
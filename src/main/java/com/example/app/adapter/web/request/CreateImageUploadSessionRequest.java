@@ -0,0 +1,36 @@
+package com.example.app.adapter.web.request;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request DTO for opening a resumable upload session for one room image.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateImageUploadSessionRequest {
+    
+    @Size(max = 255, message = "Filename must not exceed 255 characters")
+    private String filename;
+    
+    @Positive(message = "File size must be greater than 0")
+    private long fileSize;
+    
+    @NotBlank(message = "Content hash is required")
+    @Pattern(regexp = "[0-9a-fA-F]{64}", message = "Content hash must be a hex-encoded SHA-256 digest")
+    private String contentHash;
+    
+    private boolean isMain;
+    
+    @Min(value = 0, message = "Display order must not be negative")
+    private int displayOrder;
+}
@@ -30,6 +30,12 @@ public class RoomSearchRequest {
     @Min(value = 0, message = "maxPrice must be non-negative")
     private BigDecimal maxPrice;
     
+    @Min(value = 0, message = "minTotalPrice must be non-negative")
+    private BigDecimal minTotalPrice;
+    
+    @Min(value = 0, message = "maxTotalPrice must be non-negative")
+    private BigDecimal maxTotalPrice;
+    
     @Min(value = 1, message = "minGuests must be at least 1")
     private Integer minGuests;
     
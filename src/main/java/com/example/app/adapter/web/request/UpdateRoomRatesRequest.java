@@ -0,0 +1,30 @@
+package com.example.app.adapter.web.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Request DTO for setting the nightly rate of a room over a date range.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateRoomRatesRequest {
+    
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+    
+    @NotNull(message = "End date is required")
+    private LocalDate endDate; // Inclusive
+    
+    @DecimalMin(value = "0.01", message = "Price must be greater than 0")
+    private BigDecimal price; // null resets the range to the room's base price
+}
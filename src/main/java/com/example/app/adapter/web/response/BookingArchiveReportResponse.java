@@ -0,0 +1,30 @@
+package com.example.app.adapter.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Response DTO for the historical (archived) bookings report.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingArchiveReportResponse {
+    
+    private LocalDate from;
+    private LocalDate to;
+    private long totalBookings;
+    private long totalNights;
+    private BigDecimal totalRevenue; // Active bookings archived with their nightly price
+    private long distinctRooms;
+    private Map<String, Long> bookingsByStatus;
+    private int segmentsScanned;
+    private int segmentsSkipped;
+}
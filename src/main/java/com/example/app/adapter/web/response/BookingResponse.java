@@ -0,0 +1,31 @@
+package com.example.app.adapter.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for booking data.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingResponse {
+    
+    private UUID id;
+    private UUID roomId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private long nights;
+    private String status;
+    private BigDecimal pricePerNight;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
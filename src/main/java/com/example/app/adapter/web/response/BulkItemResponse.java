@@ -0,0 +1,24 @@
+package com.example.app.adapter.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Response DTO for the outcome of one bulk operation item.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResponse {
+    
+    private int index;
+    private UUID bookingId;
+    private UUID roomId;
+    private String status; // SUCCEEDED, FAILED, SKIPPED
+    private String message;
+}
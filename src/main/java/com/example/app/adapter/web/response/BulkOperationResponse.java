@@ -0,0 +1,25 @@
+package com.example.app.adapter.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for bulk booking operations, with per-item results in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResponse {
+    
+    private boolean atomic;
+    private boolean applied;
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResponse> items;
+}
@@ -0,0 +1,19 @@
+package com.example.app.adapter.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a contiguous byte range, both ends inclusive.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ByteRangeResponse {
+    
+    private long start;
+    private long end;
+}
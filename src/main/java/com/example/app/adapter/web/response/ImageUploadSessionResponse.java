@@ -0,0 +1,32 @@
+package com.example.app.adapter.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a resumable image upload session and the parts received so far.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadSessionResponse {
+    
+    private UUID id;
+    private UUID roomId;
+    private String filename;
+    private long fileSize;
+    private int chunkSize;
+    private int chunkCount;
+    private String status; // OPEN, COMPLETING
+    private List<ByteRangeResponse> receivedRanges; // Coalesced, ascending
+    private List<Integer> missingChunks;
+    private LocalDateTime expiresAt;
+    private String uploadUrl; // PUT chunk n to {uploadUrl}/chunks/n
+}
@@ -0,0 +1,22 @@
+package com.example.app.adapter.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a downscaled variant of a room image.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageVariantResponse {
+    
+    private int width;
+    private int height;
+    private String contentType;
+    private long fileSize;
+    private String url; // Image URL with the ?w= parameter selecting this variant
+}
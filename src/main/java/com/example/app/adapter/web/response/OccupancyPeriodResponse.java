@@ -0,0 +1,28 @@
+package com.example.app.adapter.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Response DTO for the KPIs of one occupancy report period.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyPeriodResponse {
+    
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private long roomNightsAvailable;
+    private long roomNightsSold;
+    private BigDecimal revenue;
+    private BigDecimal occupancyRate;
+    private BigDecimal averageDailyRate;
+    private BigDecimal revPar;
+}
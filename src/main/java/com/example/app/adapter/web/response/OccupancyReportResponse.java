@@ -0,0 +1,26 @@
+package com.example.app.adapter.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Response DTO for the occupancy, ADR and RevPAR report.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyReportResponse {
+    
+    private LocalDate from;
+    private LocalDate to;
+    private String granularity;
+    private long roomCount;
+    private List<OccupancyPeriodResponse> periods;
+    private OccupancyPeriodResponse total;
+}
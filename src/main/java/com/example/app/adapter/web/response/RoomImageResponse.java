@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -23,8 +24,11 @@ public class RoomImageResponse {
     private String filename;
     private String contentType;
     private Long fileSize;
+    private Long originalFileSize; // Size as uploaded, before ingest re-encoding
     private boolean isMain;
     private Integer displayOrder;
     private LocalDateTime createdAt;
     private String imageUrl; // URL to retrieve the actual image
+    private String placeholder; // BlurHash to paint until the image has loaded
+    private List<ImageVariantResponse> variants; // Smaller renditions, narrowest first
 }
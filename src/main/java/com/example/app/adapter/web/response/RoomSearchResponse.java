@@ -25,6 +25,7 @@ public class RoomSearchResponse {
     private String title;
     private String description;
     private BigDecimal pricePerNight;
+    private BigDecimal totalPrice; // Total for the requested stay, when checkIn/checkOut are given
     private Double rating;
     private Integer maxGuests;
     private BedType bedType;
@@ -32,5 +33,6 @@ public class RoomSearchResponse {
     private List<String> amenities;
     private RoomView view;
     private String mainImage; // Only one image for performance
+    private String mainImagePlaceholder; // BlurHash of the main image
     private List<String> badges;
 }
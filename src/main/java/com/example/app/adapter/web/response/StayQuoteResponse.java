@@ -0,0 +1,27 @@
+package com.example.app.adapter.web.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Response DTO for the price of a stay.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StayQuoteResponse {
+    
+    private UUID roomId;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private long nights;
+    private BigDecimal totalPrice;
+    private BigDecimal averageNightlyRate;
+}
@@ -0,0 +1,42 @@
+package com.example.app.application.mapper;
+
+import com.example.app.adapter.web.request.CreateBookingRequest;
+import com.example.app.adapter.web.response.BookingResponse;
+import com.example.app.adapter.web.response.BulkItemResponse;
+import com.example.app.adapter.web.response.BulkOperationResponse;
+import com.example.app.domain.model.Booking;
+import com.example.app.domain.model.BulkItemResult;
+import com.example.app.domain.model.BulkOperationResult;
+import com.example.app.infrastructure.persistence.entity.BookingEntity;
+import org.mapstruct.*;
+
+/**
+ * MapStruct mapper for Booking domain model and BookingEntity.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface BookingMapper {
+    
+    /**
+     * Convert BookingEntity to Booking domain model
+     */
+    Booking toDomain(BookingEntity entity);
+    
+    /**
+     * Convert Booking domain model to BookingEntity
+     */
+    BookingEntity toEntity(Booking domain);
+    
+    /**
+     * Convert Booking domain model to BookingResponse
+     */
+    BookingResponse toResponse(Booking domain);
+    
+    /**
+     * Convert CreateBookingRequest to an unsaved Booking draft
+     */
+    Booking toDomain(CreateBookingRequest request);
+    
+    BulkOperationResponse toResponse(BulkOperationResult result);
+    
+    BulkItemResponse toResponse(BulkItemResult item);
+}
@@ -0,0 +1,17 @@
+package com.example.app.application.mapper;
+
+import com.example.app.domain.model.ImageUploadSession;
+import com.example.app.infrastructure.persistence.entity.ImageUploadSessionEntity;
+import org.mapstruct.*;
+
+/**
+ * MapStruct mapper for ImageUploadSession domain model and ImageUploadSessionEntity.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ImageUploadSessionMapper {
+    
+    @Mapping(target = "receivedChunks", ignore = true)
+    ImageUploadSession toDomain(ImageUploadSessionEntity entity);
+    
+    ImageUploadSessionEntity toEntity(ImageUploadSession domain);
+}
@@ -0,0 +1,16 @@
+package com.example.app.application.mapper;
+
+import com.example.app.domain.model.ImageVariant;
+import com.example.app.infrastructure.persistence.entity.RoomImageVariantEntity;
+import org.mapstruct.*;
+
+/**
+ * MapStruct mapper for ImageVariant domain model and RoomImageVariantEntity.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ImageVariantMapper {
+    
+    ImageVariant toDomain(RoomImageVariantEntity entity);
+    
+    RoomImageVariantEntity toEntity(ImageVariant domain);
+}
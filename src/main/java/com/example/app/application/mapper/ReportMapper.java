@@ -0,0 +1,22 @@
+package com.example.app.application.mapper;
+
+import com.example.app.adapter.web.response.BookingArchiveReportResponse;
+import com.example.app.adapter.web.response.OccupancyPeriodResponse;
+import com.example.app.adapter.web.response.OccupancyReportResponse;
+import com.example.app.domain.model.BookingArchiveSummary;
+import com.example.app.domain.model.OccupancyPeriod;
+import com.example.app.domain.model.OccupancyReport;
+import org.mapstruct.*;
+
+/**
+ * MapStruct mapper for report domain models and their response DTOs.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface ReportMapper {
+    
+    BookingArchiveReportResponse toResponse(BookingArchiveSummary summary);
+    
+    OccupancyReportResponse toResponse(OccupancyReport report);
+    
+    OccupancyPeriodResponse toResponse(OccupancyPeriod period);
+}
@@ -2,6 +2,7 @@ package com.example.app.application.mapper;
 
 import com.example.app.domain.model.RoomImage;
 import com.example.app.infrastructure.persistence.entity.RoomImageEntity;
+import com.example.app.infrastructure.persistence.repository.RoomImageMetadataView;
 import org.mapstruct.*;
 
 /**
@@ -16,6 +17,11 @@ public interface RoomImageMapper {
     @Mapping(target = "roomId", source = "room.id")
     RoomImage toDomain(RoomImageEntity entity);
     
+    /**
+     * Convert a metadata projection to RoomImage domain model (without image data)
+     */
+    RoomImage toDomain(RoomImageMetadataView view);
+    
     /**
      * Convert RoomImage domain model to RoomImageEntity
      * Note: room relationship must be set separately
@@ -0,0 +1,22 @@
+package com.example.app.application.mapper;
+
+import com.example.app.adapter.web.response.DailyRateResponse;
+import com.example.app.adapter.web.response.StayQuoteResponse;
+import com.example.app.domain.model.DailyRate;
+import com.example.app.domain.model.StayQuote;
+import org.mapstruct.*;
+
+import java.util.List;
+
+/**
+ * MapStruct mapper for rate calendar domain models and their response DTOs.
+ */
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface RoomRateMapper {
+    
+    DailyRateResponse toResponse(DailyRate rate);
+    
+    List<DailyRateResponse> toResponses(List<DailyRate> rates);
+    
+    StayQuoteResponse toResponse(StayQuote quote);
+}
@@ -22,8 +22,9 @@ public interface RoomSearchMapper {
     
     /**
      * Convert Room domain model to RoomSearchResponse
-     * Note: mainImage will be set separately in the controller
+     * Note: mainImage and its placeholder will be set separately in the controller
      */
     @Mapping(target = "mainImage", ignore = true)
+    @Mapping(target = "mainImagePlaceholder", ignore = true)
     RoomSearchResponse toSearchResponse(Room room);
 }
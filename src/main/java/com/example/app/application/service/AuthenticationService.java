@@ -3,9 +3,12 @@ package com.example.app.application.service;
 import com.example.app.common.constants.Constants;
 import com.example.app.common.exception.DuplicateResourceException;
 import com.example.app.common.exception.InvalidTokenException;
+import com.example.app.domain.event.UserCreatedEvent;
 import com.example.app.domain.model.Role;
 import com.example.app.domain.model.User;
 import com.example.app.domain.port.in.AuthenticationUseCase;
+import com.example.app.domain.port.out.AccessTokenRevocationPort;
+import com.example.app.domain.port.out.DomainEventPublisherPort;
 import com.example.app.domain.port.out.RoleRepositoryPort;
 import com.example.app.domain.port.out.TokenRepositoryPort;
 import com.example.app.domain.port.out.UserRepositoryPort;
@@ -18,6 +21,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
@@ -35,6 +39,8 @@ public class AuthenticationService implements AuthenticationUseCase {
     private final RoleRepositoryPort roleRepositoryPort;
     private final TokenRepositoryPort tokenRepositoryPort;
     private final PasswordEncoder passwordEncoder;
+    private final DomainEventPublisherPort domainEventPublisherPort;
+    private final AccessTokenRevocationPort accessTokenRevocationPort;
     
     @Override
     @Transactional
@@ -77,6 +83,7 @@ public class AuthenticationService implements AuthenticationUseCase {
                 .build();
         
         User savedUser = userRepositoryPort.save(user);
+        publishUserCreated(savedUser);
         log.info("User registered successfully: {}", username);
         
         return savedUser;
@@ -151,7 +158,9 @@ public class AuthenticationService implements AuthenticationUseCase {
                                         .deleted(false)
                                         .build();
                                 
-                                return userRepositoryPort.save(newUser);
+                                User createdUser = userRepositoryPort.save(newUser);
+                                publishUserCreated(createdUser);
+                                return createdUser;
                             });
                 });
         
@@ -184,4 +193,18 @@ public class AuthenticationService implements AuthenticationUseCase {
         log.debug("Invalidating refresh token");
         tokenRepositoryPort.deleteRefreshToken(refreshToken);
     }
+    
+    @Override
+    public void revokeAccessToken(String tokenId, Instant expiresAt) {
+        log.debug("Revoking access token {}", tokenId);
+        accessTokenRevocationPort.revokeToken(tokenId, expiresAt);
+    }
+    
+    /**
+     * Record a user creation in the outbox within the current transaction
+     */
+    private void publishUserCreated(User user) {
+        domainEventPublisherPort.publish(Constants.AGGREGATE_USER, user.getId(), Constants.EVENT_USER_CREATED,
+                new UserCreatedEvent(user.getId(), user.getUsername(), user.getEmail().getValue(), user.getProvider()));
+    }
 }
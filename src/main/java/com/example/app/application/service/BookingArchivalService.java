@@ -0,0 +1,110 @@
+package com.example.app.application.service;
+
+import com.example.app.domain.model.Booking;
+import com.example.app.domain.port.out.BookingArchivePort;
+import com.example.app.domain.port.out.BookingRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Moves bookings that checked out more than the retention period ago into cold archive segments.
+ * Rows are streamed in check-in order with keyset pagination, written as a durable segment,
+ * and only then deleted from the database in small batches.
+ */
+@Slf4j
+@Service
+public class BookingArchivalService {
+    
+    private final BookingRepositoryPort bookingRepositoryPort;
+    private final BookingArchivePort bookingArchivePort;
+    private final boolean enabled;
+    private final int retentionYears;
+    private final int pageSize;
+    private final int segmentRows;
+    private final int deleteBatchSize;
+    
+    public BookingArchivalService(
+            BookingRepositoryPort bookingRepositoryPort,
+            BookingArchivePort bookingArchivePort,
+            @Value("${app.archive.bookings.enabled:true}") boolean enabled,
+            @Value("${app.archive.bookings.retention-years:2}") int retentionYears,
+            @Value("${app.archive.bookings.page-size:1000}") int pageSize,
+            @Value("${app.archive.bookings.segment-rows:50000}") int segmentRows,
+            @Value("${app.archive.bookings.delete-batch-size:500}") int deleteBatchSize) {
+        this.bookingRepositoryPort = bookingRepositoryPort;
+        this.bookingArchivePort = bookingArchivePort;
+        this.enabled = enabled;
+        this.retentionYears = retentionYears;
+        this.pageSize = pageSize;
+        this.segmentRows = segmentRows;
+        this.deleteBatchSize = deleteBatchSize;
+    }
+    
+    @Scheduled(cron = "${app.archive.bookings.cron:0 0 4 * * *}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archiveExpiredBookings();
+        }
+    }
+    
+    /**
+     * Archive every booking checked out before the retention cutoff
+     * @return Number of archived bookings
+     */
+    public long archiveExpiredBookings() {
+        LocalDate cutoff = LocalDate.now().minusYears(retentionYears);
+        log.info("Archiving bookings checked out before {}", cutoff);
+        
+        List<Booking> segment = new ArrayList<>(Math.min(segmentRows, 10_000));
+        LocalDate afterCheckIn = null;
+        UUID afterId = null;
+        long archived = 0;
+        
+        while (true) {
+            List<Booking> page = bookingRepositoryPort.findCheckedOutBefore(cutoff, afterCheckIn, afterId, pageSize);
+            if (!page.isEmpty()) {
+                Booking last = page.get(page.size() - 1);
+                afterCheckIn = last.getCheckInDate();
+                afterId = last.getId();
+                segment.addAll(page);
+            }
+            
+            boolean exhausted = page.size() < pageSize;
+            if (segment.size() >= segmentRows || (exhausted && !segment.isEmpty())) {
+                archived += flushSegment(segment);
+                segment.clear();
+            }
+            if (exhausted) {
+                break;
+            }
+        }
+        
+        log.info("Archived {} bookings checked out before {}", archived, cutoff);
+        return archived;
+    }
+    
+    /**
+     * Write the segment durably, then delete its rows. A failure between the two steps
+     * leaves the rows in place; the next run finds them in the segment already written,
+     * skips them when writing, and only deletes them.
+     */
+    private int flushSegment(List<Booking> segment) {
+        bookingArchivePort.writeSegment(segment);
+        
+        List<UUID> ids = segment.stream().map(Booking::getId).collect(Collectors.toList());
+        int deleted = 0;
+        for (int start = 0; start < ids.size(); start += deleteBatchSize) {
+            deleted += bookingRepositoryPort.deleteAllByIds(
+                    ids.subList(start, Math.min(start + deleteBatchSize, ids.size())));
+        }
+        return deleted;
+    }
+}
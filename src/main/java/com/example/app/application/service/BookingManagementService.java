@@ -0,0 +1,384 @@
+package com.example.app.application.service;
+
+import com.example.app.common.constants.Constants;
+import com.example.app.common.exception.BookingConflictException;
+import com.example.app.common.exception.ResourceNotFoundException;
+import com.example.app.domain.event.BookingChangedEvent;
+import com.example.app.domain.model.Booking;
+import com.example.app.domain.model.BulkItemResult;
+import com.example.app.domain.model.BulkOperationResult;
+import com.example.app.domain.model.Room;
+import com.example.app.domain.port.in.BookingManagementUseCase;
+import com.example.app.domain.port.in.RoomRateUseCase;
+import com.example.app.domain.port.out.BookingRepositoryPort;
+import com.example.app.domain.port.out.DomainEventPublisherPort;
+import com.example.app.domain.port.out.RoomRepositoryPort;
+import com.example.app.domain.port.out.RoomStatsRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementing BookingManagementUseCase.
+ * Every booking change updates the daily rollups and records an outbox event in the same transaction.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingManagementService implements BookingManagementUseCase {
+    
+    private final BookingRepositoryPort bookingRepositoryPort;
+    private final RoomRepositoryPort roomRepositoryPort;
+    private final RoomStatsRepositoryPort roomStatsRepositoryPort;
+    private final DomainEventPublisherPort domainEventPublisherPort;
+    private final RoomRateUseCase roomRateUseCase;
+    
+    @Value("${app.bookings.bulk.max-items:5000}")
+    private int maxBulkItems;
+    
+    @Override
+    @Transactional
+    public Booking createBooking(UUID roomId, LocalDate checkIn, LocalDate checkOut) {
+        log.info("Creating booking for room {} from {} to {}", roomId, checkIn, checkOut);
+        
+        validateStay(checkIn, checkOut);
+        
+        // Lock the room so concurrent bookings of the same room are serialized
+        Room room = roomRepositoryPort.findByIdForUpdate(roomId)
+                .orElseThrow(() -> new ResourceNotFoundException("Room", "id", roomId));
+        
+        if (bookingRepositoryPort.existsOverlapping(roomId, checkIn, checkOut)) {
+            throw new BookingConflictException(roomId, checkIn, checkOut);
+        }
+        
+        Booking booking = Booking.builder()
+                .roomId(roomId)
+                .checkInDate(checkIn)
+                .checkOutDate(checkOut)
+                .status(Constants.BOOKING_STATUS_CONFIRMED)
+                .pricePerNight(averageNightlyRate(room, checkIn, checkOut))
+                .build();
+        
+        Booking savedBooking = bookingRepositoryPort.save(booking);
+        roomStatsRepositoryPort.addBooking(savedBooking);
+        publishBookingChanged(savedBooking, Constants.EVENT_BOOKING_CREATED);
+        
+        log.info("Booking created successfully with ID: {}", savedBooking.getId());
+        return savedBooking;
+    }
+    
+    @Override
+    @Transactional
+    public Booking cancelBooking(UUID bookingId) {
+        log.info("Cancelling booking: {}", bookingId);
+        
+        Booking booking = bookingRepositoryPort.findByIdForUpdate(bookingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking", "id", bookingId));
+        
+        if (!booking.isActive()) {
+            log.info("Booking already cancelled: {}", bookingId);
+            return booking;
+        }
+        
+        booking.setStatus(Constants.BOOKING_STATUS_CANCELLED);
+        Booking cancelledBooking = bookingRepositoryPort.save(booking);
+        roomStatsRepositoryPort.removeBooking(cancelledBooking);
+        publishBookingChanged(cancelledBooking, Constants.EVENT_BOOKING_CANCELLED);
+        
+        log.info("Booking cancelled successfully: {}", bookingId);
+        return cancelledBooking;
+    }
+    
+    @Override
+    @Transactional
+    public BulkOperationResult createBookings(List<Booking> requests, boolean atomic) {
+        log.info("Bulk creating {} bookings (atomic: {})", requests.size(), atomic);
+        validateBulkSize(requests.size());
+        
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+        List<Integer> candidates = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Booking request = requests.get(i);
+            try {
+                validateStay(request.getCheckInDate(), request.getCheckOutDate());
+                if (request.getRoomId() == null) {
+                    throw new IllegalArgumentException("Room ID is required");
+                }
+                candidates.add(i);
+            } catch (IllegalArgumentException e) {
+                results[i] = failed(i, null, request.getRoomId(), e.getMessage());
+            }
+        }
+        
+        // One locking read for the rooms and one prefetch of every booking that could conflict
+        Set<UUID> roomIds = candidates.stream().map(i -> requests.get(i).getRoomId()).collect(Collectors.toSet());
+        Map<UUID, Room> rooms = roomIds.isEmpty() ? Map.of() : roomRepositoryPort.findAllByIdsForUpdate(roomIds)
+                .stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+        Map<UUID, TreeMap<LocalDate, LocalDate>> occupied = prefetchOccupied(requests, candidates, rooms.keySet());
+        
+        List<Booking> accepted = new ArrayList<>(candidates.size());
+        List<Integer> acceptedIndexes = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            Booking request = requests.get(i);
+            Room room = rooms.get(request.getRoomId());
+            if (room == null) {
+                results[i] = failed(i, null, request.getRoomId(), "Room not found with ID: " + request.getRoomId());
+                continue;
+            }
+            
+            TreeMap<LocalDate, LocalDate> roomNights = occupied.computeIfAbsent(room.getId(), id -> new TreeMap<>());
+            if (overlaps(roomNights, request.getCheckInDate(), request.getCheckOutDate())) {
+                results[i] = failed(i, null, room.getId(), new BookingConflictException(
+                        room.getId(), request.getCheckInDate(), request.getCheckOutDate()).getMessage());
+                continue;
+            }
+            
+            // Later items of the same batch must see this stay as taken
+            roomNights.put(request.getCheckInDate(), request.getCheckOutDate());
+            accepted.add(Booking.builder()
+                    .roomId(room.getId())
+                    .checkInDate(request.getCheckInDate())
+                    .checkOutDate(request.getCheckOutDate())
+                    .status(Constants.BOOKING_STATUS_CONFIRMED)
+                    .pricePerNight(averageNightlyRate(room, request.getCheckInDate(), request.getCheckOutDate()))
+                    .build());
+            acceptedIndexes.add(i);
+        }
+        
+        if (atomic && accepted.size() < requests.size()) {
+            return rejectAtomicBatch(results, acceptedIndexes, accepted);
+        }
+        
+        List<Booking> savedBookings = bookingRepositoryPort.saveAll(accepted);
+        if (!savedBookings.isEmpty()) {
+            roomStatsRepositoryPort.addBookings(savedBookings.stream().map(Booking::getId).collect(Collectors.toList()));
+        }
+        for (int k = 0; k < savedBookings.size(); k++) {
+            Booking saved = savedBookings.get(k);
+            publishBookingChanged(saved, Constants.EVENT_BOOKING_CREATED);
+            int index = acceptedIndexes.get(k);
+            results[index] = succeeded(index, saved.getId(), saved.getRoomId(), "Booking created");
+        }
+        
+        log.info("Bulk create finished: {} created, {} failed", savedBookings.size(), requests.size() - savedBookings.size());
+        return buildResult(results, atomic, true);
+    }
+    
+    @Override
+    @Transactional
+    public BulkOperationResult cancelBookings(List<UUID> bookingIds, boolean atomic) {
+        log.info("Bulk cancelling {} bookings (atomic: {})", bookingIds.size(), atomic);
+        validateBulkSize(bookingIds.size());
+        
+        Set<UUID> distinctIds = bookingIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<UUID, Booking> bookings = distinctIds.isEmpty() ? Map.of() : bookingRepositoryPort.findAllByIdsForUpdate(distinctIds)
+                .stream()
+                .collect(Collectors.toMap(Booking::getId, Function.identity()));
+        
+        BulkItemResult[] results = new BulkItemResult[bookingIds.size()];
+        List<Booking> toCancel = new ArrayList<>();
+        List<Integer> cancelIndexes = new ArrayList<>();
+        Set<UUID> seen = new HashSet<>();
+        int failures = 0;
+        for (int i = 0; i < bookingIds.size(); i++) {
+            UUID bookingId = bookingIds.get(i);
+            Booking booking = bookingId != null ? bookings.get(bookingId) : null;
+            if (booking == null) {
+                results[i] = failed(i, bookingId, null, "Booking not found with ID: " + bookingId);
+                failures++;
+            } else if (!seen.add(bookingId)) {
+                results[i] = failed(i, bookingId, booking.getRoomId(), "Duplicate booking ID in request");
+                failures++;
+            } else if (!booking.isActive()) {
+                results[i] = succeeded(i, bookingId, booking.getRoomId(), "Booking already cancelled");
+            } else {
+                toCancel.add(booking);
+                cancelIndexes.add(i);
+            }
+        }
+        
+        if (atomic && failures > 0) {
+            return rejectAtomicBatch(results, cancelIndexes, toCancel);
+        }
+        
+        List<UUID> cancelIds = toCancel.stream().map(Booking::getId).collect(Collectors.toList());
+        if (!cancelIds.isEmpty()) {
+            // One set-based UPDATE instead of a dirty-checked entity per booking
+            bookingRepositoryPort.markCancelled(cancelIds);
+            roomStatsRepositoryPort.removeBookings(cancelIds);
+        }
+        for (int k = 0; k < toCancel.size(); k++) {
+            Booking booking = toCancel.get(k);
+            booking.setStatus(Constants.BOOKING_STATUS_CANCELLED);
+            publishBookingChanged(booking, Constants.EVENT_BOOKING_CANCELLED);
+            int index = cancelIndexes.get(k);
+            results[index] = succeeded(index, booking.getId(), booking.getRoomId(), "Booking cancelled");
+        }
+        
+        log.info("Bulk cancel finished: {} cancelled, {} failed", toCancel.size(), failures);
+        return buildResult(results, atomic, true);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Booking getBookingById(UUID bookingId) {
+        log.info("Fetching booking: {}", bookingId);
+        
+        return bookingRepositoryPort.findById(bookingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking", "id", bookingId));
+    }
+    
+    /**
+     * Business validation for stay dates
+     */
+    private void validateStay(LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null) {
+            throw new IllegalArgumentException("Check-in and check-out dates are required");
+        }
+        
+        if (!checkIn.isBefore(checkOut)) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+        
+        if (checkIn.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("Check-in date cannot be in the past");
+        }
+    }
+    
+    /**
+     * Nightly rate recorded on the booking: the calendar total of the stay spread evenly over its nights
+     */
+    private BigDecimal averageNightlyRate(Room room, LocalDate checkIn, LocalDate checkOut) {
+        BigDecimal total = roomRateUseCase.calculateStayPrice(room, checkIn, checkOut);
+        return total.divide(BigDecimal.valueOf(ChronoUnit.DAYS.between(checkIn, checkOut)), 2, RoundingMode.HALF_UP);
+    }
+    
+    private void validateBulkSize(int size) {
+        if (size == 0) {
+            throw new IllegalArgumentException("At least one booking operation is required");
+        }
+        if (size > maxBulkItems) {
+            throw new IllegalArgumentException("A bulk request may contain at most " + maxBulkItems + " items");
+        }
+    }
+    
+    /**
+     * Load active bookings overlapping the envelope of all candidate stays, keyed by room and check-in
+     */
+    private Map<UUID, TreeMap<LocalDate, LocalDate>> prefetchOccupied(List<Booking> requests, List<Integer> candidates,
+                                                                     Set<UUID> roomIds) {
+        Map<UUID, TreeMap<LocalDate, LocalDate>> occupied = new HashMap<>();
+        if (roomIds.isEmpty()) {
+            return occupied;
+        }
+        
+        LocalDate from = null;
+        LocalDate to = null;
+        for (int i : candidates) {
+            Booking request = requests.get(i);
+            from = from == null || request.getCheckInDate().isBefore(from) ? request.getCheckInDate() : from;
+            to = to == null || request.getCheckOutDate().isAfter(to) ? request.getCheckOutDate() : to;
+        }
+        
+        for (Booking existing : bookingRepositoryPort.findActiveOverlapping(roomIds, from, to)) {
+            occupied.computeIfAbsent(existing.getRoomId(), id -> new TreeMap<>())
+                    .merge(existing.getCheckInDate(), existing.getCheckOutDate(),
+                            (a, b) -> a.isAfter(b) ? a : b);
+        }
+        return occupied;
+    }
+    
+    /**
+     * Check every stay starting before checkOut; stored stays may themselves overlap (rows written
+     * before the exclusion constraint), so a short later stay can hide a longer earlier one
+     */
+    private boolean overlaps(TreeMap<LocalDate, LocalDate> roomNights, LocalDate checkIn, LocalDate checkOut) {
+        for (LocalDate stayCheckOut : roomNights.headMap(checkOut, false).values()) {
+            if (stayCheckOut.isAfter(checkIn)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private BulkOperationResult rejectAtomicBatch(BulkItemResult[] results, List<Integer> validIndexes,
+                                                  List<Booking> validBookings) {
+        for (int k = 0; k < validIndexes.size(); k++) {
+            int index = validIndexes.get(k);
+            Booking booking = validBookings.get(k);
+            results[index] = BulkItemResult.builder()
+                    .index(index)
+                    .bookingId(booking.getId())
+                    .roomId(booking.getRoomId())
+                    .status(BulkItemResult.STATUS_SKIPPED)
+                    .message("Not applied: atomic batch contains failed items")
+                    .build();
+        }
+        log.info("Atomic bulk booking operation rejected: {} of {} items failed",
+                 results.length - validIndexes.size(), results.length);
+        return buildResult(results, true, false);
+    }
+    
+    private BulkOperationResult buildResult(BulkItemResult[] results, boolean atomic, boolean applied) {
+        List<BulkItemResult> items = Arrays.asList(results);
+        int succeeded = (int) items.stream().filter(BulkItemResult::isSucceeded).count();
+        int failed = (int) items.stream().filter(item -> BulkItemResult.STATUS_FAILED.equals(item.getStatus())).count();
+        return BulkOperationResult.builder()
+                .atomic(atomic)
+                .applied(applied)
+                .total(items.size())
+                .succeeded(applied ? succeeded : 0)
+                .failed(failed)
+                .items(items)
+                .build();
+    }
+    
+    private BulkItemResult succeeded(int index, UUID bookingId, UUID roomId, String message) {
+        return BulkItemResult.builder()
+                .index(index)
+                .bookingId(bookingId)
+                .roomId(roomId)
+                .status(BulkItemResult.STATUS_SUCCEEDED)
+                .message(message)
+                .build();
+    }
+    
+    private BulkItemResult failed(int index, UUID bookingId, UUID roomId, String message) {
+        return BulkItemResult.builder()
+                .index(index)
+                .bookingId(bookingId)
+                .roomId(roomId)
+                .status(BulkItemResult.STATUS_FAILED)
+                .message(message)
+                .build();
+    }
+    
+    /**
+     * Record a booking change in the outbox within the current transaction
+     */
+    private void publishBookingChanged(Booking booking, String eventType) {
+        domainEventPublisherPort.publish(Constants.AGGREGATE_BOOKING, booking.getId(), eventType,
+                new BookingChangedEvent(booking.getId(), booking.getRoomId(), booking.getCheckInDate(),
+                        booking.getCheckOutDate(), booking.getStatus(), booking.getPricePerNight()));
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.app.application.service;
+
+import com.example.app.domain.model.BookingArchiveSummary;
+import com.example.app.domain.model.DailyStats;
+import com.example.app.domain.model.OccupancyPeriod;
+import com.example.app.domain.model.OccupancyReport;
+import com.example.app.domain.port.in.BookingReportUseCase;
+import com.example.app.domain.port.out.BookingArchivePort;
+import com.example.app.domain.port.out.BookingRepositoryPort;
+import com.example.app.domain.port.out.RoomRepositoryPort;
+import com.example.app.domain.port.out.RoomStatsRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Service implementing BookingReportUseCase.
+ * Occupancy figures are read from the daily rollups and historical figures from archive segments;
+ * neither report scans the live bookings table.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingReportService implements BookingReportUseCase {
+    
+    private static final String GRANULARITY_DAY = "DAY";
+    private static final String GRANULARITY_MONTH = "MONTH";
+    private static final int MAX_REPORT_DAYS = 3 * 366;
+    
+    private final BookingArchivePort bookingArchivePort;
+    private final BookingRepositoryPort bookingRepositoryPort;
+    private final RoomRepositoryPort roomRepositoryPort;
+    private final RoomStatsRepositoryPort roomStatsRepositoryPort;
+    
+    @Value("${app.reports.rollup-rebuild.parallelism:4}")
+    private int rebuildParallelism;
+    
+    @Value("${app.reports.rollup-rebuild.rooms-per-chunk:50}")
+    private int rebuildRoomsPerChunk;
+    
+    @Override
+    public BookingArchiveSummary summarizeArchivedBookings(LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Report range requires from <= to");
+        }
+        log.info("Summarizing archived bookings from {} to {}", from, to);
+        
+        TreeMap<String, Long> byStatus = new TreeMap<>();
+        Set<UUID> rooms = new HashSet<>();
+        long[] totals = new long[2];
+        BigDecimal[] revenue = {BigDecimal.ZERO};
+        
+        int scanned = bookingArchivePort.scan(from, to, booking -> {
+            totals[0]++;
+            totals[1] += booking.getNights();
+            if (booking.isActive() && booking.getPricePerNight() != null) {
+                revenue[0] = revenue[0].add(booking.getPricePerNight().multiply(BigDecimal.valueOf(booking.getNights())));
+            }
+            rooms.add(booking.getRoomId());
+            byStatus.merge(booking.getStatus(), 1L, Long::sum);
+        });
+        
+        return BookingArchiveSummary.builder()
+                .from(from)
+                .to(to)
+                .totalBookings(totals[0])
+                .totalNights(totals[1])
+                .totalRevenue(revenue[0])
+                .distinctRooms(rooms.size())
+                .bookingsByStatus(byStatus)
+                .segmentsScanned(scanned)
+                .segmentsSkipped(bookingArchivePort.countSegments() - scanned)
+                .build();
+    }
+    
+    @Override
+    public OccupancyReport getOccupancyReport(LocalDate from, LocalDate to, String granularity) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Report range requires from <= to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_REPORT_DAYS) {
+            throw new IllegalArgumentException("Report range must not exceed " + MAX_REPORT_DAYS + " days");
+        }
+        String resolvedGranularity = granularity == null ? GRANULARITY_DAY : granularity.toUpperCase();
+        if (!GRANULARITY_DAY.equals(resolvedGranularity) && !GRANULARITY_MONTH.equals(resolvedGranularity)) {
+            throw new IllegalArgumentException("Granularity must be DAY or MONTH");
+        }
+        log.info("Building occupancy report from {} to {} by {}", from, to, resolvedGranularity);
+        
+        // Inventory is the current number of sellable rooms
+        long roomCount = roomRepositoryPort.countActive();
+        Map<LocalDate, DailyStats> dailyTotals = new HashMap<>();
+        roomStatsRepositoryPort.findDailyTotals(from, to)
+                .forEach(stats -> dailyTotals.put(stats.getDate(), stats));
+        
+        List<OccupancyPeriod> periods = new ArrayList<>();
+        LocalDate periodStart = from;
+        while (!periodStart.isAfter(to)) {
+            LocalDate periodEnd = GRANULARITY_DAY.equals(resolvedGranularity)
+                    ? periodStart
+                    : min(periodStart.with(TemporalAdjusters.lastDayOfMonth()), to);
+            periods.add(buildPeriod(periodStart, periodEnd, roomCount, dailyTotals));
+            periodStart = periodEnd.plusDays(1);
+        }
+        
+        return OccupancyReport.builder()
+                .from(from)
+                .to(to)
+                .granularity(resolvedGranularity)
+                .roomCount(roomCount)
+                .periods(periods)
+                .total(buildPeriod(from, to, roomCount, dailyTotals))
+                .build();
+    }
+    
+    /**
+     * Rebuild the rollups in parallel. Rooms are split into chunks and each chunk is
+     * recomputed in its own transaction, so readers never see a half-built room.
+     * Intended as a one-time backfill or a repair after manual data fixes.
+     */
+    @Override
+    public int rebuildDailyRoomStats() {
+        List<UUID> roomIds = bookingRepositoryPort.findDistinctRoomIds();
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+        log.info("Rebuilding daily room stats for {} rooms", roomIds.size());
+        
+        List<List<UUID>> chunks = new ArrayList<>();
+        for (int start = 0; start < roomIds.size(); start += rebuildRoomsPerChunk) {
+            chunks.add(roomIds.subList(start, Math.min(start + rebuildRoomsPerChunk, roomIds.size())));
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(rebuildParallelism, chunks.size()));
+        try {
+            List<Future<Integer>> futures = new ArrayList<>(chunks.size());
+            for (List<UUID> chunk : chunks) {
+                futures.add(executor.submit(() -> roomStatsRepositoryPort.rebuildForRooms(chunk)));
+            }
+            
+            int rows = 0;
+            for (Future<Integer> future : futures) {
+                rows += future.get();
+            }
+            log.info("Rebuilt {} daily room stats rows for {} rooms", rows, roomIds.size());
+            return rows;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Daily room stats rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Daily room stats rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private OccupancyPeriod buildPeriod(LocalDate start, LocalDate end, long roomCount,
+                                        Map<LocalDate, DailyStats> dailyTotals) {
+        long sold = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            DailyStats stats = dailyTotals.get(date);
+            if (stats != null) {
+                sold += stats.getNightsSold();
+                revenue = revenue.add(stats.getRevenue());
+            }
+        }
+        
+        long available = roomCount * (ChronoUnit.DAYS.between(start, end) + 1);
+        return OccupancyPeriod.builder()
+                .periodStart(start)
+                .periodEnd(end)
+                .roomNightsAvailable(available)
+                .roomNightsSold(sold)
+                .revenue(revenue)
+                .occupancyRate(ratio(BigDecimal.valueOf(sold * 100), available))
+                .averageDailyRate(ratio(revenue, sold))
+                .revPar(ratio(revenue, available))
+                .build();
+    }
+    
+    private BigDecimal ratio(BigDecimal numerator, long denominator) {
+        if (denominator == 0) {
+            return BigDecimal.ZERO;
+        }
+        return numerator.divide(BigDecimal.valueOf(denominator), 2, RoundingMode.HALF_UP);
+    }
+    
+    private LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
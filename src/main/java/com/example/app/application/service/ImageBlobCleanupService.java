@@ -0,0 +1,77 @@
+package com.example.app.application.service;
+
+import com.example.app.domain.port.out.ImageBlobRepositoryPort;
+import com.example.app.domain.port.out.ImageStoragePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * Deletes stored image objects once no room image or variant references them anymore.
+ * A blob must have been unreferenced for the grace period, and its object unused for as long,
+ * so uploads that are about to reference the same content again are never cut short.
+ */
+@Slf4j
+@Service
+public class ImageBlobCleanupService {
+    
+    private final ImageBlobRepositoryPort imageBlobRepositoryPort;
+    private final ImageStoragePort imageStoragePort;
+    private final boolean enabled;
+    private final int graceMinutes;
+    private final int batchSize;
+    
+    public ImageBlobCleanupService(
+            ImageBlobRepositoryPort imageBlobRepositoryPort,
+            ImageStoragePort imageStoragePort,
+            @Value("${app.storage.images.cleanup.enabled:true}") boolean enabled,
+            @Value("${app.storage.images.cleanup.grace-minutes:60}") int graceMinutes,
+            @Value("${app.storage.images.cleanup.batch-size:200}") int batchSize) {
+        this.imageBlobRepositoryPort = imageBlobRepositoryPort;
+        this.imageStoragePort = imageStoragePort;
+        this.enabled = enabled;
+        this.graceMinutes = graceMinutes;
+        this.batchSize = batchSize;
+    }
+    
+    @Scheduled(cron = "${app.storage.images.cleanup.cron:0 45 * * * *}")
+    public void scheduledCleanup() {
+        if (enabled) {
+            deleteUnreferencedBlobs();
+        }
+    }
+    
+    /**
+     * Delete every blob that has been unreferenced for longer than the grace period
+     * @return Number of deleted objects
+     */
+    public int deleteUnreferencedBlobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(graceMinutes);
+        Instant unusedSince = cutoff.atZone(ZoneId.systemDefault()).toInstant();
+        int deleted = 0;
+        
+        while (true) {
+            List<String> hashes = imageBlobRepositoryPort.findUnreferencedBlobs(cutoff, batchSize);
+            for (String contentHash : hashes) {
+                if (imageBlobRepositoryPort.deleteUnreferencedBlob(contentHash)
+                        && imageStoragePort.deleteIfUnusedSince(contentHash, unusedSince)) {
+                    deleted++;
+                }
+            }
+            if (hashes.size() < batchSize) {
+                break;
+            }
+        }
+        
+        if (deleted > 0) {
+            log.info("Deleted {} unreferenced image blobs", deleted);
+        }
+        return deleted;
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.app.application.service;
+
+import com.example.app.domain.model.RoomImage;
+import com.example.app.domain.port.out.ImageVariantGeneratorPort;
+import com.example.app.domain.port.out.RoomImageRepositoryPort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates BlurHash placeholders for images uploaded before placeholders existed.
+ * Images are paged with a keyset and each page is decoded on a fixed number of threads. Decoding subsamples
+ * straight down to thumbnail size, so memory stays bounded by the thread count rather than the image sizes,
+ * and a page is finished before the next one is read.
+ */
+@Slf4j
+@Service
+public class ImagePlaceholderBackfillService {
+    
+    private final RoomImageRepositoryPort roomImageRepositoryPort;
+    private final ImageVariantGeneratorPort imageVariantGeneratorPort;
+    private final boolean enabled;
+    private final int batchSize;
+    private final ExecutorService executor;
+    
+    public ImagePlaceholderBackfillService(
+            RoomImageRepositoryPort roomImageRepositoryPort,
+            ImageVariantGeneratorPort imageVariantGeneratorPort,
+            @Value("${app.storage.images.placeholders.backfill.enabled:true}") boolean enabled,
+            @Value("${app.storage.images.placeholders.backfill.batch-size:100}") int batchSize,
+            @Value("${app.storage.images.placeholders.backfill.threads:2}") int threads) {
+        this.roomImageRepositoryPort = roomImageRepositoryPort;
+        this.imageVariantGeneratorPort = imageVariantGeneratorPort;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "image-placeholders-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @Scheduled(cron = "${app.storage.images.placeholders.backfill.cron:0 5 * * * *}")
+    public void scheduledBackfill() {
+        if (enabled) {
+            backfillPlaceholders();
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    /**
+     * Generate a placeholder for every stored image that lacks one
+     * @return Number of images that got a placeholder
+     */
+    public long backfillPlaceholders() {
+        UUID afterId = null;
+        long generated = 0;
+        int failed = 0;
+        
+        while (true) {
+            List<RoomImage> images = roomImageRepositoryPort.findImagesWithoutPlaceholder(afterId, batchSize);
+            
+            List<Callable<Boolean>> tasks = new ArrayList<>(images.size());
+            for (RoomImage image : images) {
+                tasks.add(() -> generatePlaceholder(image));
+            }
+            
+            List<Future<Boolean>> results;
+            try {
+                results = executor.invokeAll(tasks);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Placeholder backfill interrupted after {} images", generated);
+                return generated;
+            }
+            
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    if (results.get(i).get()) {
+                        generated++;
+                    }
+                } catch (ExecutionException e) {
+                    // Left without a placeholder; retried on the next run
+                    failed++;
+                    log.error("Failed to generate placeholder for room image {}: {}",
+                            images.get(i).getId(), e.getCause().getMessage(), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return generated;
+                }
+            }
+            
+            if (images.size() < batchSize) {
+                break;
+            }
+            afterId = images.get(images.size() - 1).getId();
+        }
+        
+        if (generated > 0 || failed > 0) {
+            log.info("Generated placeholders for {} room images, {} failed", generated, failed);
+        }
+        return generated;
+    }
+    
+    private boolean generatePlaceholder(RoomImage image) {
+        String placeholder = imageVariantGeneratorPort.generatePlaceholder(image);
+        if (placeholder == null) {
+            return false;
+        }
+        roomImageRepositoryPort.updatePlaceholder(image.getId(), placeholder);
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.app.application.service;
+
+import com.example.app.domain.model.StoredImage;
+import com.example.app.domain.port.out.ImageStoragePort;
+import com.example.app.domain.port.out.RoomImageRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Moves image bytes still held in room_images.image_data into image storage.
+ * IDs are paged with a keyset and images are copied one at a time, so at most one image is on the heap.
+ * Each image is written durably before its row is switched over, so an interrupted run loses nothing
+ * and simply resumes with the remaining inline rows.
+ */
+@Slf4j
+@Service
+public class ImageStorageMigrationService {
+    
+    private final RoomImageRepositoryPort roomImageRepositoryPort;
+    private final ImageStoragePort imageStoragePort;
+    private final boolean enabled;
+    private final int batchSize;
+    
+    public ImageStorageMigrationService(
+            RoomImageRepositoryPort roomImageRepositoryPort,
+            ImageStoragePort imageStoragePort,
+            @Value("${app.storage.images.migration.enabled:true}") boolean enabled,
+            @Value("${app.storage.images.migration.batch-size:50}") int batchSize) {
+        this.roomImageRepositoryPort = roomImageRepositoryPort;
+        this.imageStoragePort = imageStoragePort;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+    
+    @Scheduled(cron = "${app.storage.images.migration.cron:0 15 * * * *}")
+    public void scheduledMigration() {
+        if (enabled) {
+            migrateInlineImages();
+        }
+    }
+    
+    /**
+     * Move every inline image to image storage
+     * @return Number of migrated images
+     */
+    public long migrateInlineImages() {
+        UUID afterId = null;
+        long migrated = 0;
+        int failed = 0;
+        
+        while (true) {
+            List<UUID> ids = roomImageRepositoryPort.findInlineImageIds(afterId, batchSize);
+            for (UUID id : ids) {
+                try {
+                    if (migrateImage(id)) {
+                        migrated++;
+                    }
+                } catch (RuntimeException e) {
+                    // Leave the row inline and move on; it is retried on the next run
+                    failed++;
+                    log.error("Failed to migrate room image {} to image storage: {}", id, e.getMessage(), e);
+                }
+            }
+            if (ids.size() < batchSize) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+        
+        if (migrated > 0 || failed > 0) {
+            log.info("Moved {} room images to image storage, {} failed", migrated, failed);
+        }
+        return migrated;
+    }
+    
+    private boolean migrateImage(UUID id) {
+        Optional<byte[]> data = roomImageRepositoryPort.findInlineImageData(id);
+        if (data.isEmpty()) {
+            return false;
+        }
+        StoredImage stored = imageStoragePort.store(new ByteArrayInputStream(data.get()));
+        return roomImageRepositoryPort.moveToStorage(id, stored.getContentHash(), stored.getSize());
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.app.application.service;
+
+import com.example.app.common.exception.ImageProcessingException;
+import com.example.app.common.exception.ResourceNotFoundException;
+import com.example.app.domain.model.ImageUploadSession;
+import com.example.app.domain.model.RoomImage;
+import com.example.app.domain.model.StoredImage;
+import com.example.app.domain.port.in.ImageUploadSessionUseCase;
+import com.example.app.domain.port.in.RoomManagementUseCase;
+import com.example.app.domain.port.out.ImageUploadSessionRepositoryPort;
+import com.example.app.domain.port.out.RoomRepositoryPort;
+import com.example.app.domain.port.out.UploadSessionStoragePort;
+import com.example.app.infrastructure.storage.ImageStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Service implementing resumable, chunked room image uploads.
+ * Chunk bytes go straight to the session's temporary file and only the bookkeeping touches the database,
+ * in short transactions of its own, so a slow client never holds a connection or a transaction open.
+ * Sessions that see no chunk for the expiry period are garbage-collected on a schedule.
+ */
+@Slf4j
+@Service
+public class ImageUploadSessionService implements ImageUploadSessionUseCase {
+    
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    
+    private final ImageUploadSessionRepositoryPort imageUploadSessionRepositoryPort;
+    private final UploadSessionStoragePort uploadSessionStoragePort;
+    private final RoomRepositoryPort roomRepositoryPort;
+    private final RoomManagementUseCase roomManagementUseCase;
+    private final ImageStorageService imageStorageService;
+    private final int chunkBytes;
+    private final int expiryMinutes;
+    private final boolean cleanupEnabled;
+    private final int batchSize;
+    
+    public ImageUploadSessionService(
+            ImageUploadSessionRepositoryPort imageUploadSessionRepositoryPort,
+            UploadSessionStoragePort uploadSessionStoragePort,
+            RoomRepositoryPort roomRepositoryPort,
+            RoomManagementUseCase roomManagementUseCase,
+            ImageStorageService imageStorageService,
+            @Value("${app.storage.images.upload-sessions.chunk-bytes:1048576}") int chunkBytes,
+            @Value("${app.storage.images.upload-sessions.expiry-minutes:1440}") int expiryMinutes,
+            @Value("${app.storage.images.upload-sessions.cleanup-enabled:true}") boolean cleanupEnabled,
+            @Value("${app.storage.images.upload-sessions.batch-size:200}") int batchSize) {
+        this.imageUploadSessionRepositoryPort = imageUploadSessionRepositoryPort;
+        this.uploadSessionStoragePort = uploadSessionStoragePort;
+        this.roomRepositoryPort = roomRepositoryPort;
+        this.roomManagementUseCase = roomManagementUseCase;
+        this.imageStorageService = imageStorageService;
+        this.chunkBytes = chunkBytes;
+        this.expiryMinutes = expiryMinutes;
+        this.cleanupEnabled = cleanupEnabled;
+        this.batchSize = batchSize;
+    }
+    
+    @Override
+    public ImageUploadSession createSession(UUID roomId, String filename, long totalSize, String contentHash,
+                                            boolean main, int displayOrder) {
+        if (!roomRepositoryPort.existsById(roomId)) {
+            log.error("Room not found: {}", roomId);
+            throw new RuntimeException("Room not found with ID: " + roomId);
+        }
+        if (totalSize <= 0) {
+            throw new IllegalArgumentException("File is empty");
+        }
+        imageStorageService.validateImageSize(totalSize);
+        String normalizedHash = contentHash == null ? null : contentHash.toLowerCase(Locale.ROOT);
+        if (normalizedHash == null || !HASH_PATTERN.matcher(normalizedHash).matches()) {
+            throw new IllegalArgumentException("Content hash must be a hex-encoded SHA-256 digest");
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        ImageUploadSession session = ImageUploadSession.builder()
+                .id(UUID.randomUUID())
+                .roomId(roomId)
+                .filename(filename)
+                .totalSize(totalSize)
+                .chunkSize(chunkBytes)
+                .contentHash(normalizedHash)
+                .main(main)
+                .displayOrder(displayOrder)
+                .status(ImageUploadSession.STATUS_OPEN)
+                .createdAt(now)
+                .expiresAt(now.plusMinutes(expiryMinutes))
+                .build();
+        
+        ImageUploadSession saved = imageUploadSessionRepositoryPort.save(session);
+        log.info("Opened upload session {} for room {} ({} bytes in {} chunks)",
+                saved.getId(), roomId, totalSize, saved.getChunkCount());
+        return saved;
+    }
+    
+    @Override
+    public ImageUploadSession getSession(UUID roomId, UUID sessionId) {
+        return findSession(roomId, sessionId);
+    }
+    
+    @Override
+    public ImageUploadSession uploadChunk(UUID roomId, UUID sessionId, int index, long length, InputStream data) {
+        ImageUploadSession session = findSession(roomId, sessionId);
+        if (!ImageUploadSession.STATUS_OPEN.equals(session.getStatus())) {
+            throw new ImageProcessingException("Upload session " + sessionId + " is being completed");
+        }
+        if (index < 0 || index >= session.getChunkCount()) {
+            throw new IllegalArgumentException("Chunk index must be between 0 and " + (session.getChunkCount() - 1));
+        }
+        if (length != session.chunkLength(index)) {
+            throw new IllegalArgumentException("Chunk " + index + " must be " + session.chunkLength(index) + " bytes");
+        }
+        
+        // The chunk is durable before it is recorded, so a recorded chunk is never lost
+        uploadSessionStoragePort.writeChunk(sessionId, session.chunkOffset(index), length, data);
+        imageUploadSessionRepositoryPort.markChunkReceived(sessionId, index, LocalDateTime.now().plusMinutes(expiryMinutes));
+        
+        return findSession(roomId, sessionId);
+    }
+    
+    @Override
+    public RoomImage completeSession(UUID roomId, UUID sessionId) {
+        ImageUploadSession session = findSession(roomId, sessionId);
+        if (!session.isComplete()) {
+            throw new ImageProcessingException(String.format("Upload session %s has %d of %d chunks",
+                    sessionId, session.getReceivedChunks().size(), session.getChunkCount()));
+        }
+        if (!imageUploadSessionRepositoryPort.updateStatus(sessionId,
+                ImageUploadSession.STATUS_OPEN, ImageUploadSession.STATUS_COMPLETING)) {
+            throw new ImageProcessingException("Upload session " + sessionId + " is already being completed");
+        }
+        
+        StoredImage stored;
+        try {
+            stored = imageStorageService.storeImage(uploadSessionStoragePort.open(sessionId));
+        } catch (RuntimeException e) {
+            imageUploadSessionRepositoryPort.updateStatus(sessionId,
+                    ImageUploadSession.STATUS_COMPLETING, ImageUploadSession.STATUS_OPEN);
+            throw e;
+        }
+        
+        if (!stored.getContentHash().equals(session.getContentHash()) || stored.getSize() != session.getTotalSize()) {
+            // There is no telling which chunk is corrupt; the stored object is cleaned up as an unreferenced blob
+            discard(sessionId);
+            log.warn("Upload session {} failed verification: expected {}, got {}",
+                    sessionId, session.getContentHash(), stored.getContentHash());
+            throw new ImageProcessingException("Uploaded content does not match the declared content hash");
+        }
+        
+        RoomImage roomImage = new RoomImage();
+        roomImage.setRoomId(roomId);
+        roomImage.setFilename(imageStorageService.generateUniqueFilename(session.getFilename()));
+        roomImage.setContentType(stored.getContentType());
+        roomImage.setFileSize(stored.getSize());
+        roomImage.setContentHash(stored.getContentHash());
+        roomImage.setMain(session.isMain());
+        roomImage.setDisplayOrder(session.getDisplayOrder());
+        
+        RoomImage saved;
+        try {
+            saved = roomManagementUseCase.uploadRoomImages(roomId, List.of(roomImage)).get(0);
+        } catch (RuntimeException e) {
+            imageUploadSessionRepositoryPort.updateStatus(sessionId,
+                    ImageUploadSession.STATUS_COMPLETING, ImageUploadSession.STATUS_OPEN);
+            throw e;
+        }
+        
+        discard(sessionId);
+        log.info("Completed upload session {} as image {} of room {}", sessionId, saved.getId(), roomId);
+        return saved;
+    }
+    
+    @Override
+    public void cancelSession(UUID roomId, UUID sessionId) {
+        findSession(roomId, sessionId);
+        discard(sessionId);
+        log.info("Cancelled upload session {} of room {}", sessionId, roomId);
+    }
+    
+    @Scheduled(cron = "${app.storage.images.upload-sessions.cleanup-cron:0 30 * * * *}")
+    public void scheduledCleanup() {
+        if (cleanupEnabled) {
+            deleteExpiredSessions();
+        }
+    }
+    
+    @Override
+    public int deleteExpiredSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        
+        while (true) {
+            List<UUID> sessionIds = imageUploadSessionRepositoryPort.findExpiredIds(now, batchSize);
+            for (UUID sessionId : sessionIds) {
+                if (imageUploadSessionRepositoryPort.deleteExpired(sessionId, now)) {
+                    uploadSessionStoragePort.delete(sessionId);
+                    deleted++;
+                }
+            }
+            if (sessionIds.size() < batchSize) {
+                break;
+            }
+        }
+        
+        // Files left behind by sessions whose row is already gone
+        Instant staleBefore = now.minusMinutes(expiryMinutes).atZone(ZoneId.systemDefault()).toInstant();
+        for (UUID sessionId : uploadSessionStoragePort.findNotModifiedSince(staleBefore)) {
+            if (!imageUploadSessionRepositoryPort.existsById(sessionId)) {
+                uploadSessionStoragePort.delete(sessionId);
+            }
+        }
+        
+        if (deleted > 0) {
+            log.info("Deleted {} expired upload sessions", deleted);
+        }
+        return deleted;
+    }
+    
+    private ImageUploadSession findSession(UUID roomId, UUID sessionId) {
+        return imageUploadSessionRepositoryPort.findById(sessionId)
+                .filter(session -> session.getRoomId().equals(roomId))
+                .orElseThrow(() -> new ResourceNotFoundException("Upload session", "id", sessionId));
+    }
+    
+    private void discard(UUID sessionId) {
+        imageUploadSessionRepositoryPort.deleteById(sessionId);
+        uploadSessionStoragePort.delete(sessionId);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.app.application.service;
+
+import com.example.app.domain.port.out.TokenRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deletes expired refresh tokens in bounded batches, each in its own short transaction,
+ * so the purge never holds locks on a large part of the table.
+ */
+@Slf4j
+@Service
+public class RefreshTokenPurgeService {
+    
+    private final TokenRepositoryPort tokenRepositoryPort;
+    private final boolean enabled;
+    private final int batchSize;
+    
+    public RefreshTokenPurgeService(
+            TokenRepositoryPort tokenRepositoryPort,
+            @Value("${app.auth.refresh-token-purge.enabled:true}") boolean enabled,
+            @Value("${app.auth.refresh-token-purge.batch-size:1000}") int batchSize) {
+        this.tokenRepositoryPort = tokenRepositoryPort;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+    
+    @Scheduled(cron = "${app.auth.refresh-token-purge.cron:0 20 * * * *}")
+    public void scheduledPurge() {
+        if (enabled) {
+            purgeExpiredTokens();
+        }
+    }
+    
+    /**
+     * Delete every refresh token that has expired, then report the table size
+     * @return Number of deleted tokens
+     */
+    public int purgeExpiredTokens() {
+        LocalDateTime now = LocalDateTime.now();
+        long started = System.nanoTime();
+        int deleted = 0;
+        
+        while (true) {
+            int batch = tokenRepositoryPort.deleteExpiredRefreshTokens(now, batchSize);
+            deleted += batch;
+            if (batch < batchSize) {
+                break;
+            }
+        }
+        
+        long elapsedMs = Math.max(1, (System.nanoTime() - started) / 1_000_000);
+        long remaining = tokenRepositoryPort.countRefreshTokens();
+        long storageBytes = tokenRepositoryPort.refreshTokenStorageBytes();
+        log.info("Purged {} expired refresh tokens in {} ms ({} rows/s); {} tokens remain, table size {} bytes",
+                deleted, elapsedMs, deleted * 1000L / elapsedMs, remaining, storageBytes);
+        return deleted;
+    }
+}
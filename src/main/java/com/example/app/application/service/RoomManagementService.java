@@ -1,19 +1,38 @@
 package com.example.app.application.service;
 
+import com.example.app.common.constants.Constants;
+import com.example.app.domain.event.RoomChangedEvent;
+import com.example.app.domain.model.ImageSetVersion;
+import com.example.app.domain.model.ImageVariant;
 import com.example.app.domain.model.Room;
 import com.example.app.domain.model.RoomImage;
+import com.example.app.domain.model.StoredImage;
 import com.example.app.domain.port.in.RoomManagementUseCase;
+import com.example.app.domain.port.out.DomainEventPublisherPort;
+import com.example.app.domain.port.out.ImageCachePort;
+import com.example.app.domain.port.out.ImageStoragePort;
+import com.example.app.domain.port.out.ImageVariantGeneratorPort;
+import com.example.app.domain.port.out.ImageVariantRepositoryPort;
 import com.example.app.domain.port.out.RoomImageRepositoryPort;
 import com.example.app.domain.port.out.RoomRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.ByteArrayInputStream;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Service implementing RoomManagementUseCase.
@@ -27,6 +46,11 @@ public class RoomManagementService implements RoomManagementUseCase {
     
     private final RoomRepositoryPort roomRepositoryPort;
     private final RoomImageRepositoryPort roomImageRepositoryPort;
+    private final DomainEventPublisherPort domainEventPublisherPort;
+    private final ImageStoragePort imageStoragePort;
+    private final ImageCachePort imageCachePort;
+    private final ImageVariantRepositoryPort imageVariantRepositoryPort;
+    private final ImageVariantGeneratorPort imageVariantGeneratorPort;
     
     @Override
     @Transactional
@@ -37,6 +61,7 @@ public class RoomManagementService implements RoomManagementUseCase {
         validateRoom(room);
         
         Room savedRoom = roomRepositoryPort.save(room);
+        publishRoomChanged(savedRoom, Constants.EVENT_ROOM_CREATED);
         log.info("Room created successfully with ID: {}", savedRoom.getId());
         
         return savedRoom;
@@ -63,6 +88,7 @@ public class RoomManagementService implements RoomManagementUseCase {
         room.setCreatedBy(existingRoom.getCreatedBy());
         
         Room updatedRoom = roomRepositoryPort.save(room);
+        publishRoomChanged(updatedRoom, Constants.EVENT_ROOM_UPDATED);
         log.info("Room updated successfully: {}", id);
         
         return updatedRoom;
@@ -80,6 +106,8 @@ public class RoomManagementService implements RoomManagementUseCase {
         }
         
         roomRepositoryPort.deleteById(id);
+        domainEventPublisherPort.publish(Constants.AGGREGATE_ROOM, id, Constants.EVENT_ROOM_DELETED,
+                new RoomChangedEvent(id, null, null, null, true));
         log.info("Room soft deleted successfully: {}", id);
     }
     
@@ -120,19 +148,29 @@ public class RoomManagementService implements RoomManagementUseCase {
             throw new RuntimeException("Room not found with ID: " + roomId);
         }
         
-        // Set room ID for all images
-        images.forEach(image -> image.setRoomId(roomId));
+        // Set room ID for all images and move their bytes to image storage
+        images.forEach(image -> {
+            image.setRoomId(roomId);
+            storeContent(image);
+        });
         
         // If one of the images is marked as main, unset any existing main image
         boolean hasMainImage = images.stream().anyMatch(RoomImage::isMain);
         if (hasMainImage) {
-            roomImageRepositoryPort.findMainImageByRoomId(roomId).ifPresent(existingMain -> {
-                existingMain.setMain(false);
-                roomImageRepositoryPort.save(existingMain);
-            });
+            roomImageRepositoryPort.clearMainImage(roomId);
         }
         
         List<RoomImage> savedImages = roomImageRepositoryPort.saveAll(images);
+        domainEventPublisherPort.publish(Constants.AGGREGATE_ROOM, roomId, Constants.EVENT_ROOM_IMAGES_UPLOADED,
+                new RoomChangedEvent(roomId, null, null, null, false));
+        
+        // Resize work starts only once the rows are visible, and never adds to upload latency
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                imageVariantGeneratorPort.submit(savedImages);
+            }
+        });
         log.info("Successfully uploaded {} images for room: {}", savedImages.size(), roomId);
         
         return savedImages;
@@ -150,21 +188,123 @@ public class RoomManagementService implements RoomManagementUseCase {
         }
         
         List<RoomImage> images = roomImageRepositoryPort.findByRoomId(roomId);
+        attachVariants(images);
         log.info("Found {} images for room: {}", images.size(), roomId);
         
         return images;
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, List<RoomImage>> getRoomImagesByRoomIds(Collection<UUID> roomIds) {
+        log.info("Fetching images for {} rooms", roomIds.size());
+        
+        Map<UUID, List<RoomImage>> imagesByRoom = roomImageRepositoryPort.findByRoomIds(roomIds);
+        attachVariants(imagesByRoom.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        
+        return imagesByRoom;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ImageSetVersion getRoomImagesVersion(Collection<UUID> roomIds) {
+        return roomImageRepositoryPort.findVersionByRoomIds(roomIds);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public RoomImage getRoomImageById(UUID imageId) {
         log.info("Fetching room image: {}", imageId);
         
-        return roomImageRepositoryPort.findById(imageId)
+        return roomImageRepositoryPort.findMetadataById(imageId)
+                .orElseThrow(() -> {
+                    log.error("Room image not found: {}", imageId);
+                    return new RuntimeException("Room image not found with ID: " + imageId);
+                });
+    }
+    
+    @Override
+    @Transactional
+    public void deleteRoomImage(UUID roomId, UUID imageId) {
+        log.info("Deleting image {} of room: {}", imageId, roomId);
+        
+        RoomImage image = roomImageRepositoryPort.findMetadataById(imageId)
+                .filter(existing -> roomId.equals(existing.getRoomId()))
                 .orElseThrow(() -> {
                     log.error("Room image not found: {}", imageId);
                     return new RuntimeException("Room image not found with ID: " + imageId);
                 });
+        
+        roomImageRepositoryPort.deleteById(image.getId());
+        domainEventPublisherPort.publish(Constants.AGGREGATE_ROOM, roomId, Constants.EVENT_ROOM_IMAGE_DELETED,
+                new RoomChangedEvent(roomId, null, null, null, false));
+        log.info("Room image deleted successfully: {}", imageId);
+    }
+    
+    @Override
+    public Resource getRoomImageContent(RoomImage image) {
+        if (image.getContentHash() != null) {
+            return loadStoredContent(image.getContentHash(), image.getFileSize());
+        }
+        if (image.getImageData() != null) {
+            return new ByteArrayResource(image.getImageData());
+        }
+        return roomImageRepositoryPort.openInlineImageData(image.getId(), image.getFileSize());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ImageVariant> findImageVariant(UUID imageId, int width) {
+        return imageVariantRepositoryPort.findByImageId(imageId).stream()
+                .filter(variant -> variant.getWidth() >= width)
+                .findFirst();
+    }
+    
+    @Override
+    public Resource getImageVariantContent(ImageVariant variant) {
+        return loadStoredContent(variant.getContentHash(), variant.getFileSize());
+    }
+    
+    /**
+     * Serve stored content through the hot image cache
+     */
+    private Resource loadStoredContent(String contentHash, long size) {
+        return imageCachePort.getOrLoad(contentHash, size, () -> imageStoragePort.load(contentHash));
+    }
+    
+    /**
+     * Load the variants of all images with one query
+     */
+    private void attachVariants(List<RoomImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        Map<UUID, List<ImageVariant>> variants = imageVariantRepositoryPort.findByImageIds(
+                images.stream().map(RoomImage::getId).collect(Collectors.toList()));
+        images.forEach(image -> image.setVariants(variants.getOrDefault(image.getId(), List.of())));
+    }
+    
+    /**
+     * Write inline image bytes to image storage so only metadata reaches the database
+     */
+    private void storeContent(RoomImage image) {
+        if (image.getContentHash() != null || image.getImageData() == null) {
+            return;
+        }
+        StoredImage stored = imageStoragePort.store(new ByteArrayInputStream(image.getImageData()));
+        image.setContentHash(stored.getContentHash());
+        image.setFileSize(stored.getSize());
+        image.setImageData(null);
+    }
+    
+    /**
+     * Record a room change in the outbox within the current transaction
+     */
+    private void publishRoomChanged(Room room, String eventType) {
+        domainEventPublisherPort.publish(Constants.AGGREGATE_ROOM, room.getId(), eventType,
+                new RoomChangedEvent(room.getId(), room.getTitle(), room.getPricePerNight(), room.getStatus(), false));
     }
     
     /**
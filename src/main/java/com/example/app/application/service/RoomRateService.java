@@ -0,0 +1,229 @@
+package com.example.app.application.service;
+
+import com.example.app.common.exception.ResourceNotFoundException;
+import com.example.app.domain.model.DailyRate;
+import com.example.app.domain.model.RateCalendar;
+import com.example.app.domain.model.Room;
+import com.example.app.domain.model.StayQuote;
+import com.example.app.domain.port.in.RoomRateUseCase;
+import com.example.app.domain.port.out.RoomRateRepositoryPort;
+import com.example.app.domain.port.out.RoomRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service implementing RoomRateUseCase.
+ * Keeps one immutable RateCalendar per room in memory, loaded on first use and patched in place
+ * (copy-on-write) after rate updates commit, so pricing a stay never touches the database.
+ * Each room has a change version, bumped on every committed update; a calendar is only cached if
+ * the version did not move while it was loading, so a slow load never replaces a newer patch.
+ * Rooms changed through another instance are found by polling the rate change log and reloaded.
+ */
+@Slf4j
+@Service
+public class RoomRateService implements RoomRateUseCase {
+    
+    // Overlap between polls, so a change committed just after the previous poll started is not missed
+    private static final long SYNC_OVERLAP_SECONDS = 10;
+    
+    private final RoomRateRepositoryPort roomRateRepositoryPort;
+    private final RoomRepositoryPort roomRepositoryPort;
+    private final int horizonDays;
+    private final int refreshAfterDays;
+    private final Map<UUID, RateCalendar> calendars = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> versions = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastSync = LocalDateTime.now();
+    
+    public RoomRateService(
+            RoomRateRepositoryPort roomRateRepositoryPort,
+            RoomRepositoryPort roomRepositoryPort,
+            @Value("${app.pricing.calendar.horizon-days:730}") int horizonDays,
+            @Value("${app.pricing.calendar.refresh-after-days:7}") int refreshAfterDays) {
+        this.roomRateRepositoryPort = roomRateRepositoryPort;
+        this.roomRepositoryPort = roomRepositoryPort;
+        this.horizonDays = horizonDays;
+        this.refreshAfterDays = refreshAfterDays;
+    }
+    
+    @Override
+    @Transactional
+    public void setRates(UUID roomId, LocalDate from, LocalDate to, BigDecimal price) {
+        log.info("Setting rates for room {} from {} to {}: {}", roomId, from, to, price != null ? price : "base");
+        
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Rate range requires startDate <= endDate");
+        }
+        if (price != null && price.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Price must be greater than 0");
+        }
+        if (!roomRepositoryPort.existsById(roomId)) {
+            throw new ResourceNotFoundException("Room", "id", roomId);
+        }
+        
+        Long priceCents = price != null ? toCents(price) : null;
+        if (priceCents != null) {
+            roomRateRepositoryPort.saveRates(roomId, from, to, priceCents);
+        } else {
+            roomRateRepositoryPort.deleteRates(roomId, from, to);
+        }
+        
+        // Patch only the affected days of the cached calendar once the change is visible to others
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                versions.merge(roomId, 1L, Long::sum);
+                calendars.computeIfPresent(roomId, (id, calendar) -> calendar.withRates(from, to, priceCents));
+            }
+        });
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyRate> getDailyRates(UUID roomId, LocalDate from, LocalDate to) {
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Rate range requires from <= to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= horizonDays) {
+            throw new IllegalArgumentException("Rate range must not exceed " + horizonDays + " days");
+        }
+        
+        Room room = roomRepositoryPort.findById(roomId)
+                .orElseThrow(() -> new ResourceNotFoundException("Room", "id", roomId));
+        RateCalendar calendar = calendarFor(room.getId());
+        
+        List<DailyRate> rates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Long override = calendar.overrideCents(date);
+            rates.add(DailyRate.builder()
+                    .date(date)
+                    .price(override != null ? fromCents(override) : room.getPricePerNight())
+                    .override(override != null)
+                    .build());
+        }
+        return rates;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public StayQuote quoteStay(UUID roomId, LocalDate checkIn, LocalDate checkOut) {
+        if (checkIn == null || checkOut == null || !checkIn.isBefore(checkOut)) {
+            throw new IllegalArgumentException("checkIn must be before checkOut");
+        }
+        
+        Room room = roomRepositoryPort.findById(roomId)
+                .orElseThrow(() -> new ResourceNotFoundException("Room", "id", roomId));
+        
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        BigDecimal total = calculateStayPrice(room, checkIn, checkOut);
+        return StayQuote.builder()
+                .roomId(roomId)
+                .checkIn(checkIn)
+                .checkOut(checkOut)
+                .nights(nights)
+                .totalPrice(total)
+                .averageNightlyRate(total.divide(BigDecimal.valueOf(nights), 2, RoundingMode.HALF_UP))
+                .build();
+    }
+    
+    @Override
+    public BigDecimal calculateStayPrice(Room room, LocalDate checkIn, LocalDate checkOut) {
+        long cents = calendarFor(room.getId()).stayPriceCents(checkIn, checkOut, toCents(room.getPricePerNight()));
+        return fromCents(cents);
+    }
+    
+    @Override
+    public Map<UUID, BigDecimal> calculateStayPrices(Collection<Room> rooms, LocalDate checkIn, LocalDate checkOut) {
+        Map<UUID, RateCalendar> loaded = calendarsFor(rooms.stream().map(Room::getId).collect(Collectors.toSet()));
+        
+        Map<UUID, BigDecimal> prices = new HashMap<>(rooms.size() * 2);
+        for (Room room : rooms) {
+            long cents = loaded.get(room.getId())
+                    .stayPriceCents(checkIn, checkOut, toCents(room.getPricePerNight()));
+            prices.put(room.getId(), fromCents(cents));
+        }
+        return prices;
+    }
+    
+    /**
+     * Drop the calendars of rooms whose rates changed through any instance since the previous poll
+     */
+    @Scheduled(fixedDelayString = "${app.pricing.calendar.sync-interval-ms:15000}")
+    public void syncChangedRates() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> changed = roomRateRepositoryPort.findRoomsChangedSince(lastSync.minusSeconds(SYNC_OVERLAP_SECONDS));
+        lastSync = now;
+        for (UUID roomId : changed) {
+            // Bump first, so a load that started before the change cannot cache its result
+            versions.merge(roomId, 1L, Long::sum);
+            calendars.remove(roomId);
+        }
+        if (!changed.isEmpty()) {
+            log.debug("Dropped rate calendars of {} changed rooms", changed.size());
+        }
+    }
+    
+    private RateCalendar calendarFor(UUID roomId) {
+        return calendarsFor(Set.of(roomId)).get(roomId);
+    }
+    
+    /**
+     * Calendars of the given rooms, loading those that are missing or whose window has drifted too far
+     * behind today in one query. A loaded calendar is only cached if no update committed meanwhile;
+     * otherwise it serves this call alone and the next call loads again.
+     */
+    private Map<UUID, RateCalendar> calendarsFor(Set<UUID> roomIds) {
+        LocalDate today = LocalDate.now();
+        Map<UUID, RateCalendar> result = new HashMap<>(roomIds.size() * 2);
+        Map<UUID, Long> loadVersions = new HashMap<>();
+        for (UUID roomId : roomIds) {
+            RateCalendar calendar = calendars.get(roomId);
+            if (calendar == null || calendar.getOrigin().plusDays(refreshAfterDays).isBefore(today)) {
+                loadVersions.put(roomId, versions.getOrDefault(roomId, 0L));
+            } else {
+                result.put(roomId, calendar);
+            }
+        }
+        if (loadVersions.isEmpty()) {
+            return result;
+        }
+        
+        Map<UUID, Map<LocalDate, Long>> overrides =
+                roomRateRepositoryPort.findRates(loadVersions.keySet(), today, today.plusDays(horizonDays));
+        loadVersions.forEach((roomId, version) -> {
+            RateCalendar loaded = RateCalendar.of(today, horizonDays, overrides.getOrDefault(roomId, Map.of()));
+            calendars.compute(roomId, (id, current) ->
+                    versions.getOrDefault(id, 0L).equals(version) ? loaded : current);
+            result.put(roomId, loaded);
+        });
+        log.debug("Loaded rate calendars for {} rooms", loadVersions.size());
+        return result;
+    }
+    
+    private long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+    }
+    
+    private BigDecimal fromCents(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
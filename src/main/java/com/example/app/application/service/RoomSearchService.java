@@ -1,12 +1,15 @@
 package com.example.app.application.service;
 
+import com.example.app.common.exception.InvalidSearchCriteriaException;
 import com.example.app.common.response.PageResponse;
 import com.example.app.domain.model.Room;
+import com.example.app.domain.port.in.RoomRateUseCase;
 import com.example.app.domain.port.in.SearchRoomsUseCase;
 import com.example.app.domain.port.out.RoomSearchRepositoryPort;
 import com.example.app.domain.valueobject.RoomSearchCriteria;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +17,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 /**
  * Application service implementing room search use case.
  * Coordinates search operations and applies business logic.
@@ -25,9 +35,15 @@ public class RoomSearchService implements SearchRoomsUseCase {
     private static final Logger log = LoggerFactory.getLogger(RoomSearchService.class);
     
     private final RoomSearchRepositoryPort roomSearchRepository;
+    private final RoomRateUseCase roomRateUseCase;
+    private final int maxPricedCandidates;
     
-    public RoomSearchService(RoomSearchRepositoryPort roomSearchRepository) {
+    public RoomSearchService(RoomSearchRepositoryPort roomSearchRepository,
+                             RoomRateUseCase roomRateUseCase,
+                             @Value("${app.search.max-priced-candidates:5000}") int maxPricedCandidates) {
         this.roomSearchRepository = roomSearchRepository;
+        this.roomRateUseCase = roomRateUseCase;
+        this.maxPricedCandidates = maxPricedCandidates;
     }
     
     @Override
@@ -40,12 +56,23 @@ public class RoomSearchService implements SearchRoomsUseCase {
                 criteria.getAmenities(), criteria.getViews(), criteria.getCheckIn(), criteria.getCheckOut(),
                 criteria.getSortBy(), criteria.getSortDirection(), criteria.getPage(), criteria.getSize());
         
+        if (criteria.requiresStayPricing()) {
+            return searchByStayPrice(criteria, startTime);
+        }
+        
         // Create pageable with sorting
         Pageable pageable = createPageable(criteria);
         
         // Execute search
         Page<Room> roomPage = roomSearchRepository.findByCriteria(criteria, pageable);
         
+        // Show the stay total for the page when dates were given
+        if (criteria.hasStay()) {
+            Map<UUID, BigDecimal> prices = roomRateUseCase.calculateStayPrices(
+                    roomPage.getContent(), criteria.getCheckIn(), criteria.getCheckOut());
+            roomPage.getContent().forEach(room -> room.setTotalPrice(prices.get(room.getId())));
+        }
+        
         long executionTime = System.currentTimeMillis() - startTime;
         log.info("Room search completed in {}ms. Found {} rooms (page {} of {})",
                 executionTime, roomPage.getTotalElements(), roomPage.getNumber(), roomPage.getTotalPages());
@@ -59,6 +86,57 @@ public class RoomSearchService implements SearchRoomsUseCase {
         );
     }
     
+    /**
+     * Filter and sort by total stay price. The total depends on the rate calendar, not on a column,
+     * so candidates are priced in memory (O(1) per room) and paginated here. When more rooms match than
+     * can be priced, the query is rejected: a page built from a truncated candidate set would be wrong.
+     */
+    private PageResponse<Room> searchByStayPrice(RoomSearchCriteria criteria, long startTime) {
+        List<Room> candidates = roomSearchRepository.findAllByCriteria(criteria, maxPricedCandidates + 1);
+        if (candidates.size() > maxPricedCandidates) {
+            log.warn("Rejected stay price search: more than {} rooms match", maxPricedCandidates);
+            throw new InvalidSearchCriteriaException("More than " + maxPricedCandidates + " rooms match; " +
+                    "narrow the search to filter or sort by total stay price");
+        }
+        Map<UUID, BigDecimal> prices = roomRateUseCase.calculateStayPrices(
+                candidates, criteria.getCheckIn(), criteria.getCheckOut());
+        candidates.forEach(room -> room.setTotalPrice(prices.get(room.getId())));
+        
+        Comparator<Room> comparator = createComparator(criteria.getSortBy());
+        if (criteria.getSortDirection().equalsIgnoreCase("DESC")) {
+            comparator = comparator.reversed();
+        }
+        
+        List<Room> matching = candidates.stream()
+                .filter(room -> criteria.getMinTotalPrice() == null
+                        || room.getTotalPrice().compareTo(criteria.getMinTotalPrice()) >= 0)
+                .filter(room -> criteria.getMaxTotalPrice() == null
+                        || room.getTotalPrice().compareTo(criteria.getMaxTotalPrice()) <= 0)
+                .sorted(comparator.thenComparing(Room::getId))
+                .collect(Collectors.toList());
+        
+        int from = Math.min(criteria.getPage() * criteria.getSize(), matching.size());
+        int to = Math.min(from + criteria.getSize(), matching.size());
+        
+        long executionTime = System.currentTimeMillis() - startTime;
+        log.info("Room search by stay price completed in {}ms. Found {} of {} candidate rooms",
+                executionTime, matching.size(), candidates.size());
+        
+        return PageResponse.of(matching.subList(from, to), criteria.getPage(), criteria.getSize(), matching.size());
+    }
+    
+    /**
+     * Creates in-memory comparator matching createSort, plus total stay price
+     */
+    private Comparator<Room> createComparator(String sortBy) {
+        return switch (sortBy.toLowerCase()) {
+            case "totalprice" -> Comparator.comparing(Room::getTotalPrice);
+            case "rating", "popularity" -> Comparator.comparing(Room::getRating,
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            default -> Comparator.comparing(Room::getPricePerNight);
+        };
+    }
+    
     /**
      * Creates Pageable object with sorting based on criteria
      */
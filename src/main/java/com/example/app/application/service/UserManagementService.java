@@ -5,7 +5,9 @@ import com.example.app.common.exception.ResourceNotFoundException;
 import com.example.app.domain.model.Role;
 import com.example.app.domain.model.User;
 import com.example.app.domain.port.in.UserManagementUseCase;
+import com.example.app.domain.port.out.AccessTokenRevocationPort;
 import com.example.app.domain.port.out.RoleRepositoryPort;
+import com.example.app.domain.port.out.UserDetailsCachePort;
 import com.example.app.domain.port.out.UserRepositoryPort;
 import com.example.app.domain.valueobject.Email;
 import com.example.app.infrastructure.audit.Auditable;
@@ -13,6 +15,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -28,6 +32,8 @@ public class UserManagementService implements UserManagementUseCase {
     
     private final UserRepositoryPort userRepositoryPort;
     private final RoleRepositoryPort roleRepositoryPort;
+    private final AccessTokenRevocationPort accessTokenRevocationPort;
+    private final UserDetailsCachePort userDetailsCachePort;
     
     @Override
     public User getUserById(UUID userId) {
@@ -75,7 +81,9 @@ public class UserManagementService implements UserManagementUseCase {
         
         user.setUpdatedAt(LocalDateTime.now());
         
-        return userRepositoryPort.save(user);
+        User saved = userRepositoryPort.save(user);
+        evictUserDetails(userId);
+        return saved;
     }
     
     @Override
@@ -86,6 +94,8 @@ public class UserManagementService implements UserManagementUseCase {
         
         User user = getUserById(userId);
         userRepositoryPort.delete(userId);
+        accessTokenRevocationPort.revokeUserTokens(userId);
+        evictUserDetails(userId);
     }
     
     @Override
@@ -98,7 +108,12 @@ public class UserManagementService implements UserManagementUseCase {
         user.setEnabled(enabled);
         user.setUpdatedAt(LocalDateTime.now());
         
-        return userRepositoryPort.save(user);
+        User saved = userRepositoryPort.save(user);
+        evictUserDetails(userId);
+        if (!enabled) {
+            accessTokenRevocationPort.revokeUserTokens(userId);
+        }
+        return saved;
     }
     
     @Override
@@ -114,7 +129,9 @@ public class UserManagementService implements UserManagementUseCase {
         user.addRole(role);
         user.setUpdatedAt(LocalDateTime.now());
         
-        return userRepositoryPort.save(user);
+        User saved = userRepositoryPort.save(user);
+        evictUserDetails(userId);
+        return saved;
     }
     
     @Override
@@ -130,11 +147,31 @@ public class UserManagementService implements UserManagementUseCase {
         user.removeRole(role);
         user.setUpdatedAt(LocalDateTime.now());
         
-        return userRepositoryPort.save(user);
+        User saved = userRepositoryPort.save(user);
+        evictUserDetails(userId);
+        // Tokens still carry the removed role; the user picks up the new roles on refresh
+        accessTokenRevocationPort.revokeUserTokens(userId);
+        return saved;
     }
     
     @Override
     public long countUsers() {
         return userRepositoryPort.count();
     }
+    
+    /**
+     * Evict the user's cached details now and again once the change is committed,
+     * so a request racing the transaction cannot cache the old state
+     */
+    private void evictUserDetails(UUID userId) {
+        userDetailsCachePort.evictUser(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    userDetailsCachePort.evictUser(userId);
+                }
+            });
+        }
+    }
 }
@@ -26,6 +26,24 @@ public final class Constants {
     public static final String ACTION_DELETE = "DELETE";
     public static final String ACTION_TOKEN_REFRESH = "TOKEN_REFRESH";
     
+    // Outbox aggregates and event types
+    public static final String AGGREGATE_ROOM = "ROOM";
+    public static final String AGGREGATE_USER = "USER";
+    public static final String AGGREGATE_BOOKING = "BOOKING";
+    public static final String EVENT_ROOM_CREATED = "ROOM_CREATED";
+    public static final String EVENT_ROOM_UPDATED = "ROOM_UPDATED";
+    public static final String EVENT_ROOM_DELETED = "ROOM_DELETED";
+    public static final String EVENT_ROOM_IMAGES_UPLOADED = "ROOM_IMAGES_UPLOADED";
+    public static final String EVENT_ROOM_IMAGE_DELETED = "ROOM_IMAGE_DELETED";
+    public static final String EVENT_USER_CREATED = "USER_CREATED";
+    public static final String EVENT_BOOKING_CREATED = "BOOKING_CREATED";
+    public static final String EVENT_BOOKING_CANCELLED = "BOOKING_CANCELLED";
+    
+    // Booking statuses
+    public static final String BOOKING_STATUS_CONFIRMED = "CONFIRMED";
+    public static final String BOOKING_STATUS_PENDING = "PENDING";
+    public static final String BOOKING_STATUS_CANCELLED = "CANCELLED";
+    
     // Headers
     public static final String HEADER_AUTHORIZATION = "Authorization";
     public static final String HEADER_BEARER_PREFIX = "Bearer ";
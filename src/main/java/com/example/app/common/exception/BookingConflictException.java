@@ -0,0 +1,18 @@
+package com.example.app.common.exception;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Exception thrown when a booking overlaps an existing active booking of the same room
+ */
+public class BookingConflictException extends RuntimeException {
+    
+    public BookingConflictException(String message) {
+        super(message);
+    }
+    
+    public BookingConflictException(UUID roomId, LocalDate checkIn, LocalDate checkOut) {
+        super(String.format("Room '%s' is not available from %s to %s", roomId, checkIn, checkOut));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.app.common.exception;
+
+/**
+ * Exception thrown when a request is shed because the capacity serving it is exhausted.
+ * Clients may retry after a short delay.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+    
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+    
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -63,4 +63,18 @@ public class CommonResponse<T> {
                 .traceId(traceId)
                 .build();
     }
+    
+    /**
+     * Create error response carrying details (e.g. per-item results of a rejected batch)
+     */
+    public static <T> CommonResponse<T> error(T data, String message, int statusCode, String traceId) {
+        return CommonResponse.<T>builder()
+                .success(false)
+                .message(message)
+                .statusCode(statusCode)
+                .data(data)
+                .timestamp(LocalDateTime.now())
+                .traceId(traceId)
+                .build();
+    }
 }
@@ -0,0 +1,24 @@
+package com.example.app.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Utility class to resolve the client IP of a request, honoring the proxy headers.
+ * The headers are taken as sent by the client, so the result is only fit for logging, never for limits.
+ */
+public class ClientIpResolver {
+    
+    /**
+     * Resolve the client IP from X-Forwarded-For, then X-Real-IP, then the remote address
+     */
+    public static String resolve(HttpServletRequest request) {
+        String ip = request.getHeader("X-Forwarded-For");
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getHeader("X-Real-IP");
+        }
+        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
+            ip = request.getRemoteAddr();
+        }
+        return ip;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.app.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Domain event fired when a booking is created or cancelled.
+ * Consumed by availability caches, reporting and partner channel managers.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingChangedEvent {
+    
+    private UUID bookingId;
+    private UUID roomId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private String status;
+    private BigDecimal pricePerNight;
+    private LocalDateTime timestamp;
+    
+    public BookingChangedEvent(UUID bookingId, UUID roomId, LocalDate checkInDate, LocalDate checkOutDate,
+                               String status, BigDecimal pricePerNight) {
+        this.bookingId = bookingId;
+        this.roomId = roomId;
+        this.checkInDate = checkInDate;
+        this.checkOutDate = checkOutDate;
+        this.status = status;
+        this.pricePerNight = pricePerNight;
+        this.timestamp = LocalDateTime.now();
+    }
+}
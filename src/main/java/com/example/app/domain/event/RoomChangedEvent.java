@@ -0,0 +1,36 @@
+package com.example.app.domain.event;
+
+import com.example.app.domain.valueobject.RoomStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Domain event fired when a room is created, updated, deleted or gets new images.
+ * Consumed by caches, search indexes and partner feeds.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomChangedEvent {
+    
+    private UUID roomId;
+    private String title;
+    private BigDecimal pricePerNight;
+    private RoomStatus status;
+    private boolean deleted;
+    private LocalDateTime timestamp;
+    
+    public RoomChangedEvent(UUID roomId, String title, BigDecimal pricePerNight, RoomStatus status, boolean deleted) {
+        this.roomId = roomId;
+        this.title = title;
+        this.pricePerNight = pricePerNight;
+        this.status = status;
+        this.deleted = deleted;
+        this.timestamp = LocalDateTime.now();
+    }
+}
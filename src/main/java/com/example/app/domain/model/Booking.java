@@ -0,0 +1,49 @@
+package com.example.app.domain.model;
+
+import com.example.app.common.constants.Constants;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+/**
+ * Domain model representing a room booking.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Booking {
+    
+    private UUID id;
+    private UUID roomId;
+    private LocalDate checkInDate;
+    private LocalDate checkOutDate;
+    private String status; // CONFIRMED, PENDING, CANCELLED
+    private BigDecimal pricePerNight; // Nightly rate captured at booking time
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    /**
+     * Business logic: Number of nights covered by this booking
+     */
+    public long getNights() {
+        if (checkInDate == null || checkOutDate == null) {
+            return 0;
+        }
+        return ChronoUnit.DAYS.between(checkInDate, checkOutDate);
+    }
+    
+    /**
+     * Business logic: Check if booking blocks the room
+     */
+    public boolean isActive() {
+        return !Constants.BOOKING_STATUS_CANCELLED.equals(status);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of a single item in a bulk booking operation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkItemResult {
+    
+    public static final String STATUS_SUCCEEDED = "SUCCEEDED";
+    public static final String STATUS_FAILED = "FAILED";
+    public static final String STATUS_SKIPPED = "SKIPPED"; // Valid, but not applied because an atomic batch failed
+    
+    private int index;
+    private UUID bookingId;
+    private UUID roomId;
+    private String status;
+    private String message;
+    
+    public boolean isSucceeded() {
+        return STATUS_SUCCEEDED.equals(status);
+    }
+}
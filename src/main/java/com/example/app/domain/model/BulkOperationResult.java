@@ -0,0 +1,25 @@
+package com.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk booking operation with per-item results in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResult {
+    
+    private boolean atomic;
+    private boolean applied; // false when an atomic batch was rejected as a whole
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> items;
+}
@@ -0,0 +1,23 @@
+package com.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Effective nightly rate of a room for one day.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyRate {
+    
+    private LocalDate date;
+    private BigDecimal price;
+    private boolean override; // false when the room's base price applies
+}
@@ -0,0 +1,23 @@
+package com.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Booking totals across all rooms for a single night.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStats {
+    
+    private LocalDate date;
+    private long nightsSold;
+    private BigDecimal revenue;
+}
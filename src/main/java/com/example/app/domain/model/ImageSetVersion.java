@@ -0,0 +1,23 @@
+package com.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version stamp of the images of a set of rooms.
+ * Adding or changing an image moves lastModified forward and deleting one lowers imageCount,
+ * so the stamp changes whenever the metadata of the set does.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageSetVersion {
+    
+    private long imageCount;
+    private LocalDateTime lastModified; // null if the rooms have no images
+}
@@ -0,0 +1,57 @@
+package com.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A room image being uploaded in fixed-size chunks.
+ * Chunk {@code n} covers bytes {@code [n * chunkSize, min((n + 1) * chunkSize, totalSize))};
+ * chunks may arrive in any order and be sent again until the session is completed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadSession {
+    
+    public static final String STATUS_OPEN = "OPEN";
+    public static final String STATUS_COMPLETING = "COMPLETING";
+    
+    private UUID id;
+    private UUID roomId;
+    private String filename;
+    private long totalSize;
+    private int chunkSize;
+    private String contentHash; // Expected SHA-256 of the whole image, hex
+    private boolean main;
+    private int displayOrder;
+    private String status;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    
+    @Builder.Default
+    private List<Integer> receivedChunks = new ArrayList<>(); // Ascending
+    
+    public int getChunkCount() {
+        return (int) ((totalSize + chunkSize - 1) / chunkSize);
+    }
+    
+    public long chunkOffset(int index) {
+        return (long) index * chunkSize;
+    }
+    
+    public long chunkLength(int index) {
+        return Math.min(chunkSize, totalSize - chunkOffset(index));
+    }
+    
+    public boolean isComplete() {
+        return receivedChunks.size() == getChunkCount();
+    }
+}
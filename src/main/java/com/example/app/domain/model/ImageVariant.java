@@ -0,0 +1,25 @@
+package com.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Downscaled copy of a room image for one width bucket.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageVariant {
+    
+    private UUID imageId;
+    private int width;
+    private int height;
+    private String contentType;
+    private String contentHash;
+    private long fileSize;
+}
@@ -0,0 +1,28 @@
+package com.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Occupancy and revenue KPIs for one reporting period (a day, a month, or the whole range).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyPeriod {
+    
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private long roomNightsAvailable;
+    private long roomNightsSold;
+    private BigDecimal revenue;
+    private BigDecimal occupancyRate; // Percentage, 0-100
+    private BigDecimal averageDailyRate; // ADR = revenue / room nights sold
+    private BigDecimal revPar; // RevPAR = revenue / room nights available
+}
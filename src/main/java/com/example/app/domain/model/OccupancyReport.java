@@ -0,0 +1,26 @@
+package com.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Occupancy, ADR and RevPAR report built from daily rollups.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyReport {
+    
+    private LocalDate from;
+    private LocalDate to;
+    private String granularity; // DAY or MONTH
+    private long roomCount;
+    private List<OccupancyPeriod> periods;
+    private OccupancyPeriod total;
+}
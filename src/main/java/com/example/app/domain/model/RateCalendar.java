@@ -0,0 +1,118 @@
+package com.example.app.domain.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Immutable per-room rate calendar over a fixed window of days starting at origin.
+ * Rate overrides are held as primitive cents with prefix sums, so the price of any stay
+ * is computed in O(1): override cents of the stay plus base price times non-overridden nights.
+ * Keeping the base price out of the arrays means a room price change needs no rebuild.
+ */
+public final class RateCalendar {
+    
+    private static final long NO_OVERRIDE = -1L;
+    
+    private final LocalDate origin;
+    private final long[] overrideCents;
+    private final long[] overridePrefix; // overridePrefix[i] = sum of overrides on days [0, i)
+    private final int[] basePrefix; // basePrefix[i] = number of days in [0, i) without override
+    
+    private RateCalendar(LocalDate origin, long[] overrideCents) {
+        this.origin = origin;
+        this.overrideCents = overrideCents;
+        this.overridePrefix = new long[overrideCents.length + 1];
+        this.basePrefix = new int[overrideCents.length + 1];
+        recomputePrefix(0);
+    }
+    
+    private RateCalendar(LocalDate origin, long[] overrideCents, long[] overridePrefix, int[] basePrefix, int from) {
+        this.origin = origin;
+        this.overrideCents = overrideCents;
+        this.overridePrefix = overridePrefix.clone();
+        this.basePrefix = basePrefix.clone();
+        recomputePrefix(from);
+    }
+    
+    /**
+     * Build a calendar of the given number of days from origin
+     * @param overrides Day to price in cents; days outside the window are ignored
+     */
+    public static RateCalendar of(LocalDate origin, int days, Map<LocalDate, Long> overrides) {
+        long[] cents = new long[days];
+        Arrays.fill(cents, NO_OVERRIDE);
+        overrides.forEach((date, price) -> {
+            long index = ChronoUnit.DAYS.between(origin, date);
+            if (index >= 0 && index < days) {
+                cents[(int) index] = price;
+            }
+        });
+        return new RateCalendar(origin, cents);
+    }
+    
+    /**
+     * Copy of this calendar with days [from, to] set to priceCents, or reset to base when priceCents is null.
+     * Only the changed range and the prefix sums after it are rewritten.
+     */
+    public RateCalendar withRates(LocalDate from, LocalDate to, Long priceCents) {
+        int start = (int) Math.max(0, ChronoUnit.DAYS.between(origin, from));
+        int end = (int) Math.min(overrideCents.length, ChronoUnit.DAYS.between(origin, to) + 1);
+        if (start >= end) {
+            return this;
+        }
+        
+        long[] cents = overrideCents.clone();
+        Arrays.fill(cents, start, end, priceCents != null ? priceCents : NO_OVERRIDE);
+        return new RateCalendar(origin, cents, overridePrefix, basePrefix, start);
+    }
+    
+    /**
+     * Total price in cents of the nights [checkIn, checkOut). Nights outside the window use the base price.
+     */
+    public long stayPriceCents(LocalDate checkIn, LocalDate checkOut, long basePriceCents) {
+        long nights = ChronoUnit.DAYS.between(checkIn, checkOut);
+        if (nights <= 0) {
+            return 0;
+        }
+        
+        int start = (int) clamp(ChronoUnit.DAYS.between(origin, checkIn));
+        int end = (int) clamp(ChronoUnit.DAYS.between(origin, checkOut));
+        long inWindowNights = end - start;
+        long overrides = overridePrefix[end] - overridePrefix[start];
+        long baseNights = (basePrefix[end] - basePrefix[start]) + (nights - inWindowNights);
+        return overrides + baseNights * basePriceCents;
+    }
+    
+    /**
+     * Rate override for a day, or null when the base price applies
+     */
+    public Long overrideCents(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(origin, date);
+        if (index < 0 || index >= overrideCents.length || overrideCents[(int) index] == NO_OVERRIDE) {
+            return null;
+        }
+        return overrideCents[(int) index];
+    }
+    
+    public LocalDate getOrigin() {
+        return origin;
+    }
+    
+    public int getDays() {
+        return overrideCents.length;
+    }
+    
+    private long clamp(long index) {
+        return Math.max(0, Math.min(overrideCents.length, index));
+    }
+    
+    private void recomputePrefix(int from) {
+        for (int i = from; i < overrideCents.length; i++) {
+            boolean overridden = overrideCents[i] != NO_OVERRIDE;
+            overridePrefix[i + 1] = overridePrefix[i] + (overridden ? overrideCents[i] : 0);
+            basePrefix[i + 1] = basePrefix[i] + (overridden ? 0 : 1);
+        }
+    }
+}
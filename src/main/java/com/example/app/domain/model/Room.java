@@ -34,6 +34,7 @@ public class Room {
     private UUID createdBy;
     private UUID updatedBy;
     private boolean deleted;
+    private BigDecimal totalPrice; // Price of a requested stay; computed, not persisted
     
     // Default constructor
     public Room() {
@@ -211,4 +212,12 @@ public class Room {
     public void setDeleted(boolean deleted) {
         this.deleted = deleted;
     }
+    
+    public BigDecimal getTotalPrice() {
+        return totalPrice;
+    }
+    
+    public void setTotalPrice(BigDecimal totalPrice) {
+        this.totalPrice = totalPrice;
+    }
 }
@@ -1,6 +1,8 @@
 package com.example.app.domain.model;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -14,11 +16,15 @@ public class RoomImage {
     private String filename;
     private String contentType;
     private Long fileSize;
+    private String contentHash; // Key in image storage; null for legacy images held inline
+    private String placeholder; // BlurHash preview; null until generated
+    private Long originalFileSize; // Size as uploaded, once the image has been through ingest
     private byte[] imageData;
     private boolean isMain;
     private Integer displayOrder;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private List<ImageVariant> variants = new ArrayList<>(); // Narrowest first; filled in by metadata queries
     
     // Default constructor
     public RoomImage() {
@@ -83,6 +89,30 @@ public class RoomImage {
         this.fileSize = fileSize;
     }
     
+    public String getContentHash() {
+        return contentHash;
+    }
+    
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+    
+    public String getPlaceholder() {
+        return placeholder;
+    }
+    
+    public void setPlaceholder(String placeholder) {
+        this.placeholder = placeholder;
+    }
+    
+    public Long getOriginalFileSize() {
+        return originalFileSize;
+    }
+    
+    public void setOriginalFileSize(Long originalFileSize) {
+        this.originalFileSize = originalFileSize;
+    }
+    
     public byte[] getImageData() {
         return imageData;
     }
@@ -122,4 +152,12 @@ public class RoomImage {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    
+    public List<ImageVariant> getVariants() {
+        return variants;
+    }
+    
+    public void setVariants(List<ImageVariant> variants) {
+        this.variants = variants;
+    }
 }
@@ -0,0 +1,27 @@
+package com.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Total price of a stay computed from the rate calendar.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StayQuote {
+    
+    private UUID roomId;
+    private LocalDate checkIn;
+    private LocalDate checkOut;
+    private long nights;
+    private BigDecimal totalPrice;
+    private BigDecimal averageNightlyRate;
+}
@@ -0,0 +1,20 @@
+package com.example.app.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Location of image bytes written to content-addressed storage.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredImage {
+    
+    private String contentHash; // Lowercase hex SHA-256 of the bytes
+    private long size;
+    private String contentType; // Media type sniffed from the content, when known
+}
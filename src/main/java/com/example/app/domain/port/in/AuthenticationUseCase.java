@@ -2,6 +2,8 @@ package com.example.app.domain.port.in;
 
 import com.example.app.domain.model.User;
 
+import java.time.Instant;
+
 /**
  * Input port (use case interface) for authentication operations.
  * Defines what the application can do regarding authentication.
@@ -32,4 +34,9 @@ public interface AuthenticationUseCase {
      * Invalidate refresh token (logout)
      */
     void invalidateRefreshToken(String refreshToken);
+    
+    /**
+     * Revoke an access token until it expires (logout)
+     */
+    void revokeAccessToken(String tokenId, Instant expiresAt);
 }
@@ -0,0 +1,54 @@
+package com.example.app.domain.port.in;
+
+import com.example.app.domain.model.Booking;
+import com.example.app.domain.model.BulkOperationResult;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Input port (use case) for booking operations.
+ */
+public interface BookingManagementUseCase {
+    
+    /**
+     * Book a room for the half-open stay [checkIn, checkOut)
+     * @param roomId Room ID
+     * @param checkIn Check-in date
+     * @param checkOut Check-out date
+     * @return Confirmed booking
+     */
+    Booking createBooking(UUID roomId, LocalDate checkIn, LocalDate checkOut);
+    
+    /**
+     * Cancel a booking. Cancelling an already cancelled booking is a no-op.
+     * @param bookingId Booking ID
+     * @return Cancelled booking
+     */
+    Booking cancelBooking(UUID bookingId);
+    
+    /**
+     * Create many bookings at once. Availability is checked in memory against one prefetch of
+     * overlapping bookings, including conflicts between items of the same batch.
+     * @param requests Bookings to create (room and stay dates)
+     * @param atomic When true, nothing is written unless every item is valid
+     * @return Per-item results in request order
+     */
+    BulkOperationResult createBookings(List<Booking> requests, boolean atomic);
+    
+    /**
+     * Cancel many bookings at once
+     * @param bookingIds Bookings to cancel
+     * @param atomic When true, nothing is written unless every item is valid
+     * @return Per-item results in request order
+     */
+    BulkOperationResult cancelBookings(List<UUID> bookingIds, boolean atomic);
+    
+    /**
+     * Get a booking by ID
+     * @param bookingId Booking ID
+     * @return Booking
+     */
+    Booking getBookingById(UUID bookingId);
+}
@@ -0,0 +1,29 @@
+package com.example.app.domain.port.in;
+
+import com.example.app.domain.model.BookingArchiveSummary;
+import com.example.app.domain.model.OccupancyReport;
+
+import java.time.LocalDate;
+
+/**
+ * Input port for booking reports.
+ */
+public interface BookingReportUseCase {
+    
+    /**
+     * Summarize archived bookings with check-in dates within [from, to]
+     */
+    BookingArchiveSummary summarizeArchivedBookings(LocalDate from, LocalDate to);
+    
+    /**
+     * Occupancy, ADR and RevPAR for nights within [from, to], computed from daily rollups only
+     * @param granularity DAY or MONTH
+     */
+    OccupancyReport getOccupancyReport(LocalDate from, LocalDate to, String granularity);
+    
+    /**
+     * Recompute all daily rollups from the bookings table
+     * @return Number of rollup rows written
+     */
+    int rebuildDailyRoomStats();
+}
@@ -0,0 +1,49 @@
+package com.example.app.domain.port.in;
+
+import com.example.app.domain.model.ImageUploadSession;
+import com.example.app.domain.model.RoomImage;
+
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Input port for resumable, chunked room image uploads.
+ */
+public interface ImageUploadSessionUseCase {
+    
+    /**
+     * Open an upload session for one image of a room
+     * @param contentHash SHA-256 of the complete image, checked when the session is completed
+     */
+    ImageUploadSession createSession(UUID roomId, String filename, long totalSize, String contentHash,
+                                     boolean main, int displayOrder);
+    
+    /**
+     * Get a session with the chunks received so far
+     */
+    ImageUploadSession getSession(UUID roomId, UUID sessionId);
+    
+    /**
+     * Write one chunk at its offset; sending a chunk again overwrites it
+     * @param length Length of the chunk body, which must match the chunk's expected length
+     * @return Session with the chunks received so far
+     */
+    ImageUploadSession uploadChunk(UUID roomId, UUID sessionId, int index, long length, InputStream data);
+    
+    /**
+     * Verify the hash of the assembled image and attach it to the room
+     * @return Saved room image
+     */
+    RoomImage completeSession(UUID roomId, UUID sessionId);
+    
+    /**
+     * Abort a session and discard the chunks received so far
+     */
+    void cancelSession(UUID roomId, UUID sessionId);
+    
+    /**
+     * Discard every session that has expired
+     * @return Number of deleted sessions
+     */
+    int deleteExpiredSessions();
+}
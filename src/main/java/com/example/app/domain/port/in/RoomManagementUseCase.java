@@ -1,11 +1,17 @@
 package com.example.app.domain.port.in;
 
+import com.example.app.domain.model.ImageSetVersion;
+import com.example.app.domain.model.ImageVariant;
 import com.example.app.domain.model.Room;
 import com.example.app.domain.model.RoomImage;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -65,10 +71,51 @@ public interface RoomManagementUseCase {
      */
     List<RoomImage> getRoomImages(UUID roomId);
     
+    /**
+     * Get all images for many rooms at once, without checking that the rooms exist
+     * @param roomIds Room IDs
+     * @return Images grouped by room ID; rooms without images are absent
+     */
+    Map<UUID, List<RoomImage>> getRoomImagesByRoomIds(Collection<UUID> roomIds);
+    
+    /**
+     * Version stamp of the images of many rooms, for revalidating a cached manifest
+     * @param roomIds Room IDs
+     * @return Image count and latest update time
+     */
+    ImageSetVersion getRoomImagesVersion(Collection<UUID> roomIds);
+    
     /**
      * Get a single image by ID
      * @param imageId Image ID
-     * @return Room image with binary data
+     * @return Room image metadata; the binary content is opened with {@link #getRoomImageContent(RoomImage)}
      */
     RoomImage getRoomImageById(UUID imageId);
+    
+    /**
+     * Delete an image of a room; its stored content is released once no other image or variant uses it
+     * @param roomId Room ID
+     * @param imageId Image ID
+     */
+    void deleteRoomImage(UUID roomId, UUID imageId);
+    
+    /**
+     * Open the binary content of an image for streaming
+     * @param image Image metadata
+     * @return Resource backed by image storage, or by the inline bytes of a not yet migrated image
+     */
+    Resource getRoomImageContent(RoomImage image);
+    
+    /**
+     * Pick the narrowest variant of an image that is at least the requested width
+     * @param imageId Image ID
+     * @param width Requested display width in pixels
+     * @return Optional containing the variant, or empty when the original is the best fit
+     */
+    Optional<ImageVariant> findImageVariant(UUID imageId, int width);
+    
+    /**
+     * Open the binary content of an image variant for streaming
+     */
+    Resource getImageVariantContent(ImageVariant variant);
 }
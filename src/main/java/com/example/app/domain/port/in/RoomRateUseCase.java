@@ -0,0 +1,45 @@
+package com.example.app.domain.port.in;
+
+import com.example.app.domain.model.DailyRate;
+import com.example.app.domain.model.Room;
+import com.example.app.domain.model.StayQuote;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Input port for the room rate calendar and stay pricing.
+ */
+public interface RoomRateUseCase {
+    
+    /**
+     * Set the nightly rate for days [from, to] (inclusive)
+     * @param price New nightly rate, or null to reset the days to the room's base price
+     */
+    void setRates(UUID roomId, LocalDate from, LocalDate to, BigDecimal price);
+    
+    /**
+     * Effective nightly rates for days [from, to] (inclusive)
+     */
+    List<DailyRate> getDailyRates(UUID roomId, LocalDate from, LocalDate to);
+    
+    /**
+     * Price a stay [checkIn, checkOut) in one room
+     */
+    StayQuote quoteStay(UUID roomId, LocalDate checkIn, LocalDate checkOut);
+    
+    /**
+     * Total price of the stay [checkIn, checkOut) for a room
+     */
+    BigDecimal calculateStayPrice(Room room, LocalDate checkIn, LocalDate checkOut);
+    
+    /**
+     * Total price of the stay [checkIn, checkOut) for many rooms, loading missing calendars in one query
+     * @return Room ID to total price
+     */
+    Map<UUID, BigDecimal> calculateStayPrices(Collection<Room> rooms, LocalDate checkIn, LocalDate checkOut);
+}
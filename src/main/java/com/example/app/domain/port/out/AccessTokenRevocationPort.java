@@ -0,0 +1,30 @@
+package com.example.app.domain.port.out;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Output port for revoking access tokens before they expire.
+ * Access tokens are verified without a database lookup, so logging out revokes the token itself,
+ * and changes that must take effect immediately (disabling a user, removing a role) revoke
+ * every token already issued to the user.
+ */
+public interface AccessTokenRevocationPort {
+    
+    /**
+     * Revoke a single access token until it expires
+     */
+    void revokeToken(String tokenId, Instant expiresAt);
+    
+    /**
+     * Revoke every access token issued to the user up to now
+     */
+    void revokeUserTokens(UUID userId);
+    
+    /**
+     * Check if an access token has been revoked, by itself or together with every token of its user.
+     * Answered from memory, without any I/O.
+     * @param tokenId Token id, or null for tokens issued without one
+     */
+    boolean isRevoked(String tokenId, UUID userId, Instant issuedAt);
+}
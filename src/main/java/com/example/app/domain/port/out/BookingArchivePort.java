@@ -0,0 +1,31 @@
+package com.example.app.domain.port.out;
+
+import com.example.app.domain.model.Booking;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Output port for cold storage of bookings that are no longer served from the database.
+ */
+public interface BookingArchivePort {
+    
+    /**
+     * Durably write bookings, sorted by check-in date, as one archive segment.
+     * Bookings that an earlier segment already holds are skipped, so writing the same bookings again is harmless.
+     * @return Identifier of the written segment, or null if every booking was already archived
+     */
+    String writeSegment(List<Booking> bookings);
+    
+    /**
+     * Scan archived bookings whose check-in date falls within [from, to]
+     * @return Number of segments actually read; segments outside the range are skipped via their footer index
+     */
+    int scan(LocalDate from, LocalDate to, Consumer<Booking> consumer);
+    
+    /**
+     * Count archive segments currently on disk
+     */
+    int countSegments();
+}
@@ -0,0 +1,74 @@
+package com.example.app.domain.port.out;
+
+import com.example.app.domain.model.Booking;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Output port for booking persistence.
+ */
+public interface BookingRepositoryPort {
+    
+    /**
+     * Save a booking (create or update)
+     */
+    Booking save(Booking booking);
+    
+    /**
+     * Save bookings using JDBC batching
+     * @return Saved bookings in input order
+     */
+    List<Booking> saveAll(List<Booking> bookings);
+    
+    /**
+     * Find a booking by ID
+     */
+    Optional<Booking> findById(UUID id);
+    
+    /**
+     * Find a booking by ID and lock it for the rest of the transaction
+     */
+    Optional<Booking> findByIdForUpdate(UUID id);
+    
+    /**
+     * Find bookings by IDs and lock them in ID order
+     */
+    List<Booking> findAllByIdsForUpdate(Collection<UUID> ids);
+    
+    /**
+     * Find active bookings of the given rooms that overlap [from, to)
+     */
+    List<Booking> findActiveOverlapping(Collection<UUID> roomIds, LocalDate from, LocalDate to);
+    
+    /**
+     * Set the status of the given bookings to CANCELLED
+     * @return Number of updated rows
+     */
+    int markCancelled(Collection<UUID> ids);
+    
+    /**
+     * Check whether an active booking of the room overlaps [checkIn, checkOut)
+     */
+    boolean existsOverlapping(UUID roomId, LocalDate checkIn, LocalDate checkOut);
+    
+    /**
+     * Find IDs of all rooms that have at least one booking
+     */
+    List<UUID> findDistinctRoomIds();
+    
+    /**
+     * Find bookings checked out before the cutoff, in (check-in, id) order,
+     * starting strictly after the given keyset position
+     */
+    List<Booking> findCheckedOutBefore(LocalDate cutoff, LocalDate afterCheckIn, UUID afterId, int limit);
+    
+    /**
+     * Delete bookings by ID
+     * @return Number of deleted rows
+     */
+    int deleteAllByIds(Collection<UUID> ids);
+}
@@ -0,0 +1,20 @@
+package com.example.app.domain.port.out;
+
+import java.util.UUID;
+
+/**
+ * Output port for publishing domain change events.
+ * Implementations must record the event in the caller's transaction so that
+ * an event exists if and only if the change it describes was committed.
+ */
+public interface DomainEventPublisherPort {
+    
+    /**
+     * Record a domain event for asynchronous delivery
+     * @param aggregateType Type of the changed aggregate (Room, Booking, User)
+     * @param aggregateId ID of the changed aggregate
+     * @param eventType Event type, e.g. ROOM_CREATED
+     * @param payload Event payload, serialized as JSON
+     */
+    void publish(String aggregateType, UUID aggregateId, String eventType, Object payload);
+}
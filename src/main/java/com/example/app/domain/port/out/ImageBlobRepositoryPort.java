@@ -0,0 +1,32 @@
+package com.example.app.domain.port.out;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Output port for the reference-counted registry of objects in image storage.
+ * References are taken and dropped by the image and variant repositories as rows are written and deleted;
+ * this port only serves the cleanup of objects nothing refers to anymore.
+ */
+public interface ImageBlobRepositoryPort {
+    
+    /**
+     * Track a freshly stored object before anything refers to it, so that it is cleaned up
+     * if the upload that stored it never gets persisted
+     */
+    void registerBlob(String contentHash, long size);
+    
+    /**
+     * Find blobs whose reference count dropped to zero before the cutoff
+     * @param releasedBefore Only blobs released before this time are returned
+     * @param limit Maximum number of hashes to return
+     * @return Content hashes, oldest release first
+     */
+    List<String> findUnreferencedBlobs(LocalDateTime releasedBefore, int limit);
+    
+    /**
+     * Remove a blob from the registry if it is still unreferenced
+     * @return true if the blob was removed and its stored object may be deleted
+     */
+    boolean deleteUnreferencedBlob(String contentHash);
+}
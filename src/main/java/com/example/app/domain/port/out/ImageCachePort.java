@@ -0,0 +1,21 @@
+package com.example.app.domain.port.out;
+
+import org.springframework.core.io.Resource;
+
+import java.util.function.Supplier;
+
+/**
+ * Output port for a cache of hot image bytes.
+ * Entries are keyed by content hash, so a cached entry can never become stale.
+ */
+public interface ImageCachePort {
+    
+    /**
+     * Serve an image from the cache, loading and possibly admitting it on a miss
+     * @param contentHash Content hash of the image
+     * @param size Size of the image in bytes
+     * @param loader Opens the image from its backing store
+     * @return Resource served from the cache when the image is cached, otherwise from the loader
+     */
+    Resource getOrLoad(String contentHash, long size, Supplier<Resource> loader);
+}
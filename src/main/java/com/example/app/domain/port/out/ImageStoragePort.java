@@ -0,0 +1,41 @@
+package com.example.app.domain.port.out;
+
+import com.example.app.domain.model.StoredImage;
+import org.springframework.core.io.Resource;
+
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * Output port for image bytes kept outside the database.
+ * Objects are addressed by the SHA-256 of their content, so identical uploads share one object.
+ */
+public interface ImageStoragePort {
+    
+    /**
+     * Durably store the bytes read from the stream
+     * @param content Stream to consume; it is not closed
+     * @return Content hash and size of the stored object
+     */
+    StoredImage store(InputStream content);
+    
+    /**
+     * Open a stored object for streaming
+     * @param contentHash Hash returned by {@link #store(InputStream)}
+     * @return Readable resource backed by the stored object
+     */
+    Resource load(String contentHash);
+    
+    /**
+     * Check whether an object is present in storage
+     */
+    boolean exists(String contentHash);
+    
+    /**
+     * Remove a stored object unless it was written or reused since the cutoff.
+     * Storing content that is already present counts as a reuse, so an object that a concurrent upload
+     * is about to reference again is kept.
+     * @return true if the object was deleted
+     */
+    boolean deleteIfUnusedSince(String contentHash, Instant cutoff);
+}
@@ -0,0 +1,47 @@
+package com.example.app.domain.port.out;
+
+import com.example.app.domain.model.ImageUploadSession;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Output port for upload session metadata and the chunks received per session.
+ */
+public interface ImageUploadSessionRepositoryPort {
+    
+    ImageUploadSession save(ImageUploadSession session);
+    
+    /**
+     * Find a session together with its received chunk indexes
+     */
+    Optional<ImageUploadSession> findById(UUID sessionId);
+    
+    boolean existsById(UUID sessionId);
+    
+    /**
+     * Record a chunk as received and push back the session's expiry
+     */
+    void markChunkReceived(UUID sessionId, int index, LocalDateTime expiresAt);
+    
+    /**
+     * Move a session from one status to another
+     * @return true if the session was in the expected status and has been updated
+     */
+    boolean updateStatus(UUID sessionId, String expectedStatus, String newStatus);
+    
+    void deleteById(UUID sessionId);
+    
+    /**
+     * Find sessions that expired before the given time
+     */
+    List<UUID> findExpiredIds(LocalDateTime now, int limit);
+    
+    /**
+     * Delete a session if it is still expired
+     * @return true if the session was deleted
+     */
+    boolean deleteExpired(UUID sessionId, LocalDateTime now);
+}
@@ -0,0 +1,22 @@
+package com.example.app.domain.port.out;
+
+import com.example.app.domain.model.RoomImage;
+
+import java.util.Collection;
+
+/**
+ * Output port for generating responsive image variants and low-quality placeholders.
+ */
+public interface ImageVariantGeneratorPort {
+    
+    /**
+     * Queue ingest normalization and variant generation for persisted images; returns without waiting for the work
+     */
+    void submit(Collection<RoomImage> images);
+    
+    /**
+     * Compute the BlurHash placeholder of a stored image in the calling thread
+     * @return Placeholder, or null if the image format cannot be decoded
+     */
+    String generatePlaceholder(RoomImage image);
+}
@@ -0,0 +1,30 @@
+package com.example.app.domain.port.out;
+
+import com.example.app.domain.model.ImageVariant;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Output port for responsive image variant metadata.
+ */
+public interface ImageVariantRepositoryPort {
+    
+    /**
+     * Save the variants generated for one image
+     */
+    void saveAll(List<ImageVariant> variants);
+    
+    /**
+     * Find the variants of one image, narrowest first
+     */
+    List<ImageVariant> findByImageId(UUID imageId);
+    
+    /**
+     * Find the variants of many images in one query
+     * @return Variants grouped by image ID, narrowest first; images without variants are absent
+     */
+    Map<UUID, List<ImageVariant>> findByImageIds(Collection<UUID> imageIds);
+}
@@ -0,0 +1,37 @@
+package com.example.app.domain.port.out;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Output port for the durable record of revoked access tokens, by token id and by user.
+ */
+public interface RevokedAccessTokenRepositoryPort {
+    
+    void save(String tokenId, LocalDateTime expiresAt);
+    
+    /**
+     * Find tokens revoked since the given time that have not expired yet
+     * @return Expiry of each revoked token by token id
+     */
+    Map<String, LocalDateTime> findRevokedSince(LocalDateTime since);
+    
+    /**
+     * Record that every token issued to the user up to revokedBefore is revoked, replacing an earlier record
+     * @param expiresAt When the last token covered by the record expires
+     */
+    void saveUserRevocation(UUID userId, LocalDateTime revokedBefore, LocalDateTime expiresAt);
+    
+    /**
+     * Find user revocations recorded since the given time that still cover unexpired tokens
+     * @return Revocation time by user id
+     */
+    Map<UUID, LocalDateTime> findUserRevocationsSince(LocalDateTime since);
+    
+    /**
+     * Delete the records of tokens and user revocations that have expired
+     * @return Number of deleted records
+     */
+    int deleteExpired(LocalDateTime now);
+}
@@ -1,8 +1,12 @@
 package com.example.app.domain.port.out;
 
+import com.example.app.domain.model.ImageSetVersion;
 import com.example.app.domain.model.RoomImage;
+import org.springframework.core.io.Resource;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -35,22 +39,122 @@ public interface RoomImageRepositoryPort {
     Optional<RoomImage> findById(UUID id);
     
     /**
-     * Find all images for a room
+     * Find an image's metadata without reading its binary content
+     * @param id Image ID
+     * @return Optional containing the image metadata if found
+     */
+    Optional<RoomImage> findMetadataById(UUID id);
+    
+    /**
+     * Find all images for a room (metadata only, without binary content)
      * @param roomId Room ID
      * @return List of images
      */
     List<RoomImage> findByRoomId(UUID roomId);
     
     /**
-     * Find the main image for a room
+     * Find all images for many rooms in one query (metadata only, without binary content)
+     * @param roomIds Room IDs
+     * @return Images grouped by room ID, in display order; rooms without images are absent
+     */
+    Map<UUID, List<RoomImage>> findByRoomIds(Collection<UUID> roomIds);
+    
+    /**
+     * Version stamp of the images of many rooms, without reading the images themselves
+     * @param roomIds Room IDs
+     * @return Image count and latest update time
+     */
+    ImageSetVersion findVersionByRoomIds(Collection<UUID> roomIds);
+    
+    /**
+     * Find the main image for a room (metadata only, without binary content)
      * @param roomId Room ID
      * @return Optional containing the main image if found
      */
     Optional<RoomImage> findMainImageByRoomId(UUID roomId);
     
+    /**
+     * Find stored images that have no placeholder yet (metadata only)
+     * @param afterId Keyset position; null to start from the beginning
+     * @param limit Maximum number of images to return
+     * @return Images in ascending ID order
+     */
+    List<RoomImage> findImagesWithoutPlaceholder(UUID afterId, int limit);
+    
+    /**
+     * Set the low-quality placeholder of an image
+     * @param id Image ID
+     * @param placeholder BlurHash string
+     */
+    void updatePlaceholder(UUID id, String placeholder);
+    
+    /**
+     * Point an image at re-encoded content, keeping the image's references to stored content balanced
+     * @param id Image ID
+     * @param expectedHash Current content hash; the image is only updated if it still has it
+     * @param contentHash Hash of the re-encoded object
+     * @param size Size of the re-encoded object
+     * @param contentType Media type of the re-encoded object
+     * @param keepOriginal Keep the previous content referenced as the original instead of releasing it
+     * @return true if the image was updated, false if it was changed or deleted meanwhile
+     */
+    boolean replaceContent(UUID id, String expectedHash, String contentHash, long size, String contentType,
+                           boolean keepOriginal);
+    
+    /**
+     * Record that an image went through ingest unchanged, so its original size equals its size
+     * @param id Image ID
+     */
+    void markContentUnchanged(UUID id);
+    
+    /**
+     * Unset the main flag of a room's current main image
+     * @param roomId Room ID
+     */
+    void clearMainImage(UUID roomId);
+    
     /**
      * Delete all images for a room
      * @param roomId Room ID
      */
     void deleteByRoomId(UUID roomId);
+    
+    /**
+     * Delete a single image and its variants
+     * @param id Image ID
+     * @return true if the image existed
+     */
+    boolean deleteById(UUID id);
+    
+    /**
+     * Find legacy images whose bytes are still stored inline in the database
+     * @param afterId Keyset position; null to start from the beginning
+     * @param limit Maximum number of IDs to return
+     * @return Image IDs in ascending order
+     */
+    List<UUID> findInlineImageIds(UUID afterId, int limit);
+    
+    /**
+     * Read the inline bytes of a legacy image
+     * @param id Image ID
+     * @return Optional containing the bytes if the image still holds them inline
+     */
+    Optional<byte[]> findInlineImageData(UUID id);
+    
+    /**
+     * Open the inline bytes of a legacy image for streaming; byte ranges are read from the database on demand
+     * @param id Image ID
+     * @param size Length of the inline bytes
+     * @return Resource backed by the image_data column
+     */
+    Resource openInlineImageData(UUID id, long size);
+    
+    /**
+     * Reference stored content and clear the inline bytes of a legacy image
+     * @param id Image ID
+     * @param contentHash Hash of the stored object
+     * @param size Size of the stored object
+     * @return true if the image was updated, false if it was already migrated or deleted
+     */
+    boolean moveToStorage(UUID id, String contentHash, long size);
 }
@@ -0,0 +1,35 @@
+package com.example.app.domain.port.out;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Output port for per-day room rate overrides.
+ */
+public interface RoomRateRepositoryPort {
+    
+    /**
+     * Set the nightly rate for every day in [from, to]; both writes also record the change of the room
+     */
+    void saveRates(UUID roomId, LocalDate from, LocalDate to, long priceCents);
+    
+    /**
+     * Remove rate overrides for [from, to]
+     */
+    void deleteRates(UUID roomId, LocalDate from, LocalDate to);
+    
+    /**
+     * Load overrides of the given rooms for days in [from, to)
+     * @return Room ID to (day to price in cents)
+     */
+    Map<UUID, Map<LocalDate, Long>> findRates(Collection<UUID> roomIds, LocalDate from, LocalDate to);
+    
+    /**
+     * IDs of rooms whose overrides changed at or after the given time
+     */
+    List<UUID> findRoomsChangedSince(LocalDateTime since);
+}
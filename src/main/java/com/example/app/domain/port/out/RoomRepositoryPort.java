@@ -4,6 +4,8 @@ import com.example.app.domain.model.Room;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -47,4 +49,24 @@ public interface RoomRepositoryPort {
      * @param id Room ID
      */
     void deleteById(UUID id);
+    
+    /**
+     * Find a room by ID and lock it for the rest of the transaction (excluding soft-deleted)
+     * @param id Room ID
+     * @return Optional containing the locked room if found
+     */
+    Optional<Room> findByIdForUpdate(UUID id);
+    
+    /**
+     * Find rooms by IDs and lock them in ID order (excluding soft-deleted)
+     * @param ids Room IDs
+     * @return Locked rooms that exist
+     */
+    List<Room> findAllByIdsForUpdate(Collection<UUID> ids);
+    
+    /**
+     * Count rooms that are not soft-deleted
+     * @return Number of active rooms
+     */
+    long countActive();
 }
@@ -5,6 +5,8 @@ import com.example.app.domain.valueobject.RoomSearchCriteria;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * Output port for room search repository operations.
  * Defines the contract for persistence layer.
@@ -19,4 +21,13 @@ public interface RoomSearchRepositoryPort {
      * @return Page of rooms matching the criteria
      */
     Page<Room> findByCriteria(RoomSearchCriteria criteria, Pageable pageable);
+    
+    /**
+     * Find up to limit rooms matching the search criteria, without pagination
+     * 
+     * @param criteria Search criteria with filters
+     * @param limit Maximum number of rooms to return
+     * @return Rooms matching the criteria
+     */
+    List<Room> findAllByCriteria(RoomSearchCriteria criteria, int limit);
 }
@@ -0,0 +1,47 @@
+package com.example.app.domain.port.out;
+
+import com.example.app.domain.model.Booking;
+import com.example.app.domain.model.DailyStats;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Output port for the daily per-room booking rollups.
+ */
+public interface RoomStatsRepositoryPort {
+    
+    /**
+     * Add a booking's nights and revenue to the rollups
+     */
+    void addBooking(Booking booking);
+    
+    /**
+     * Remove a booking's nights and revenue from the rollups
+     */
+    void removeBooking(Booking booking);
+    
+    /**
+     * Add the nights and revenue of many persisted bookings to the rollups
+     */
+    void addBookings(Collection<UUID> bookingIds);
+    
+    /**
+     * Remove the nights and revenue of many persisted bookings from the rollups
+     */
+    void removeBookings(Collection<UUID> bookingIds);
+    
+    /**
+     * Replace the rollups of the given rooms with values recomputed from their bookings.
+     * Nights before a room's earliest active booking are kept, since they may cover archived bookings.
+     * @return Number of rollup rows written
+     */
+    int rebuildForRooms(Collection<UUID> roomIds);
+    
+    /**
+     * Totals across all rooms for each night in [from, to] that has sales
+     */
+    List<DailyStats> findDailyTotals(LocalDate from, LocalDate to);
+}
@@ -1,5 +1,6 @@
 package com.example.app.domain.port.out;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,4 +33,17 @@ public interface TokenRepositoryPort {
      * Check if refresh token exists and is valid
      */
     boolean isRefreshTokenValid(String token);
+    
+    /**
+     * Delete up to limit refresh tokens that expired before the given time
+     * @return Number of deleted tokens
+     */
+    int deleteExpiredRefreshTokens(LocalDateTime now, int limit);
+    
+    long countRefreshTokens();
+    
+    /**
+     * Size of the refresh token table including its indexes, in bytes
+     */
+    long refreshTokenStorageBytes();
 }
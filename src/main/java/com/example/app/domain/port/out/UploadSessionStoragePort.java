@@ -0,0 +1,34 @@
+package com.example.app.domain.port.out;
+
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Output port for the temporary files chunked uploads are assembled in.
+ */
+public interface UploadSessionStoragePort {
+    
+    /**
+     * Write exactly {@code length} bytes of the stream into the session's file at the given offset.
+     * The chunk is durable once this returns.
+     * @throws IllegalArgumentException if the stream holds fewer or more bytes than {@code length}
+     */
+    void writeChunk(UUID sessionId, long offset, long length, InputStream data);
+    
+    /**
+     * Open the assembled file of a session
+     */
+    InputStream open(UUID sessionId);
+    
+    /**
+     * Delete the file of a session if it exists
+     */
+    void delete(UUID sessionId);
+    
+    /**
+     * Find sessions whose file has not been written to since the given time
+     */
+    List<UUID> findNotModifiedSince(Instant cutoff);
+}
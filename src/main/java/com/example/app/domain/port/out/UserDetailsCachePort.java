@@ -0,0 +1,15 @@
+package com.example.app.domain.port.out;
+
+import java.util.UUID;
+
+/**
+ * Output port for the cache of authentication details loaded per user.
+ * Anything that changes what a user may do must evict the user so the change applies to the next request.
+ */
+public interface UserDetailsCachePort {
+    
+    /**
+     * Drop every cached entry of the user, whichever name or email it was looked up by
+     */
+    void evictUser(UUID userId);
+}
@@ -2,6 +2,7 @@ package com.example.app.domain.port.out;
 
 import com.example.app.domain.model.User;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -57,6 +58,11 @@ public interface UserRepositoryPort {
      */
     long count();
     
+    /**
+     * IDs of users changed (including soft-deleted) at or after the given time
+     */
+    List<UUID> findIdsUpdatedSince(LocalDateTime since);
+    
     /**
      * Delete user
      */
@@ -10,8 +10,12 @@ import java.util.List;
  */
 public class RoomSearchCriteria {
     
+    public static final String SORT_TOTAL_PRICE = "totalPrice";
+    
     private final BigDecimal minPrice;
     private final BigDecimal maxPrice;
+    private final BigDecimal minTotalPrice;
+    private final BigDecimal maxTotalPrice;
     private final Integer minGuests;
     private final List<BedType> bedTypes;
     private final List<String> amenities;
@@ -23,12 +27,15 @@ public class RoomSearchCriteria {
     private final Integer page;
     private final Integer size;
     
-    public RoomSearchCriteria(BigDecimal minPrice, BigDecimal maxPrice, Integer minGuests,
+    public RoomSearchCriteria(BigDecimal minPrice, BigDecimal maxPrice,
+                              BigDecimal minTotalPrice, BigDecimal maxTotalPrice, Integer minGuests,
                               List<BedType> bedTypes, List<String> amenities, List<RoomView> views,
                               LocalDate checkIn, LocalDate checkOut,
                               String sortBy, String sortDirection, Integer page, Integer size) {
         this.minPrice = minPrice;
         this.maxPrice = maxPrice;
+        this.minTotalPrice = minTotalPrice;
+        this.maxTotalPrice = maxTotalPrice;
         this.minGuests = minGuests;
         this.bedTypes = bedTypes;
         this.amenities = amenities;
@@ -61,6 +68,21 @@ public class RoomSearchCriteria {
             throw new IllegalArgumentException("maxPrice must be non-negative");
         }
         
+        // Validate total stay price range
+        if (minTotalPrice != null && maxTotalPrice != null && minTotalPrice.compareTo(maxTotalPrice) > 0) {
+            throw new IllegalArgumentException("minTotalPrice must be less than or equal to maxTotalPrice");
+        }
+        
+        if ((minTotalPrice != null && minTotalPrice.compareTo(BigDecimal.ZERO) < 0)
+                || (maxTotalPrice != null && maxTotalPrice.compareTo(BigDecimal.ZERO) < 0)) {
+            throw new IllegalArgumentException("Total price filters must be non-negative");
+        }
+        
+        // Total stay price needs a stay
+        if (requiresStayPricing() && (checkIn == null || checkOut == null)) {
+            throw new IllegalArgumentException("checkIn and checkOut are required to filter or sort by totalPrice");
+        }
+        
         // Validate date range
         if (checkIn != null && checkOut != null && !checkIn.isBefore(checkOut)) {
             throw new IllegalArgumentException("checkIn must be before checkOut");
@@ -85,6 +107,20 @@ public class RoomSearchCriteria {
         }
     }
     
+    /**
+     * Whether results must be filtered or ordered by the total price of the requested stay
+     */
+    public boolean requiresStayPricing() {
+        return minTotalPrice != null || maxTotalPrice != null || SORT_TOTAL_PRICE.equalsIgnoreCase(sortBy);
+    }
+    
+    /**
+     * Whether a stay was requested, so a total price can be shown
+     */
+    public boolean hasStay() {
+        return checkIn != null && checkOut != null;
+    }
+    
     // Getters
     public BigDecimal getMinPrice() {
         return minPrice;
@@ -94,6 +130,14 @@ public class RoomSearchCriteria {
         return maxPrice;
     }
     
+    public BigDecimal getMinTotalPrice() {
+        return minTotalPrice;
+    }
+    
+    public BigDecimal getMaxTotalPrice() {
+        return maxTotalPrice;
+    }
+    
     public Integer getMinGuests() {
         return minGuests;
     }
@@ -0,0 +1,79 @@
+package com.example.app.infrastructure.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Layout constants and primitive encoders shared by the booking segment writer and reader.
+ *
+ * A segment file is a sequence of Deflate-compressed column blocks followed by a footer:
+ * <pre>
+ * [id][roomId][checkIn][nights][status][createdAt][price]   compressed column blocks
+ * footer:  version:int rowCount:int minCheckIn:long maxCheckIn:long
+ *          dictSize:int (len:short utf8)*                    status dictionary
+ *          (offset:long compressed:int raw:int)*7            column directory
+ * footerLength:int magic:int
+ * </pre>
+ * Dates are stored as zig-zag varint deltas from the previous row; UUIDs as 16 raw bytes;
+ * the nightly price as a zig-zag varint in cents, -1 when unknown.
+ * Version 1 segments have no price column and are still readable.
+ */
+final class BookingSegmentFormat {
+    
+    static final int MAGIC = 0x424B5347; // "BKSG"
+    static final int VERSION = 2;
+    static final int VERSION_WITHOUT_PRICE = 1;
+    static final int TRAILER_BYTES = Integer.BYTES * 2;
+    static final String FILE_SUFFIX = ".seg";
+    
+    static final int COL_ID = 0;
+    static final int COL_ROOM_ID = 1;
+    static final int COL_CHECK_IN = 2;
+    static final int COL_NIGHTS = 3;
+    static final int COL_STATUS = 4;
+    static final int COL_CREATED_AT = 5;
+    static final int COL_PRICE = 6;
+    static final int COLUMN_COUNT = 7;
+    static final long NO_PRICE = -1;
+    
+    private BookingSegmentFormat() {
+        // Prevent instantiation
+    }
+    
+    static void writeUuid(ByteArrayOutputStream out, UUID value) {
+        writeLong(out, value.getMostSignificantBits());
+        writeLong(out, value.getLeastSignificantBits());
+    }
+    
+    static UUID readUuid(ByteBuffer in) {
+        return new UUID(in.getLong(), in.getLong());
+    }
+    
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+    
+    static long readVarLong(ByteBuffer in) {
+        long result = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (result >>> 1) ^ -(result & 1);
+    }
+    
+    private static void writeLong(ByteArrayOutputStream out, long value) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (value >>> shift));
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.app.infrastructure.archive;
+
+import com.example.app.domain.model.Booking;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import static com.example.app.infrastructure.archive.BookingSegmentFormat.*;
+
+/**
+ * Reads columnar booking segments through memory-mapped I/O.
+ * Only the footer is touched to decide whether a segment overlaps a date range.
+ */
+final class BookingSegmentReader {
+    
+    /**
+     * Parsed segment footer: row count, check-in range, status dictionary and column directory
+     */
+    static final class Footer {
+        final int columnCount;
+        final int rowCount;
+        final long minCheckIn;
+        final long maxCheckIn;
+        final String[] dictionary;
+        final long[] offsets = new long[COLUMN_COUNT];
+        final int[] compressedLengths = new int[COLUMN_COUNT];
+        final int[] rawLengths = new int[COLUMN_COUNT];
+        
+        private Footer(int columnCount, int rowCount, long minCheckIn, long maxCheckIn, String[] dictionary) {
+            this.columnCount = columnCount;
+            this.rowCount = rowCount;
+            this.minCheckIn = minCheckIn;
+            this.maxCheckIn = maxCheckIn;
+            this.dictionary = dictionary;
+        }
+        
+        boolean overlaps(LocalDate from, LocalDate to) {
+            return maxCheckIn >= from.toEpochDay() && minCheckIn <= to.toEpochDay();
+        }
+    }
+    
+    /**
+     * Read only the footer of a segment file
+     */
+    static Footer readFooter(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < TRAILER_BYTES) {
+                throw new IOException("Truncated booking segment: " + file);
+            }
+            ByteBuffer trailer = ByteBuffer.allocate(TRAILER_BYTES);
+            channel.read(trailer, size - TRAILER_BYTES);
+            trailer.flip();
+            int footerLength = trailer.getInt();
+            if (trailer.getInt() != MAGIC || footerLength <= 0 || footerLength > size - TRAILER_BYTES) {
+                throw new IOException("Not a booking segment: " + file);
+            }
+            
+            ByteBuffer in = ByteBuffer.allocate(footerLength);
+            channel.read(in, size - TRAILER_BYTES - footerLength);
+            in.flip();
+            return parseFooter(in, file);
+        }
+    }
+    
+    /**
+     * Decode rows with check-in dates within [from, to] and hand them to the consumer
+     * @return Number of matching rows
+     */
+    static long scan(Path file, Footer footer, LocalDate from, LocalDate to, Consumer<Booking> consumer)
+            throws IOException {
+        long fromDay = from.toEpochDay();
+        long toDay = to.toEpochDay();
+        
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            
+            ByteBuffer ids = inflate(mapped, footer, COL_ID);
+            ByteBuffer roomIds = inflate(mapped, footer, COL_ROOM_ID);
+            ByteBuffer checkIns = inflate(mapped, footer, COL_CHECK_IN);
+            ByteBuffer nights = inflate(mapped, footer, COL_NIGHTS);
+            ByteBuffer statuses = inflate(mapped, footer, COL_STATUS);
+            ByteBuffer createdAts = inflate(mapped, footer, COL_CREATED_AT);
+            ByteBuffer prices = footer.columnCount > COL_PRICE ? inflate(mapped, footer, COL_PRICE) : null;
+            
+            long matched = 0;
+            long checkIn = footer.minCheckIn;
+            long createdAt = 0;
+            for (int row = 0; row < footer.rowCount; row++) {
+                checkIn += readVarLong(checkIns);
+                if (checkIn > toDay) {
+                    // Rows are written in check-in order
+                    break;
+                }
+                
+                long stayNights = readVarLong(nights);
+                createdAt += readVarLong(createdAts);
+                int statusCode = statuses.get() & 0xFF;
+                long priceCents = prices != null ? readVarLong(prices) : NO_PRICE;
+                if (checkIn < fromDay) {
+                    ids.position(ids.position() + 16);
+                    roomIds.position(roomIds.position() + 16);
+                    continue;
+                }
+                
+                LocalDate checkInDate = LocalDate.ofEpochDay(checkIn);
+                consumer.accept(Booking.builder()
+                        .id(readUuid(ids))
+                        .roomId(readUuid(roomIds))
+                        .checkInDate(checkInDate)
+                        .checkOutDate(checkInDate.plusDays(stayNights))
+                        .status(footer.dictionary[statusCode])
+                        .createdAt(LocalDateTime.ofEpochSecond(createdAt, 0, ZoneOffset.UTC))
+                        .pricePerNight(priceCents != NO_PRICE ? BigDecimal.valueOf(priceCents, 2) : null)
+                        .build());
+                matched++;
+            }
+            return matched;
+        }
+    }
+    
+    private static Footer parseFooter(ByteBuffer in, Path file) throws IOException {
+        int version = in.getInt();
+        if (version != VERSION && version != VERSION_WITHOUT_PRICE) {
+            throw new IOException("Unsupported booking segment version " + version + ": " + file);
+        }
+        int columnCount = version == VERSION_WITHOUT_PRICE ? COL_PRICE : COLUMN_COUNT;
+        int rowCount = in.getInt();
+        long minCheckIn = in.getLong();
+        long maxCheckIn = in.getLong();
+        
+        String[] dictionary = new String[in.getInt()];
+        for (int i = 0; i < dictionary.length; i++) {
+            byte[] encoded = new byte[in.getShort()];
+            in.get(encoded);
+            dictionary[i] = new String(encoded, StandardCharsets.UTF_8);
+        }
+        
+        Footer footer = new Footer(columnCount, rowCount, minCheckIn, maxCheckIn, dictionary);
+        for (int column = 0; column < columnCount; column++) {
+            footer.offsets[column] = in.getLong();
+            footer.compressedLengths[column] = in.getInt();
+            footer.rawLengths[column] = in.getInt();
+        }
+        return footer;
+    }
+    
+    private static ByteBuffer inflate(MappedByteBuffer mapped, Footer footer, int column) throws IOException {
+        ByteBuffer compressed = mapped.slice((int) footer.offsets[column], footer.compressedLengths[column]);
+        byte[] raw = new byte[footer.rawLengths[column]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int total = 0;
+            while (total < raw.length && !inflater.finished()) {
+                int count = inflater.inflate(raw, total, raw.length - total);
+                if (count == 0 && inflater.needsInput()) {
+                    break;
+                }
+                total += count;
+            }
+            if (total != raw.length) {
+                throw new IOException("Corrupt booking segment column " + column);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt booking segment column " + column, e);
+        } finally {
+            inflater.end();
+        }
+        return ByteBuffer.wrap(raw);
+    }
+}
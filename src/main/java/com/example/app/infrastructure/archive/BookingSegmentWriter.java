@@ -0,0 +1,178 @@
+package com.example.app.infrastructure.archive;
+
+import com.example.app.domain.model.Booking;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+import static com.example.app.infrastructure.archive.BookingSegmentFormat.*;
+
+/**
+ * Encodes a check-in ordered batch of bookings into a single columnar segment file.
+ */
+final class BookingSegmentWriter {
+    
+    private final int compressionLevel;
+    
+    BookingSegmentWriter(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+    
+    /**
+     * Write the bookings to the target file and force it to disk
+     */
+    void write(List<Booking> bookings, Path target) throws IOException {
+        int rows = bookings.size();
+        ByteArrayOutputStream ids = new ByteArrayOutputStream(rows * 16);
+        ByteArrayOutputStream roomIds = new ByteArrayOutputStream(rows * 16);
+        ByteArrayOutputStream checkIns = new ByteArrayOutputStream(rows);
+        ByteArrayOutputStream nights = new ByteArrayOutputStream(rows);
+        ByteArrayOutputStream statuses = new ByteArrayOutputStream(rows);
+        ByteArrayOutputStream createdAts = new ByteArrayOutputStream(rows * 2);
+        ByteArrayOutputStream prices = new ByteArrayOutputStream(rows * 3);
+        
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> dictionaryValues = new ArrayList<>();
+        long minCheckIn = bookings.get(0).getCheckInDate().toEpochDay();
+        long maxCheckIn = minCheckIn;
+        long previousCheckIn = minCheckIn;
+        long previousCreatedAt = 0;
+        
+        for (Booking booking : bookings) {
+            long checkIn = booking.getCheckInDate().toEpochDay();
+            long createdAt = booking.getCreatedAt() != null
+                    ? booking.getCreatedAt().toEpochSecond(ZoneOffset.UTC)
+                    : previousCreatedAt;
+            
+            writeUuid(ids, booking.getId());
+            writeUuid(roomIds, booking.getRoomId());
+            writeVarLong(checkIns, checkIn - previousCheckIn);
+            writeVarLong(nights, booking.getNights());
+            writeVarLong(createdAts, createdAt - previousCreatedAt);
+            writeVarLong(prices, toCents(booking.getPricePerNight()));
+            
+            Integer code = dictionary.get(booking.getStatus());
+            if (code == null) {
+                if (dictionaryValues.size() == 255) {
+                    throw new IllegalStateException("Too many distinct booking statuses for one segment");
+                }
+                code = dictionaryValues.size();
+                dictionary.put(booking.getStatus(), code);
+                dictionaryValues.add(booking.getStatus());
+            }
+            statuses.write(code);
+            
+            minCheckIn = Math.min(minCheckIn, checkIn);
+            maxCheckIn = Math.max(maxCheckIn, checkIn);
+            previousCheckIn = checkIn;
+            previousCreatedAt = createdAt;
+        }
+        
+        byte[][] raw = new byte[COLUMN_COUNT][];
+        raw[COL_ID] = ids.toByteArray();
+        raw[COL_ROOM_ID] = roomIds.toByteArray();
+        raw[COL_CHECK_IN] = checkIns.toByteArray();
+        raw[COL_NIGHTS] = nights.toByteArray();
+        raw[COL_STATUS] = statuses.toByteArray();
+        raw[COL_CREATED_AT] = createdAts.toByteArray();
+        raw[COL_PRICE] = prices.toByteArray();
+        
+        try (FileChannel channel = FileChannel.open(target,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long[] offsets = new long[COLUMN_COUNT];
+            int[] compressedLengths = new int[COLUMN_COUNT];
+            
+            long position = 0;
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                byte[] compressed = compress(raw[column]);
+                offsets[column] = position;
+                compressedLengths[column] = compressed.length;
+                writeFully(channel, ByteBuffer.wrap(compressed));
+                position += compressed.length;
+            }
+            
+            ByteBuffer footer = buildFooter(rows, minCheckIn, maxCheckIn, dictionaryValues,
+                    offsets, compressedLengths, raw);
+            writeFully(channel, footer);
+            channel.force(true);
+        }
+    }
+    
+    private ByteBuffer buildFooter(int rows, long minCheckIn, long maxCheckIn, List<String> dictionaryValues,
+                                   long[] offsets, int[] compressedLengths, byte[][] raw) {
+        List<byte[]> encodedValues = new ArrayList<>(dictionaryValues.size());
+        int dictionaryBytes = 0;
+        for (String value : dictionaryValues) {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            encodedValues.add(encoded);
+            dictionaryBytes += Short.BYTES + encoded.length;
+        }
+        
+        int footerLength = Integer.BYTES * 2 + Long.BYTES * 2
+                + Integer.BYTES + dictionaryBytes
+                + COLUMN_COUNT * (Long.BYTES + Integer.BYTES * 2);
+        
+        ByteBuffer footer = ByteBuffer.allocate(footerLength + TRAILER_BYTES);
+        footer.putInt(VERSION);
+        footer.putInt(rows);
+        footer.putLong(minCheckIn);
+        footer.putLong(maxCheckIn);
+        footer.putInt(encodedValues.size());
+        for (byte[] encoded : encodedValues) {
+            footer.putShort((short) encoded.length);
+            footer.put(encoded);
+        }
+        for (int column = 0; column < COLUMN_COUNT; column++) {
+            footer.putLong(offsets[column]);
+            footer.putInt(compressedLengths[column]);
+            footer.putInt(raw[column].length);
+        }
+        footer.putInt(footerLength);
+        footer.putInt(MAGIC);
+        footer.flip();
+        return footer;
+    }
+    
+    private long toCents(BigDecimal price) {
+        if (price == null) {
+            return NO_PRICE;
+        }
+        return price.setScale(2, RoundingMode.HALF_UP).movePointRight(2).longValueExact();
+    }
+    
+    private byte[] compress(byte[] input) {
+        Deflater deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int count = deflater.deflate(buffer);
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    private void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.app.infrastructure.archive;
+
+import com.example.app.domain.model.Booking;
+import com.example.app.domain.port.out.BookingArchivePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing BookingArchivePort with columnar segment files on local disk.
+ * Segments are immutable once written, so parsed footers are cached by file name.
+ * Writing is idempotent: bookings already present in an overlapping segment are left out,
+ * so a run interrupted after writing but before deleting never archives a booking twice.
+ */
+@Slf4j
+@Component
+public class LocalDiskBookingArchive implements BookingArchivePort {
+    
+    private final Path directory;
+    private final BookingSegmentWriter writer;
+    private final Map<Path, BookingSegmentReader.Footer> footers = new ConcurrentHashMap<>();
+    
+    public LocalDiskBookingArchive(
+            @Value("${app.archive.bookings.directory:./data/archive/bookings}") String directory,
+            @Value("${app.archive.bookings.compression-level:6}") int compressionLevel) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.writer = new BookingSegmentWriter(compressionLevel);
+    }
+    
+    @Override
+    public String writeSegment(List<Booking> bookings) {
+        if (bookings.isEmpty()) {
+            throw new IllegalArgumentException("Cannot archive an empty booking segment");
+        }
+        
+        Set<UUID> alreadyArchived = new HashSet<>();
+        scan(bookings.get(0).getCheckInDate(), bookings.get(bookings.size() - 1).getCheckInDate(),
+                booking -> alreadyArchived.add(booking.getId()));
+        if (!alreadyArchived.isEmpty()) {
+            bookings = bookings.stream()
+                    .filter(booking -> !alreadyArchived.contains(booking.getId()))
+                    .collect(Collectors.toList());
+            log.info("Skipping {} bookings already archived by an earlier run", alreadyArchived.size());
+            if (bookings.isEmpty()) {
+                return null;
+            }
+        }
+        
+        String name = String.format("bookings-%s-%s-%s%s",
+                bookings.get(0).getCheckInDate(),
+                bookings.get(bookings.size() - 1).getCheckInDate(),
+                UUID.randomUUID().toString().substring(0, 8),
+                BookingSegmentFormat.FILE_SUFFIX);
+        Path target = directory.resolve(name);
+        Path temp = directory.resolve(name + ".tmp");
+        
+        try {
+            Files.createDirectories(directory);
+            writer.write(bookings, temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("Failed to write booking archive segment " + name, e);
+        }
+        
+        log.info("Archived {} bookings to segment {}", bookings.size(), name);
+        return name;
+    }
+    
+    @Override
+    public int scan(LocalDate from, LocalDate to, Consumer<Booking> consumer) {
+        int scanned = 0;
+        for (Path segment : listSegments()) {
+            try {
+                BookingSegmentReader.Footer footer = footer(segment);
+                if (!footer.overlaps(from, to)) {
+                    continue;
+                }
+                BookingSegmentReader.scan(segment, footer, from, to, consumer);
+                scanned++;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read booking archive segment " + segment.getFileName(), e);
+            }
+        }
+        return scanned;
+    }
+    
+    @Override
+    public int countSegments() {
+        return listSegments().size();
+    }
+    
+    private BookingSegmentReader.Footer footer(Path segment) throws IOException {
+        BookingSegmentReader.Footer footer = footers.get(segment);
+        if (footer == null) {
+            footer = BookingSegmentReader.readFooter(segment);
+            footers.put(segment, footer);
+        }
+        return footer;
+    }
+    
+    private List<Path> listSegments() {
+        List<Path> segments = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + BookingSegmentFormat.FILE_SUFFIX)) {
+            stream.forEach(segments::add);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list booking archive segments", e);
+        }
+        segments.sort(null);
+        return segments;
+    }
+    
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary archive file {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.app.infrastructure.audit;
 
+import com.example.app.common.util.ClientIpResolver;
+import com.example.app.infrastructure.security.jwt.JwtUserPrincipal;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -41,7 +43,7 @@ public class AuditAspect {
             if (authentication != null && authentication.isAuthenticated() && 
                 !authentication.getPrincipal().equals("anonymousUser")) {
                 username = authentication.getName();
-                // You can extract userId from authentication if needed
+                userId = getUserId(authentication);
             }
             
             String entityId = extractEntityId(result);
@@ -54,7 +56,7 @@ public class AuditAspect {
                     entityId,
                     request != null ? request.getMethod() : null,
                     request != null ? request.getRequestURI() : null,
-                    request != null ? getClientIp(request) : null,
+                    request != null ? ClientIpResolver.resolve(request) : null,
                     request != null ? request.getHeader("User-Agent") : null,
                     true,
                     null
@@ -79,6 +81,7 @@ public class AuditAspect {
             if (authentication != null && authentication.isAuthenticated() && 
                 !authentication.getPrincipal().equals("anonymousUser")) {
                 username = authentication.getName();
+                userId = getUserId(authentication);
             }
             
             auditService.logAction(
@@ -89,7 +92,7 @@ public class AuditAspect {
                     null,
                     request != null ? request.getMethod() : null,
                     request != null ? request.getRequestURI() : null,
-                    request != null ? getClientIp(request) : null,
+                    request != null ? ClientIpResolver.resolve(request) : null,
                     request != null ? request.getHeader("User-Agent") : null,
                     false,
                     exception.getMessage()
@@ -104,15 +107,8 @@ public class AuditAspect {
         return attributes != null ? attributes.getRequest() : null;
     }
     
-    private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        return ip;
+    private UUID getUserId(Authentication authentication) {
+        return authentication.getPrincipal() instanceof JwtUserPrincipal principal ? principal.getUserId() : null;
     }
     
     private String extractEntityId(Object result) {
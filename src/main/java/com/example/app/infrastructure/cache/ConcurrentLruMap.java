@@ -0,0 +1,114 @@
+package com.example.app.infrastructure.cache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Bounded map with approximate LRU eviction for caches read on every request.
+ * Reads take no lock: a hit is a ConcurrentHashMap lookup plus a write of the entry's access time.
+ * Once a put takes the map over its bound, that thread evicts the least recently read entries in one batch
+ * of a sixteenth of the bound, so the sort over all entries is paid once per many puts; concurrent puts
+ * may briefly overshoot the bound meanwhile.
+ */
+public final class ConcurrentLruMap<K, V> {
+    
+    private final int maxEntries;
+    private final int evictionBatch;
+    private final ConcurrentHashMap<K, Node<V>> nodes = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    
+    public ConcurrentLruMap(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.evictionBatch = Math.max(1, maxEntries / 16);
+    }
+    
+    /**
+     * @return Value for the key, or null if absent
+     */
+    public V get(K key) {
+        Node<V> node = nodes.get(key);
+        if (node == null) {
+            return null;
+        }
+        node.lastAccess = System.nanoTime();
+        return node.value;
+    }
+    
+    public void put(K key, V value) {
+        nodes.put(key, new Node<>(value));
+        if (nodes.size() > maxEntries) {
+            evictLeastRecentlyUsed();
+        }
+    }
+    
+    /**
+     * Remove the key only while it still maps to the given value, so a concurrent put is not undone
+     */
+    public void remove(K key, V value) {
+        Node<V> node = nodes.get(key);
+        if (node != null && node.value == value) {
+            nodes.remove(key, node);
+        }
+    }
+    
+    /**
+     * @return Number of entries removed
+     */
+    public int removeIf(Predicate<V> filter) {
+        int removed = 0;
+        for (Map.Entry<K, Node<V>> entry : nodes.entrySet()) {
+            if (filter.test(entry.getValue().value) && nodes.remove(entry.getKey(), entry.getValue())) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+    
+    public int size() {
+        return nodes.size();
+    }
+    
+    private void evictLeastRecentlyUsed() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int excess = nodes.size() - maxEntries;
+            if (excess <= 0) {
+                return;
+            }
+            // Access time of the newest entry to evict; entries read at or before it go
+            long[] accessTimes = nodes.values().stream().mapToLong(node -> node.lastAccess).toArray();
+            int toRemove = Math.min(accessTimes.length, excess + evictionBatch);
+            Arrays.sort(accessTimes);
+            long cutoff = accessTimes[toRemove - 1];
+            
+            int removed = 0;
+            for (Map.Entry<K, Node<V>> entry : nodes.entrySet()) {
+                if (removed >= toRemove) {
+                    break;
+                }
+                if (entry.getValue().lastAccess <= cutoff && nodes.remove(entry.getKey(), entry.getValue())) {
+                    removed++;
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+    
+    private static final class Node<V> {
+        private final V value;
+        private volatile long lastAccess = System.nanoTime();
+        
+        private Node(V value) {
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.app.infrastructure.cache;
+
+/**
+ * Count-min sketch of recent access frequency used for TinyLFU admission.
+ * Four byte counters per key saturate at 15, and all counters are halved once the number of
+ * increments reaches the sample size, so the estimate follows the recent popularity of a key.
+ * Not thread-safe; callers synchronize.
+ */
+class FrequencySketch {
+    
+    private static final int MAX_COUNT = 15;
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+    
+    private final byte[] counters;
+    private final int mask;
+    private final int sampleSize;
+    private int additions;
+    
+    FrequencySketch(int expectedEntries) {
+        int width = Integer.highestOneBit(Math.max(64, expectedEntries * 4) - 1) << 1;
+        this.counters = new byte[width];
+        this.mask = width - 1;
+        this.sampleSize = 10 * Math.max(16, expectedEntries);
+    }
+    
+    void increment(Object key) {
+        int hash = key.hashCode();
+        boolean added = false;
+        for (long seed : SEEDS) {
+            int index = indexOf(hash, seed);
+            if (counters[index] < MAX_COUNT) {
+                counters[index]++;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+    
+    int frequency(Object key) {
+        int hash = key.hashCode();
+        int frequency = MAX_COUNT;
+        for (long seed : SEEDS) {
+            frequency = Math.min(frequency, counters[indexOf(hash, seed)]);
+        }
+        return frequency;
+    }
+    
+    private int indexOf(int hash, long seed) {
+        long h = (hash + seed) * seed;
+        h ^= h >>> 32;
+        return (int) h & mask;
+    }
+    
+    private void reset() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = (byte) (counters[i] >>> 1);
+        }
+        additions /= 2;
+    }
+}
@@ -0,0 +1,437 @@
+package com.example.app.infrastructure.cache;
+
+import com.example.app.domain.port.out.ImageCachePort;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Adapter implementing ImageCachePort with image bytes held off-heap in direct ByteBuffer slabs.
+ * <p>
+ * The byte budget is split into fixed-size pages; slabs are allocated lazily as pages are first used,
+ * and an entry owns a list of pages, so there is no fragmentation and the only heap cost is one small
+ * object per entry. Entries are kept in LRU order, and a new image is only admitted if its recent access
+ * frequency (TinyLFU sketch) beats that of each entry it would evict, which keeps one-off views from
+ * flushing the hero images.
+ * <p>
+ * An admitted miss is copied into its pages on a background thread while the request is served from
+ * the backing store, so a range request for a cold image still only reads the requested bytes.
+ * <p>
+ * Readers pin an entry while streaming it; an entry evicted while pinned keeps its pages until the
+ * last reader closes its stream.
+ */
+@Slf4j
+@Component
+public class OffHeapImageCache implements ImageCachePort {
+    
+    private static final int EXPECTED_ENTRY_BYTES = 256 * 1024;
+    private static final int FILL_QUEUE_CAPACITY = 64;
+    
+    private final boolean enabled;
+    private final int pageBytes;
+    private final int pagesPerSlab;
+    private final long maxEntryBytes;
+    private final ByteBuffer[] slabs;
+    private final int[] freePages;
+    private int freePageCount;
+    private long usedBytes;
+    
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final FrequencySketch sketch;
+    private final Set<String> filling = new HashSet<>();
+    private final Executor fillExecutor;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong rejections = new AtomicLong();
+    
+    public OffHeapImageCache(
+            @Value("${app.cache.images.enabled:true}") boolean enabled,
+            @Value("${app.cache.images.max-bytes:268435456}") long maxBytes,
+            @Value("${app.cache.images.slab-bytes:16777216}") int slabBytes,
+            @Value("${app.cache.images.page-bytes:65536}") int pageBytes,
+            @Value("${app.cache.images.max-entry-bytes:10485760}") long maxEntryBytes,
+            @Value("${app.cache.images.fill-threads:2}") int fillThreads,
+            MeterRegistry meterRegistry) {
+        this(enabled, maxBytes, slabBytes, pageBytes, maxEntryBytes, fillPool(fillThreads), meterRegistry);
+    }
+    
+    OffHeapImageCache(boolean enabled, long maxBytes, int slabBytes, int pageBytes, long maxEntryBytes,
+                      Executor fillExecutor, MeterRegistry meterRegistry) {
+        if (slabBytes % pageBytes != 0) {
+            throw new IllegalArgumentException("Image cache slab size must be a multiple of the page size");
+        }
+        this.enabled = enabled;
+        this.pageBytes = pageBytes;
+        this.pagesPerSlab = slabBytes / pageBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+        
+        int slabCount = enabled ? (int) (maxBytes / slabBytes) : 0;
+        this.slabs = new ByteBuffer[slabCount];
+        this.freePages = new int[slabCount * pagesPerSlab];
+        // Hand out low pages first so slabs are only allocated once earlier ones are full
+        for (int page = freePages.length - 1; page >= 0; page--) {
+            freePages[freePageCount++] = page;
+        }
+        this.sketch = new FrequencySketch((int) Math.max(16, maxBytes / EXPECTED_ENTRY_BYTES));
+        this.fillExecutor = fillExecutor;
+        
+        registerMetrics(meterRegistry);
+    }
+    
+    @Override
+    public Resource getOrLoad(String contentHash, long size, Supplier<Resource> loader) {
+        if (!enabled || slabs.length == 0) {
+            return loader.get();
+        }
+        
+        Entry entry;
+        synchronized (this) {
+            sketch.increment(contentHash);
+            entry = entries.get(contentHash);
+        }
+        if (entry != null) {
+            hits.incrementAndGet();
+            return new CachedImageResource(entry, loader);
+        }
+        
+        misses.incrementAndGet();
+        Resource source = loader.get();
+        if (size <= 0 || size > maxEntryBytes) {
+            return source;
+        }
+        
+        Entry reserved = reserve(contentHash, size);
+        if (reserved == null) {
+            return source;
+        }
+        // A one-shot stream is left to the caller; the fill opens the image again
+        Resource fillSource = source.isOpen() ? loader.get() : source;
+        try {
+            fillExecutor.execute(() -> fillAndPublish(reserved, fillSource));
+        } catch (RejectedExecutionException e) {
+            abandon(reserved);
+        }
+        return source;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (fillExecutor instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Copy an admitted image into its reserved pages, then make it visible to readers
+     */
+    private void fillAndPublish(Entry entry, Resource source) {
+        try {
+            fill(entry, source);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to cache image {}: {}", entry.key, e.getMessage());
+            abandon(entry);
+            return;
+        }
+        synchronized (this) {
+            filling.remove(entry.key);
+            entries.put(entry.key, entry);
+            usedBytes += entry.size;
+        }
+    }
+    
+    private synchronized void abandon(Entry entry) {
+        filling.remove(entry.key);
+        releasePages(entry);
+    }
+    
+    /**
+     * Find room for a new entry by evicting LRU entries that are accessed less often than the candidate.
+     * Victims are chosen and admission decided before anything is evicted, so a rejected candidate
+     * leaves the cache untouched. Pinned entries are skipped as evicting them frees no pages yet.
+     * @return Entry owning the reserved pages, or null if the candidate is not admitted
+     */
+    private synchronized Entry reserve(String contentHash, long size) {
+        int pagesNeeded = (int) ((size + pageBytes - 1) / pageBytes);
+        if (pagesNeeded > freePages.length || filling.contains(contentHash) || entries.containsKey(contentHash)) {
+            return null;
+        }
+        
+        int candidateFrequency = sketch.frequency(contentHash);
+        List<Entry> victims = new ArrayList<>();
+        int pagesFreed = freePageCount;
+        Iterator<Entry> lru = entries.values().iterator();
+        while (pagesFreed < pagesNeeded) {
+            if (!lru.hasNext()) {
+                rejections.incrementAndGet();
+                return null;
+            }
+            Entry victim = lru.next();
+            if (victim.readers > 0) {
+                continue;
+            }
+            if (sketch.frequency(victim.key) >= candidateFrequency) {
+                rejections.incrementAndGet();
+                return null;
+            }
+            victims.add(victim);
+            pagesFreed += victim.pages.length;
+        }
+        for (Entry victim : victims) {
+            entries.remove(victim.key);
+            evict(victim);
+        }
+        
+        int[] pages = new int[pagesNeeded];
+        for (int i = 0; i < pagesNeeded; i++) {
+            int page = freePages[--freePageCount];
+            int slab = page / pagesPerSlab;
+            if (slabs[slab] == null) {
+                slabs[slab] = ByteBuffer.allocateDirect(pagesPerSlab * pageBytes);
+            }
+            pages[i] = page;
+        }
+        filling.add(contentHash);
+        return new Entry(contentHash, size, pages);
+    }
+    
+    /**
+     * Copy the image into its reserved pages; runs outside the lock as the entry is not yet visible
+     */
+    private void fill(Entry entry, Resource source) throws IOException {
+        byte[] buffer = new byte[Math.min(pageBytes, 64 * 1024)];
+        long written = 0;
+        try (InputStream in = source.getInputStream()) {
+            int read;
+            while (written < entry.size && (read = in.read(buffer, 0, (int) Math.min(buffer.length, entry.size - written))) != -1) {
+                int offset = 0;
+                while (offset < read) {
+                    ByteBuffer page = page(entry, written);
+                    int count = Math.min(read - offset, page.remaining());
+                    page.put(buffer, offset, count);
+                    offset += count;
+                    written += count;
+                }
+            }
+        }
+        if (written != entry.size) {
+            throw new IOException("Expected " + entry.size + " bytes but read " + written);
+        }
+    }
+    
+    /**
+     * View of the page holding the given position of an entry, positioned at that byte
+     */
+    private ByteBuffer page(Entry entry, long position) {
+        int page = entry.pages[(int) (position / pageBytes)];
+        int start = (page % pagesPerSlab) * pageBytes + (int) (position % pageBytes);
+        int end = (page % pagesPerSlab) * pageBytes + pageBytes;
+        ByteBuffer view = slabs[page / pagesPerSlab].duplicate();
+        view.limit(end).position(start);
+        return view;
+    }
+    
+    private void evict(Entry entry) {
+        entry.evicted = true;
+        usedBytes -= entry.size;
+        evictions.incrementAndGet();
+        if (entry.readers == 0) {
+            releasePages(entry);
+        }
+    }
+    
+    private void releasePages(Entry entry) {
+        for (int page : entry.pages) {
+            freePages[freePageCount++] = page;
+        }
+    }
+    
+    private synchronized boolean pin(Entry entry) {
+        if (entry.evicted) {
+            return false;
+        }
+        entry.readers++;
+        return true;
+    }
+    
+    private synchronized void unpin(Entry entry) {
+        if (--entry.readers == 0 && entry.evicted) {
+            releasePages(entry);
+        }
+    }
+    
+    private synchronized long usedBytes() {
+        return usedBytes;
+    }
+    
+    private synchronized int entryCount() {
+        return entries.size();
+    }
+    
+    private static ExecutorService fillPool(int threads) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(FILL_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-cache-fill-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+    
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("app.image.cache.hits", hits, AtomicLong::get).register(registry);
+        FunctionCounter.builder("app.image.cache.misses", misses, AtomicLong::get).register(registry);
+        FunctionCounter.builder("app.image.cache.evictions", evictions, AtomicLong::get).register(registry);
+        FunctionCounter.builder("app.image.cache.rejections", rejections, AtomicLong::get)
+                .description("Images not admitted because they were accessed less often than the eviction candidates")
+                .register(registry);
+        Gauge.builder("app.image.cache.hit.ratio", this, cache -> {
+            long total = cache.hits.get() + cache.misses.get();
+            return total == 0 ? 0.0 : (double) cache.hits.get() / total;
+        }).register(registry);
+        Gauge.builder("app.image.cache.bytes.used", this, OffHeapImageCache::usedBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("app.image.cache.bytes.capacity", this, cache -> (double) cache.freePages.length * cache.pageBytes)
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("app.image.cache.entries", this, OffHeapImageCache::entryCount).register(registry);
+    }
+    
+    /**
+     * A cached image: its size and the pages holding its bytes. Guarded by the cache lock.
+     */
+    private static final class Entry {
+        private final String key;
+        private final long size;
+        private final int[] pages;
+        private int readers;
+        private boolean evicted;
+        
+        private Entry(String key, long size, int[] pages) {
+            this.key = key;
+            this.size = size;
+            this.pages = pages;
+        }
+    }
+    
+    /**
+     * Resource streaming a cached image straight from its pages.
+     * Each stream pins the entry; if it was evicted in the meantime the backing store is used instead.
+     */
+    private final class CachedImageResource extends AbstractResource {
+        
+        private final Entry entry;
+        private final Supplier<Resource> fallback;
+        
+        private CachedImageResource(Entry entry, Supplier<Resource> fallback) {
+            this.entry = entry;
+            this.fallback = fallback;
+        }
+        
+        @Override
+        public String getDescription() {
+            return "Cached image [" + entry.key + "]";
+        }
+        
+        @Override
+        public boolean exists() {
+            return true;
+        }
+        
+        @Override
+        public long contentLength() {
+            return entry.size;
+        }
+        
+        @Override
+        public InputStream getInputStream() throws IOException {
+            if (!pin(entry)) {
+                return fallback.get().getInputStream();
+            }
+            return new PageInputStream(entry);
+        }
+    }
+    
+    private final class PageInputStream extends InputStream {
+        
+        private final Entry entry;
+        private long position;
+        private boolean closed;
+        
+        private PageInputStream(Entry entry) {
+            this.entry = entry;
+        }
+        
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+        }
+        
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            if (position >= entry.size) {
+                return -1;
+            }
+            if (length == 0) {
+                return 0;
+            }
+            ByteBuffer page = page(entry, position);
+            int count = (int) Math.min(Math.min(length, page.remaining()), entry.size - position);
+            page.get(buffer, offset, count);
+            position += count;
+            return count;
+        }
+        
+        @Override
+        public long skip(long n) {
+            long skipped = Math.max(0, Math.min(n, entry.size - position));
+            position += skipped;
+            return skipped;
+        }
+        
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, entry.size - position);
+        }
+        
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                unpin(entry);
+            }
+        }
+    }
+}
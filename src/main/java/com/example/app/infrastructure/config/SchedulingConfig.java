@@ -0,0 +1,12 @@
+package com.example.app.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enable scheduled background jobs (outbox relay, maintenance tasks)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,26 @@
+package com.example.app.infrastructure.outbox;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Outbox event as delivered to in-process listeners.
+ * The payload is the JSON document written by the publishing transaction.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+    
+    private UUID id;
+    private String aggregateType;
+    private UUID aggregateId;
+    private String eventType;
+    private String payload;
+    private LocalDateTime createdAt;
+    private int attempts;
+}
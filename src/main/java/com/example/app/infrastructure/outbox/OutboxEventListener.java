@@ -0,0 +1,21 @@
+package com.example.app.infrastructure.outbox;
+
+/**
+ * In-process consumer of outbox events.
+ * Delivery is at-least-once: an event is redelivered until every interested
+ * listener has handled it, so implementations must be idempotent.
+ */
+public interface OutboxEventListener {
+    
+    /**
+     * Whether this listener wants events of the given aggregate and event type
+     */
+    default boolean supports(String aggregateType, String eventType) {
+        return true;
+    }
+    
+    /**
+     * Handle a single event. Throwing causes the event to be retried on a later poll.
+     */
+    void onEvent(OutboxEvent event) throws Exception;
+}
@@ -0,0 +1,204 @@
+package com.example.app.infrastructure.outbox;
+
+import com.example.app.infrastructure.persistence.entity.OutboxEventEntity;
+import com.example.app.infrastructure.persistence.repository.OutboxEventJpaRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relay that drains the outbox table and dispatches events to in-process listeners.
+ * Each poll locks a batch with FOR UPDATE SKIP LOCKED, dispatches it, and marks the
+ * delivered events processed with a single batched update in the same transaction.
+ * Every event is dispatched in a transaction of its own, so a listener that fails after joining
+ * it only rolls back its own work and never poisons the batch transaction.
+ * Failed events stay pending with an incremented attempt count and are retried on a later poll.
+ * Events that fail max-attempts times are dead letters: the relay no longer selects them, logs them
+ * as errors, exposes their number as a gauge and deletes them after their own retention window.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final List<OutboxEventListener> listeners;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate dispatchTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final int maxAttempts;
+    private final int retentionDays;
+    private final int deadLetterRetentionDays;
+    private final AtomicLong deadLetters = new AtomicLong();
+    
+    public OutboxRelay(
+            OutboxEventJpaRepository outboxEventJpaRepository,
+            List<OutboxEventListener> listeners,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.outbox.relay.batch-size:100}") int batchSize,
+            @Value("${app.outbox.relay.max-batches-per-poll:10}") int maxBatchesPerPoll,
+            @Value("${app.outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${app.outbox.retention-days:7}") int retentionDays,
+            @Value("${app.outbox.dead-letter.retention-days:30}") int deadLetterRetentionDays,
+            MeterRegistry meterRegistry) {
+        this.outboxEventJpaRepository = outboxEventJpaRepository;
+        this.listeners = listeners;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dispatchTemplate = new TransactionTemplate(transactionManager);
+        this.dispatchTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxAttempts = maxAttempts;
+        this.retentionDays = retentionDays;
+        this.deadLetterRetentionDays = deadLetterRetentionDays;
+        
+        Gauge.builder("app.outbox.dead.letters", deadLetters, AtomicLong::get)
+                .description("Pending outbox events no longer retried after max-attempts failures")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Poll the outbox, draining up to maxBatchesPerPoll full batches per tick
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval-ms:1000}")
+    public void poll() {
+        for (int i = 0; i < maxBatchesPerPoll; i++) {
+            Integer locked = transactionTemplate.execute(status -> relayBatch());
+            if (locked == null || locked < batchSize) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Dispatch one locked batch. Runs inside the transaction holding the row locks.
+     * @return Number of events locked in this batch
+     */
+    private int relayBatch() {
+        List<OutboxEventEntity> batch = outboxEventJpaRepository.lockNextBatch(batchSize, maxAttempts);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        
+        List<UUID> delivered = new ArrayList<>(batch.size());
+        for (OutboxEventEntity entity : batch) {
+            try {
+                OutboxEvent event = toEvent(entity);
+                dispatchTemplate.executeWithoutResult(status -> dispatch(event));
+                delivered.add(entity.getId());
+            } catch (Exception e) {
+                int attempt = entity.getAttempts() + 1;
+                if (attempt >= maxAttempts) {
+                    log.error("Outbox event {} ({}) failed on attempt {} and will not be retried: {}",
+                            entity.getId(), entity.getEventType(), attempt, e.getMessage());
+                } else {
+                    log.warn("Outbox event {} ({}) failed on attempt {}: {}",
+                            entity.getId(), entity.getEventType(), attempt, e.getMessage());
+                }
+                outboxEventJpaRepository.recordFailure(entity.getId(), truncate(e.getMessage()));
+            }
+        }
+        
+        if (!delivered.isEmpty()) {
+            outboxEventJpaRepository.markProcessed(delivered, LocalDateTime.now());
+        }
+        
+        log.debug("Outbox relay delivered {} of {} events", delivered.size(), batch.size());
+        return batch.size();
+    }
+    
+    /**
+     * Deliver an event to every listener that supports it; checked exceptions are rethrown unchecked
+     * so the dispatch transaction rolls back
+     */
+    private void dispatch(OutboxEvent event) {
+        for (OutboxEventListener listener : listeners) {
+            if (listener.supports(event.getAggregateType(), event.getEventType())) {
+                try {
+                    listener.onEvent(event);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Purge delivered events past the retention window, in bounded chunks to avoid long locks
+     */
+    @Scheduled(cron = "${app.outbox.purge-cron:0 30 3 * * *}")
+    public void purgeProcessed() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    outboxEventJpaRepository.deleteProcessedBefore(cutoff, batchSize * 10));
+            total += deleted;
+        } while (deleted > 0);
+        
+        if (total > 0) {
+            log.info("Purged {} processed outbox events older than {}", total, cutoff);
+        }
+        
+        LocalDateTime deadLetterCutoff = LocalDateTime.now().minusDays(deadLetterRetentionDays);
+        int deadTotal = 0;
+        do {
+            deleted = transactionTemplate.execute(status ->
+                    outboxEventJpaRepository.deleteDeadLettersBefore(deadLetterCutoff, maxAttempts, batchSize * 10));
+            deadTotal += deleted;
+        } while (deleted > 0);
+        
+        if (deadTotal > 0) {
+            log.warn("Purged {} dead-lettered outbox events created before {}", deadTotal, deadLetterCutoff);
+        }
+    }
+    
+    /**
+     * Refresh the dead letter gauge, logging an error whenever new dead letters appeared
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.dead-letter.check-interval-ms:60000}")
+    public void checkDeadLetters() {
+        long count = outboxEventJpaRepository.countDeadLetters(maxAttempts);
+        long previous = deadLetters.getAndSet(count);
+        if (count > previous) {
+            log.error("{} outbox events are dead-lettered after {} failed attempts (previously {})",
+                    count, maxAttempts, previous);
+        }
+    }
+    
+    private OutboxEvent toEvent(OutboxEventEntity entity) {
+        return new OutboxEvent(
+                entity.getId(),
+                entity.getAggregateType(),
+                entity.getAggregateId(),
+                entity.getEventType(),
+                entity.getPayload(),
+                entity.getCreatedAt(),
+                entity.getAttempts()
+        );
+    }
+    
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 1000 ? message.substring(0, 1000) : message;
+    }
+}
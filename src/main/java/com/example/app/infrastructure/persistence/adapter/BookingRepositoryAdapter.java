@@ -0,0 +1,126 @@
+package com.example.app.infrastructure.persistence.adapter;
+
+import com.example.app.application.mapper.BookingMapper;
+import com.example.app.domain.model.Booking;
+import com.example.app.domain.port.out.BookingRepositoryPort;
+import com.example.app.infrastructure.persistence.entity.BookingEntity;
+import com.example.app.infrastructure.persistence.repository.BookingJpaRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter that implements BookingRepositoryPort using JPA
+ */
+@Component
+@RequiredArgsConstructor
+public class BookingRepositoryAdapter implements BookingRepositoryPort {
+    
+    private static final LocalDate KEYSET_START_DATE = LocalDate.of(1, 1, 1);
+    private static final UUID KEYSET_START_ID = new UUID(0L, 0L);
+    
+    private final BookingJpaRepository bookingJpaRepository;
+    private final BookingMapper bookingMapper;
+    private final EntityManager entityManager;
+    
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+    
+    @Override
+    public Booking save(Booking booking) {
+        BookingEntity entity = bookingMapper.toEntity(booking);
+        return bookingMapper.toDomain(bookingJpaRepository.save(entity));
+    }
+    
+    @Override
+    public List<Booking> saveAll(List<Booking> bookings) {
+        List<Booking> saved = new ArrayList<>(bookings.size());
+        for (int start = 0; start < bookings.size(); start += batchSize) {
+            List<BookingEntity> chunk = bookings.subList(start, Math.min(start + batchSize, bookings.size()))
+                    .stream()
+                    .map(bookingMapper::toEntity)
+                    .collect(Collectors.toList());
+            
+            bookingJpaRepository.saveAll(chunk).forEach(entity -> saved.add(bookingMapper.toDomain(entity)));
+            
+            // Send the chunk as one JDBC batch and keep the persistence context small
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return saved;
+    }
+    
+    @Override
+    public Optional<Booking> findById(UUID id) {
+        return bookingJpaRepository.findById(id)
+                .map(bookingMapper::toDomain);
+    }
+    
+    @Override
+    public Optional<Booking> findByIdForUpdate(UUID id) {
+        return bookingJpaRepository.findByIdForUpdate(id)
+                .map(bookingMapper::toDomain);
+    }
+    
+    @Override
+    public List<Booking> findAllByIdsForUpdate(Collection<UUID> ids) {
+        return bookingJpaRepository.findAllByIdInForUpdate(ids).stream()
+                .map(bookingMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public List<Booking> findActiveOverlapping(Collection<UUID> roomIds, LocalDate from, LocalDate to) {
+        return bookingJpaRepository.findActiveOverlapping(roomIds, from, to).stream()
+                .map(bookingMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public int markCancelled(Collection<UUID> ids) {
+        return bookingJpaRepository.markCancelled(ids, LocalDateTime.now());
+    }
+    
+    @Override
+    public boolean existsOverlapping(UUID roomId, LocalDate checkIn, LocalDate checkOut) {
+        return bookingJpaRepository.existsOverlapping(roomId, checkIn, checkOut);
+    }
+    
+    @Override
+    public List<UUID> findDistinctRoomIds() {
+        return bookingJpaRepository.findDistinctRoomIds();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Booking> findCheckedOutBefore(LocalDate cutoff, LocalDate afterCheckIn, UUID afterId, int limit) {
+        return bookingJpaRepository.findCheckedOutBefore(
+                        cutoff,
+                        afterCheckIn != null ? afterCheckIn : KEYSET_START_DATE,
+                        afterId != null ? afterId : KEYSET_START_ID,
+                        limit)
+                .stream()
+                .map(bookingMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional
+    public int deleteAllByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return bookingJpaRepository.deleteAllByIds(ids);
+    }
+}
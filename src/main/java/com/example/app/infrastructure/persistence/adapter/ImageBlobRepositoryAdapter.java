@@ -0,0 +1,38 @@
+package com.example.app.infrastructure.persistence.adapter;
+
+import com.example.app.domain.port.out.ImageBlobRepositoryPort;
+import com.example.app.infrastructure.persistence.repository.ImageBlobJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Adapter implementing ImageBlobRepositoryPort.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageBlobRepositoryAdapter implements ImageBlobRepositoryPort {
+    
+    private final ImageBlobJpaRepository imageBlobJpaRepository;
+    
+    @Override
+    @Transactional
+    public void registerBlob(String contentHash, long size) {
+        imageBlobJpaRepository.addReferences(contentHash, size, 0);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findUnreferencedBlobs(LocalDateTime releasedBefore, int limit) {
+        return imageBlobJpaRepository.findUnreferencedBefore(releasedBefore, limit);
+    }
+    
+    @Override
+    @Transactional
+    public boolean deleteUnreferencedBlob(String contentHash) {
+        return imageBlobJpaRepository.deleteUnreferenced(contentHash) > 0;
+    }
+}
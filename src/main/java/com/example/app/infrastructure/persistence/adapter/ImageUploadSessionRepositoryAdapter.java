@@ -0,0 +1,90 @@
+package com.example.app.infrastructure.persistence.adapter;
+
+import com.example.app.application.mapper.ImageUploadSessionMapper;
+import com.example.app.domain.model.ImageUploadSession;
+import com.example.app.domain.port.out.ImageUploadSessionRepositoryPort;
+import com.example.app.infrastructure.persistence.repository.ImageUploadChunkJpaRepository;
+import com.example.app.infrastructure.persistence.repository.ImageUploadSessionJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter implementing ImageUploadSessionRepositoryPort.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageUploadSessionRepositoryAdapter implements ImageUploadSessionRepositoryPort {
+    
+    private final ImageUploadSessionJpaRepository sessionJpaRepository;
+    private final ImageUploadChunkJpaRepository chunkJpaRepository;
+    private final ImageUploadSessionMapper imageUploadSessionMapper;
+    
+    @Override
+    @Transactional
+    public ImageUploadSession save(ImageUploadSession session) {
+        ImageUploadSession saved = imageUploadSessionMapper.toDomain(
+                sessionJpaRepository.save(imageUploadSessionMapper.toEntity(session)));
+        saved.setReceivedChunks(chunkJpaRepository.findChunkIndexes(saved.getId()));
+        return saved;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ImageUploadSession> findById(UUID sessionId) {
+        return sessionJpaRepository.findById(sessionId)
+                .map(entity -> {
+                    ImageUploadSession session = imageUploadSessionMapper.toDomain(entity);
+                    session.setReceivedChunks(chunkJpaRepository.findChunkIndexes(sessionId));
+                    return session;
+                });
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public boolean existsById(UUID sessionId) {
+        return sessionJpaRepository.existsById(sessionId);
+    }
+    
+    @Override
+    @Transactional
+    public void markChunkReceived(UUID sessionId, int index, LocalDateTime expiresAt) {
+        chunkJpaRepository.insertIfAbsent(sessionId, index);
+        sessionJpaRepository.extendExpiry(sessionId, expiresAt);
+    }
+    
+    @Override
+    @Transactional
+    public boolean updateStatus(UUID sessionId, String expectedStatus, String newStatus) {
+        return sessionJpaRepository.updateStatus(sessionId, expectedStatus, newStatus) > 0;
+    }
+    
+    @Override
+    @Transactional
+    public void deleteById(UUID sessionId) {
+        sessionJpaRepository.deleteById(sessionId);
+        chunkJpaRepository.deleteBySessionId(sessionId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findExpiredIds(LocalDateTime now, int limit) {
+        return sessionJpaRepository.findExpiredIds(now, limit);
+    }
+    
+    @Override
+    @Transactional
+    public boolean deleteExpired(UUID sessionId, LocalDateTime now) {
+        // A chunk may have extended the session since it was found expired
+        if (sessionJpaRepository.deleteExpired(sessionId, now) == 0) {
+            return false;
+        }
+        chunkJpaRepository.deleteBySessionId(sessionId);
+        return true;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.app.infrastructure.persistence.adapter;
+
+import com.example.app.application.mapper.ImageVariantMapper;
+import com.example.app.domain.model.ImageVariant;
+import com.example.app.domain.port.out.ImageVariantRepositoryPort;
+import com.example.app.infrastructure.persistence.repository.ImageBlobJpaRepository;
+import com.example.app.infrastructure.persistence.repository.RoomImageJpaRepository;
+import com.example.app.infrastructure.persistence.repository.RoomImageVariantJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing ImageVariantRepositoryPort.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageVariantRepositoryAdapter implements ImageVariantRepositoryPort {
+    
+    private final RoomImageVariantJpaRepository variantJpaRepository;
+    private final ImageVariantMapper imageVariantMapper;
+    private final ImageBlobJpaRepository imageBlobJpaRepository;
+    private final RoomImageJpaRepository roomImageJpaRepository;
+    
+    @Override
+    @Transactional
+    public void saveAll(List<ImageVariant> variants) {
+        // Each variant row holds one reference on its blob
+        variants.stream()
+                .collect(Collectors.groupingBy(ImageVariant::getContentHash))
+                .forEach((contentHash, refs) ->
+                        imageBlobJpaRepository.addReferences(contentHash, refs.get(0).getFileSize(), refs.size()));
+        variantJpaRepository.saveAll(variants.stream()
+                .map(imageVariantMapper::toEntity)
+                .collect(Collectors.toList()));
+        // New variants change the image's metadata, which manifest ETags follow via updated_at
+        roomImageJpaRepository.touch(variants.stream()
+                .map(ImageVariant::getImageId)
+                .collect(Collectors.toSet()), LocalDateTime.now());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ImageVariant> findByImageId(UUID imageId) {
+        return findByImageIds(List.of(imageId)).getOrDefault(imageId, List.of());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, List<ImageVariant>> findByImageIds(Collection<UUID> imageIds) {
+        if (imageIds.isEmpty()) {
+            return Map.of();
+        }
+        return variantJpaRepository.findByImageIds(imageIds).stream()
+                .map(imageVariantMapper::toDomain)
+                .collect(Collectors.groupingBy(ImageVariant::getImageId, LinkedHashMap::new, Collectors.toList()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.app.infrastructure.persistence.adapter;
+
+import com.example.app.infrastructure.persistence.repository.RoomImageJpaRepository;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+/**
+ * Resource over the image_data column of a not yet migrated image.
+ * The stream pages through the value with Postgres substring, and skip only moves the read position,
+ * so serving a byte range reads just that range from the database.
+ */
+class InlineImageResource extends AbstractResource {
+    
+    private static final int CHUNK_SIZE = 256 * 1024;
+    
+    private final RoomImageJpaRepository roomImageJpaRepository;
+    private final UUID imageId;
+    private final long size;
+    
+    InlineImageResource(RoomImageJpaRepository roomImageJpaRepository, UUID imageId, long size) {
+        this.roomImageJpaRepository = roomImageJpaRepository;
+        this.imageId = imageId;
+        this.size = size;
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Inline image data [" + imageId + "]";
+    }
+    
+    @Override
+    public boolean exists() {
+        return true;
+    }
+    
+    @Override
+    public long contentLength() {
+        return size;
+    }
+    
+    @Override
+    public InputStream getInputStream() {
+        return new InputStream() {
+            private long position;
+            private byte[] chunk = new byte[0];
+            private int chunkOffset;
+            
+            @Override
+            public int read() throws IOException {
+                byte[] single = new byte[1];
+                return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+            }
+            
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                if (length == 0) {
+                    return 0;
+                }
+                if (chunkOffset == chunk.length && !fetchChunk()) {
+                    return -1;
+                }
+                int count = Math.min(length, chunk.length - chunkOffset);
+                System.arraycopy(chunk, chunkOffset, buffer, offset, count);
+                chunkOffset += count;
+                position += count;
+                return count;
+            }
+            
+            @Override
+            public long skip(long n) {
+                long skipped = Math.max(0, Math.min(n, size - position));
+                position += skipped;
+                chunk = new byte[0];
+                chunkOffset = 0;
+                return skipped;
+            }
+            
+            @Override
+            public int available() {
+                return chunk.length - chunkOffset;
+            }
+            
+            private boolean fetchChunk() throws IOException {
+                if (position >= size) {
+                    return false;
+                }
+                byte[] next = roomImageJpaRepository.findImageDataRange(imageId, position + 1, CHUNK_SIZE);
+                if (next == null || next.length == 0) {
+                    throw new IOException("Inline image data ended early for image " + imageId);
+                }
+                chunk = next;
+                chunkOffset = 0;
+                return true;
+            }
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.app.infrastructure.persistence.adapter;
+
+import com.example.app.domain.port.out.DomainEventPublisherPort;
+import com.example.app.infrastructure.persistence.entity.OutboxEventEntity;
+import com.example.app.infrastructure.persistence.repository.OutboxEventJpaRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Adapter implementing DomainEventPublisherPort with the transactional outbox table.
+ * Requires an existing transaction so the event commits or rolls back with the change itself.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxEventRepositoryAdapter implements DomainEventPublisherPort {
+    
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+    private final ObjectMapper objectMapper;
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String aggregateType, UUID aggregateId, String eventType, Object payload) {
+        OutboxEventEntity entity = OutboxEventEntity.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .eventType(eventType)
+                .payload(toJson(payload))
+                .build();
+        
+        outboxEventJpaRepository.save(entity);
+        log.debug("Outbox event recorded: {} for {} {}", eventType, aggregateType, aggregateId);
+    }
+    
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event payload", e);
+        }
+    }
+}
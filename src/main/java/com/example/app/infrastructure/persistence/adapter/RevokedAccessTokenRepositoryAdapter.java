@@ -0,0 +1,66 @@
+package com.example.app.infrastructure.persistence.adapter;
+
+import com.example.app.domain.port.out.RevokedAccessTokenRepositoryPort;
+import com.example.app.infrastructure.persistence.entity.RevokedAccessTokenEntity;
+import com.example.app.infrastructure.persistence.entity.RevokedUserTokensEntity;
+import com.example.app.infrastructure.persistence.repository.RevokedAccessTokenJpaRepository;
+import com.example.app.infrastructure.persistence.repository.RevokedUserTokensJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter that implements RevokedAccessTokenRepositoryPort using JPA
+ */
+@Component
+@RequiredArgsConstructor
+public class RevokedAccessTokenRepositoryAdapter implements RevokedAccessTokenRepositoryPort {
+    
+    private final RevokedAccessTokenJpaRepository revokedAccessTokenJpaRepository;
+    private final RevokedUserTokensJpaRepository revokedUserTokensJpaRepository;
+    
+    @Override
+    @Transactional
+    public void save(String tokenId, LocalDateTime expiresAt) {
+        revokedAccessTokenJpaRepository.save(RevokedAccessTokenEntity.builder()
+                .tokenId(tokenId)
+                .expiresAt(expiresAt)
+                .revokedAt(LocalDateTime.now())
+                .build());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, LocalDateTime> findRevokedSince(LocalDateTime since) {
+        return revokedAccessTokenJpaRepository.findRevokedSince(since, LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(RevokedAccessTokenEntity::getTokenId, RevokedAccessTokenEntity::getExpiresAt));
+    }
+    
+    @Override
+    @Transactional
+    public void saveUserRevocation(UUID userId, LocalDateTime revokedBefore, LocalDateTime expiresAt) {
+        revokedUserTokensJpaRepository.save(RevokedUserTokensEntity.builder()
+                .userId(userId)
+                .revokedBefore(revokedBefore)
+                .expiresAt(expiresAt)
+                .build());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, LocalDateTime> findUserRevocationsSince(LocalDateTime since) {
+        return revokedUserTokensJpaRepository.findRevokedSince(since, LocalDateTime.now()).stream()
+                .collect(Collectors.toMap(RevokedUserTokensEntity::getUserId, RevokedUserTokensEntity::getRevokedBefore));
+    }
+    
+    @Override
+    @Transactional
+    public int deleteExpired(LocalDateTime now) {
+        return revokedAccessTokenJpaRepository.deleteExpired(now) + revokedUserTokensJpaRepository.deleteExpired(now);
+    }
+}
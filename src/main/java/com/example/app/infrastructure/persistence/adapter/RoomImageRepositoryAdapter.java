@@ -1,38 +1,57 @@
 package com.example.app.infrastructure.persistence.adapter;
 
 import com.example.app.application.mapper.RoomImageMapper;
+import com.example.app.domain.model.ImageSetVersion;
 import com.example.app.domain.model.RoomImage;
 import com.example.app.domain.port.out.RoomImageRepositoryPort;
 import com.example.app.infrastructure.persistence.entity.RoomEntity;
 import com.example.app.infrastructure.persistence.entity.RoomImageEntity;
+import com.example.app.infrastructure.persistence.repository.ImageBlobJpaRepository;
 import com.example.app.infrastructure.persistence.repository.RoomImageJpaRepository;
+import com.example.app.infrastructure.persistence.repository.RoomImageVariantJpaRepository;
 import com.example.app.infrastructure.persistence.repository.RoomJpaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * Adapter implementing RoomImageRepositoryPort.
- * Handles image persistence operations.
+ * Handles image persistence operations, and keeps the image_blobs reference counts in step with the
+ * rows that reference stored content.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RoomImageRepositoryAdapter implements RoomImageRepositoryPort {
     
+    private static final UUID KEYSET_START_ID = new UUID(0L, 0L);
+    
     private final RoomImageJpaRepository roomImageJpaRepository;
     private final RoomJpaRepository roomJpaRepository;
     private final RoomImageMapper roomImageMapper;
+    private final RoomImageVariantJpaRepository roomImageVariantJpaRepository;
+    private final ImageBlobJpaRepository imageBlobJpaRepository;
     
     @Override
+    @Transactional
     public RoomImage save(RoomImage roomImage) {
         log.debug("Saving room image: {}", roomImage.getFilename());
         RoomImageEntity entity = roomImageMapper.toEntity(roomImage);
+        if (entity.getId() == null) {
+            addBlobReferences(List.of(entity));
+        }
         
         // Set room relationship
         RoomEntity room = roomJpaRepository.findById(roomImage.getRoomId())
@@ -44,6 +63,7 @@ public class RoomImageRepositoryAdapter implements RoomImageRepositoryPort {
     }
     
     @Override
+    @Transactional
     public List<RoomImage> saveAll(List<RoomImage> roomImages) {
         log.debug("Saving {} room images", roomImages.size());
         
@@ -60,6 +80,9 @@ public class RoomImageRepositoryAdapter implements RoomImageRepositoryPort {
                 .peek(entity -> entity.setRoom(room))
                 .collect(Collectors.toList());
         
+        addBlobReferences(entities.stream()
+                .filter(entity -> entity.getId() == null)
+                .collect(Collectors.toList()));
         List<RoomImageEntity> savedEntities = roomImageJpaRepository.saveAll(entities);
         return savedEntities.stream()
                 .map(roomImageMapper::toDomain)
@@ -73,24 +96,158 @@ public class RoomImageRepositoryAdapter implements RoomImageRepositoryPort {
                 .map(roomImageMapper::toDomain);
     }
     
+    @Override
+    public Optional<RoomImage> findMetadataById(UUID id) {
+        log.debug("Finding room image metadata by ID: {}", id);
+        return roomImageJpaRepository.findMetadataById(id)
+                .map(roomImageMapper::toDomain);
+    }
+    
     @Override
     public List<RoomImage> findByRoomId(UUID roomId) {
         log.debug("Finding all images for room: {}", roomId);
-        return roomImageJpaRepository.findByRoomId(roomId).stream()
+        return roomImageJpaRepository.findMetadataByRoomId(roomId).stream()
                 .map(roomImageMapper::toDomain)
                 .collect(Collectors.toList());
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, List<RoomImage>> findByRoomIds(Collection<UUID> roomIds) {
+        if (roomIds.isEmpty()) {
+            return Map.of();
+        }
+        return roomImageJpaRepository.findMetadataByRoomIds(roomIds).stream()
+                .map(roomImageMapper::toDomain)
+                .collect(Collectors.groupingBy(RoomImage::getRoomId, LinkedHashMap::new, Collectors.toList()));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ImageSetVersion findVersionByRoomIds(Collection<UUID> roomIds) {
+        if (roomIds.isEmpty()) {
+            return ImageSetVersion.builder().build();
+        }
+        Object[] row = roomImageJpaRepository.findVersionByRoomIds(roomIds).get(0);
+        return ImageSetVersion.builder()
+                .imageCount(((Number) row[0]).longValue())
+                .lastModified((LocalDateTime) row[1])
+                .build();
+    }
+    
     @Override
     public Optional<RoomImage> findMainImageByRoomId(UUID roomId) {
         log.debug("Finding main image for room: {}", roomId);
-        return roomImageJpaRepository.findByRoomIdAndIsMainTrue(roomId)
+        return roomImageJpaRepository.findMainMetadataByRoomId(roomId)
                 .map(roomImageMapper::toDomain);
     }
     
     @Override
+    @Transactional(readOnly = true)
+    public List<RoomImage> findImagesWithoutPlaceholder(UUID afterId, int limit) {
+        return roomImageJpaRepository.findMetadataWithoutPlaceholder(
+                        afterId != null ? afterId : KEYSET_START_ID, PageRequest.of(0, limit)).stream()
+                .map(roomImageMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional
+    public void updatePlaceholder(UUID id, String placeholder) {
+        roomImageJpaRepository.updatePlaceholder(id, placeholder, LocalDateTime.now());
+    }
+    
+    @Override
+    @Transactional
+    public boolean replaceContent(UUID id, String expectedHash, String contentHash, long size, String contentType,
+                                  boolean keepOriginal) {
+        imageBlobJpaRepository.addReferences(contentHash, size, 1);
+        if (roomImageJpaRepository.replaceContent(id, expectedHash, contentHash, size, contentType, keepOriginal) == 0) {
+            imageBlobJpaRepository.releaseReference(contentHash);
+            return false;
+        }
+        if (!keepOriginal) {
+            imageBlobJpaRepository.releaseReference(expectedHash);
+        }
+        return true;
+    }
+    
+    @Override
+    @Transactional
+    public void markContentUnchanged(UUID id) {
+        roomImageJpaRepository.markUnchanged(id);
+    }
+    
+    @Override
+    @Transactional
+    public void clearMainImage(UUID roomId) {
+        log.debug("Clearing main image for room: {}", roomId);
+        roomImageJpaRepository.clearMainImage(roomId, LocalDateTime.now());
+    }
+    
+    @Override
+    @Transactional
     public void deleteByRoomId(UUID roomId) {
         log.debug("Deleting all images for room: {}", roomId);
-        roomImageJpaRepository.deleteByRoomId(roomId);
+        deleteImages(roomImageJpaRepository.findIdsByRoomId(roomId));
+    }
+    
+    @Override
+    @Transactional
+    public boolean deleteById(UUID id) {
+        log.debug("Deleting room image: {}", id);
+        return deleteImages(List.of(id)) > 0;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findInlineImageIds(UUID afterId, int limit) {
+        return roomImageJpaRepository.findInlineImageIds(afterId != null ? afterId : KEYSET_START_ID, limit);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<byte[]> findInlineImageData(UUID id) {
+        return Optional.ofNullable(roomImageJpaRepository.findImageDataById(id));
+    }
+    
+    @Override
+    public Resource openInlineImageData(UUID id, long size) {
+        return new InlineImageResource(roomImageJpaRepository, id, size);
+    }
+    
+    @Override
+    @Transactional
+    public boolean moveToStorage(UUID id, String contentHash, long size) {
+        imageBlobJpaRepository.addReferences(contentHash, size, 1);
+        if (roomImageJpaRepository.moveToStorage(id, contentHash) > 0) {
+            return true;
+        }
+        // Already migrated or deleted meanwhile; give the reference back
+        imageBlobJpaRepository.addReferences(contentHash, size, -1);
+        return false;
+    }
+    
+    /**
+     * Register one blob reference per new row that points at stored content
+     */
+    private void addBlobReferences(List<RoomImageEntity> entities) {
+        entities.stream()
+                .filter(entity -> entity.getContentHash() != null)
+                .collect(Collectors.groupingBy(RoomImageEntity::getContentHash))
+                .forEach((contentHash, refs) ->
+                        imageBlobJpaRepository.addReferences(contentHash, refs.get(0).getFileSize(), refs.size()));
+    }
+    
+    /**
+     * Release the blob references of the images and their variants, then delete the rows
+     */
+    private int deleteImages(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        imageBlobJpaRepository.releaseImageReferences(ids);
+        roomImageVariantJpaRepository.deleteByImageIds(ids);
+        return roomImageJpaRepository.deleteAllByIds(ids);
     }
 }
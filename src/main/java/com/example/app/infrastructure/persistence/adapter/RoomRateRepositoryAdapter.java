@@ -0,0 +1,60 @@
+package com.example.app.infrastructure.persistence.adapter;
+
+import com.example.app.domain.port.out.RoomRateRepositoryPort;
+import com.example.app.infrastructure.persistence.entity.RoomRateEntity;
+import com.example.app.infrastructure.persistence.repository.RoomRateJpaRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adapter that implements RoomRateRepositoryPort using JPA
+ */
+@Component
+@RequiredArgsConstructor
+public class RoomRateRepositoryAdapter implements RoomRateRepositoryPort {
+    
+    private final RoomRateJpaRepository roomRateJpaRepository;
+    
+    @Override
+    @Transactional
+    public void saveRates(UUID roomId, LocalDate from, LocalDate to, long priceCents) {
+        roomRateJpaRepository.upsertRange(roomId, from, to, Math.toIntExact(priceCents));
+        roomRateJpaRepository.recordChange(roomId, LocalDateTime.now());
+    }
+    
+    @Override
+    @Transactional
+    public void deleteRates(UUID roomId, LocalDate from, LocalDate to) {
+        roomRateJpaRepository.deleteRange(roomId, from, to);
+        roomRateJpaRepository.recordChange(roomId, LocalDateTime.now());
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<UUID, Map<LocalDate, Long>> findRates(Collection<UUID> roomIds, LocalDate from, LocalDate to) {
+        Map<UUID, Map<LocalDate, Long>> rates = new HashMap<>();
+        if (roomIds.isEmpty()) {
+            return rates;
+        }
+        for (RoomRateEntity entity : roomRateJpaRepository.findByRoomIdsBetween(roomIds, from, to)) {
+            rates.computeIfAbsent(entity.getRoomId(), id -> new HashMap<>())
+                    .put(entity.getRateDate(), (long) entity.getPriceCents());
+        }
+        return rates;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findRoomsChangedSince(LocalDateTime since) {
+        return roomRateJpaRepository.findRoomsChangedSince(since);
+    }
+}
@@ -11,8 +11,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Adapter implementing RoomRepositoryPort.
@@ -64,4 +67,24 @@ public class RoomRepositoryAdapter implements RoomRepositoryPort {
             roomJpaRepository.save(entity);
         });
     }
+    
+    @Override
+    public Optional<Room> findByIdForUpdate(UUID id) {
+        log.debug("Locking room: {}", id);
+        return roomJpaRepository.findByIdAndDeletedFalseForUpdate(id)
+                .map(roomMapper::toDomain);
+    }
+    
+    @Override
+    public List<Room> findAllByIdsForUpdate(Collection<UUID> ids) {
+        log.debug("Locking {} rooms", ids.size());
+        return roomJpaRepository.findAllByIdInAndDeletedFalseForUpdate(ids).stream()
+                .map(roomMapper::toDomain)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public long countActive() {
+        return roomJpaRepository.countByDeletedFalse();
+    }
 }
@@ -10,10 +10,15 @@ import com.example.app.infrastructure.persistence.specification.RoomSpecificatio
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Adapter implementing RoomSearchRepositoryPort.
  * Bridges domain layer with JPA persistence using Specifications.
@@ -46,4 +51,19 @@ public class RoomSearchRepositoryAdapter implements RoomSearchRepositoryPort {
         // Map entities to domain models
         return entityPage.map(roomMapper::toDomain);
     }
+    
+    @Override
+    public List<Room> findAllByCriteria(RoomSearchCriteria criteria, int limit) {
+        Specification<RoomEntity> specification = RoomSpecification.buildSpecification(criteria);
+        
+        Page<RoomEntity> entityPage = roomJpaRepository.findAll(specification,
+                PageRequest.of(0, limit, Sort.by("pricePerNight", "id")));
+        
+        log.debug("Loaded {} of {} candidate rooms for in-memory pricing",
+                entityPage.getNumberOfElements(), entityPage.getTotalElements());
+        
+        return entityPage.getContent().stream()
+                .map(roomMapper::toDomain)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,97 @@
+package com.example.app.infrastructure.persistence.adapter;
+
+import com.example.app.domain.model.Booking;
+import com.example.app.domain.model.DailyStats;
+import com.example.app.domain.port.out.RoomStatsRepositoryPort;
+import com.example.app.infrastructure.persistence.repository.DailyRoomStatsJpaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing RoomStatsRepositoryPort with the daily_room_stats table.
+ * Incremental updates must join the caller's transaction so rollups never drift from bookings.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoomStatsRepositoryAdapter implements RoomStatsRepositoryPort {
+    
+    private static final int MAX_IDS_PER_STATEMENT = 1000;
+    
+    private final DailyRoomStatsJpaRepository dailyRoomStatsJpaRepository;
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addBooking(Booking booking) {
+        apply(booking, 1);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeBooking(Booking booking) {
+        apply(booking, -1);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void addBookings(Collection<UUID> bookingIds) {
+        applyAll(bookingIds, 1);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void removeBookings(Collection<UUID> bookingIds) {
+        applyAll(bookingIds, -1);
+    }
+    
+    @Override
+    @Transactional
+    public int rebuildForRooms(Collection<UUID> roomIds) {
+        if (roomIds.isEmpty()) {
+            return 0;
+        }
+        dailyRoomStatsJpaRepository.deleteLiveNightsByRoomIds(roomIds);
+        return dailyRoomStatsJpaRepository.rebuildForRooms(roomIds);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<DailyStats> findDailyTotals(LocalDate from, LocalDate to) {
+        return dailyRoomStatsJpaRepository.sumByDate(from, to).stream()
+                .map(row -> DailyStats.builder()
+                        .date((LocalDate) row[0])
+                        .nightsSold(((Number) row[1]).longValue())
+                        .revenue((BigDecimal) row[2])
+                        .build())
+                .collect(Collectors.toList());
+    }
+    
+    private void applyAll(Collection<UUID> bookingIds, int sign) {
+        List<UUID> ids = List.copyOf(bookingIds);
+        for (int start = 0; start < ids.size(); start += MAX_IDS_PER_STATEMENT) {
+            dailyRoomStatsJpaRepository.applyBookings(
+                    ids.subList(start, Math.min(start + MAX_IDS_PER_STATEMENT, ids.size())), sign);
+        }
+    }
+    
+    private void apply(Booking booking, int sign) {
+        BigDecimal rate = booking.getPricePerNight();
+        int rows = dailyRoomStatsJpaRepository.applyDelta(
+                booking.getRoomId(),
+                booking.getCheckInDate(),
+                booking.getCheckOutDate(),
+                sign,
+                sign > 0 ? rate : rate.negate());
+        log.debug("Applied booking {} to {} rollup rows (sign {})", booking.getId(), rows, sign);
+    }
+}
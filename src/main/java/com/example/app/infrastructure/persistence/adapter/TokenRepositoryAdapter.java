@@ -3,28 +3,51 @@ package com.example.app.infrastructure.persistence.adapter;
 import com.example.app.domain.port.out.TokenRepositoryPort;
 import com.example.app.infrastructure.persistence.entity.RefreshTokenEntity;
 import com.example.app.infrastructure.persistence.repository.RefreshTokenJpaRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * Adapter that implements TokenRepositoryPort using JPA
+ * Adapter that implements TokenRepositoryPort using JPA.
+ * Tokens are looked up by their SHA-256 digest; the raw token is never stored.
  */
 @Component
-@RequiredArgsConstructor
 public class TokenRepositoryAdapter implements TokenRepositoryPort {
     
     private final RefreshTokenJpaRepository refreshTokenJpaRepository;
+    private final Counter purgedTokens;
+    private final AtomicLong lastRowCount = new AtomicLong();
+    private final AtomicLong lastStorageBytes = new AtomicLong();
+    
+    public TokenRepositoryAdapter(RefreshTokenJpaRepository refreshTokenJpaRepository, MeterRegistry meterRegistry) {
+        this.refreshTokenJpaRepository = refreshTokenJpaRepository;
+        this.purgedTokens = Counter.builder("app.auth.refresh.tokens.purged")
+                .description("Expired refresh tokens deleted by the purge job")
+                .register(meterRegistry);
+        Gauge.builder("app.auth.refresh.tokens.rows", lastRowCount, AtomicLong::get)
+                .description("Refresh token rows, as of the last purge run")
+                .register(meterRegistry);
+        Gauge.builder("app.auth.refresh.tokens.size", lastStorageBytes, AtomicLong::get)
+                .description("Refresh token table size including indexes, as of the last purge run")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
     
     @Override
     @Transactional
     public void saveRefreshToken(UUID userId, String token, long expirationMs) {
         RefreshTokenEntity entity = RefreshTokenEntity.builder()
-                .token(token)
+                .tokenHash(digest(token))
                 .userId(userId)
                 .expiryDate(LocalDateTime.now().plusSeconds(expirationMs / 1000))
                 .build();
@@ -34,7 +57,7 @@ public class TokenRepositoryAdapter implements TokenRepositoryPort {
     
     @Override
     public Optional<UUID> findUserIdByRefreshToken(String token) {
-        return refreshTokenJpaRepository.findByToken(token)
+        return refreshTokenJpaRepository.findByTokenHash(digest(token))
                 .filter(t -> !t.isExpired())
                 .map(RefreshTokenEntity::getUserId);
     }
@@ -42,8 +65,7 @@ public class TokenRepositoryAdapter implements TokenRepositoryPort {
     @Override
     @Transactional
     public void deleteRefreshToken(String token) {
-        refreshTokenJpaRepository.findByToken(token)
-                .ifPresent(refreshTokenJpaRepository::delete);
+        refreshTokenJpaRepository.deleteByTokenHash(digest(token));
     }
     
     @Override
@@ -54,8 +76,38 @@ public class TokenRepositoryAdapter implements TokenRepositoryPort {
     
     @Override
     public boolean isRefreshTokenValid(String token) {
-        return refreshTokenJpaRepository.findByToken(token)
+        return refreshTokenJpaRepository.findByTokenHash(digest(token))
                 .map(t -> !t.isExpired())
                 .orElse(false);
     }
+    
+    @Override
+    @Transactional
+    public int deleteExpiredRefreshTokens(LocalDateTime now, int limit) {
+        int deleted = refreshTokenJpaRepository.deleteExpiredBatch(now, limit);
+        purgedTokens.increment(deleted);
+        return deleted;
+    }
+    
+    @Override
+    public long countRefreshTokens() {
+        long count = refreshTokenJpaRepository.count();
+        lastRowCount.set(count);
+        return count;
+    }
+    
+    @Override
+    public long refreshTokenStorageBytes() {
+        long bytes = refreshTokenJpaRepository.totalRelationSize();
+        lastStorageBytes.set(bytes);
+        return bytes;
+    }
+    
+    private static byte[] digest(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
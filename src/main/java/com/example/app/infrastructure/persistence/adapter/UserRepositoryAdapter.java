@@ -12,6 +12,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -82,6 +83,11 @@ public class UserRepositoryAdapter implements UserRepositoryPort {
         return userJpaRepository.countActive();
     }
     
+    @Override
+    public List<UUID> findIdsUpdatedSince(LocalDateTime since) {
+        return userJpaRepository.findIdsUpdatedSince(since);
+    }
+    
     @Override
     public void delete(UUID id) {
         userJpaRepository.findById(id).ifPresent(user -> {
@@ -0,0 +1,53 @@
+package com.example.app.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the daily_room_stats rollup table.
+ * One row per room and night; maintained incrementally on booking create/cancel.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(DailyRoomStatsEntity.Key.class)
+@Table(name = "daily_room_stats", indexes = {
+    @Index(name = "idx_daily_room_stats_date", columnList = "stat_date")
+})
+public class DailyRoomStatsEntity {
+    
+    @Id
+    @Column(name = "room_id", nullable = false)
+    private UUID roomId;
+    
+    @Id
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+    
+    @Column(name = "nights_sold", nullable = false)
+    private int nightsSold;
+    
+    @Column(name = "revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+    
+    /**
+     * Composite primary key (room_id, stat_date)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID roomId;
+        private LocalDate statDate;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.app.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for the image_blobs table.
+ * One row per object in image storage, with the number of room images and variants referencing it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "image_blobs")
+public class ImageBlobEntity {
+    
+    @Id
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;
+    
+    @Column(name = "size", nullable = false)
+    private long size;
+    
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,43 @@
+package com.example.app.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the image_upload_chunks table.
+ * One row per chunk of an upload session that has been written durably.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(ImageUploadChunkEntity.Key.class)
+@Table(name = "image_upload_chunks")
+public class ImageUploadChunkEntity {
+    
+    @Id
+    @Column(name = "session_id", nullable = false)
+    private UUID sessionId;
+    
+    @Id
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+    
+    /**
+     * Composite primary key (session_id, chunk_index)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID sessionId;
+        private int chunkIndex;
+    }
+}
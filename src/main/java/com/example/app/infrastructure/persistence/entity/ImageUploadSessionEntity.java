@@ -0,0 +1,59 @@
+package com.example.app.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the image_upload_sessions table.
+ * The chunks received so far are tracked in image_upload_chunks; the bytes live in a temporary file.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "image_upload_sessions", indexes = {
+    @Index(name = "idx_image_upload_session_expires", columnList = "expires_at")
+})
+public class ImageUploadSessionEntity {
+    
+    @Id
+    @Column(name = "id", nullable = false)
+    private UUID id;
+    
+    @Column(name = "room_id", nullable = false)
+    private UUID roomId;
+    
+    @Column(name = "filename")
+    private String filename;
+    
+    @Column(name = "total_size", nullable = false)
+    private long totalSize;
+    
+    @Column(name = "chunk_size", nullable = false)
+    private int chunkSize;
+    
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+    
+    @Column(name = "is_main", nullable = false)
+    private boolean main;
+    
+    @Column(name = "display_order", nullable = false)
+    private int displayOrder;
+    
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+    
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -10,12 +10,14 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
- * JPA Entity for Refresh Token table
+ * JPA Entity for Refresh Token table.
+ * Only the SHA-256 digest of the token is stored.
  */
 @Entity
 @Table(name = "refresh_tokens", indexes = {
-    @Index(name = "idx_token", columnList = "token", unique = true),
-    @Index(name = "idx_user_id", columnList = "user_id")
+    @Index(name = "idx_refresh_token_hash", columnList = "token_hash", unique = true),
+    @Index(name = "idx_user_id", columnList = "user_id"),
+    @Index(name = "idx_refresh_token_expiry", columnList = "expiry_date")
 })
 @Data
 @Builder
@@ -27,8 +29,8 @@ public class RefreshTokenEntity {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
     
-    @Column(name = "token", unique = true, nullable = false, length = 500)
-    private String token;
+    @Column(name = "token_hash", unique = true, nullable = false, length = 32)
+    private byte[] tokenHash;
     
     @Column(name = "user_id", nullable = false)
     private UUID userId;
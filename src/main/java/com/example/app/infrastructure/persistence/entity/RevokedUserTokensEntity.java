@@ -0,0 +1,35 @@
+package com.example.app.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the revocation of every access token issued to a user up to a point in time
+ */
+@Entity
+@Table(name = "revoked_user_tokens", indexes = {
+    @Index(name = "idx_revoked_user_token_revoked", columnList = "revoked_before"),
+    @Index(name = "idx_revoked_user_token_expires", columnList = "expires_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokedUserTokensEntity {
+    
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+    
+    @Column(name = "revoked_before", nullable = false)
+    private LocalDateTime revokedBefore;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -13,8 +13,8 @@ import java.util.UUID;
 
 /**
  * JPA Entity for Room Images stored in PostgreSQL.
- * Uses BYTEA (byte array) for storing image binary data.
- * Lazy loading is used for imageData to optimize performance.
+ * Image bytes live in content-addressed storage referenced by contentHash;
+ * imageData only holds legacy BYTEA rows that have not been migrated yet.
  */
 @Data
 @SuperBuilder
@@ -23,7 +23,8 @@ import java.util.UUID;
 @Entity
 @Table(name = "room_images", indexes = {
     @Index(name = "idx_room_image_room_id", columnList = "room_id"),
-    @Index(name = "idx_room_image_is_main", columnList = "is_main")
+    @Index(name = "idx_room_image_is_main", columnList = "is_main"),
+    @Index(name = "idx_room_image_content_hash", columnList = "content_hash")
 })
 public class RoomImageEntity {
     
@@ -45,9 +46,21 @@ public class RoomImageEntity {
     @Column(name = "file_size", nullable = false)
     private Long fileSize;
     
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+    
+    @Column(name = "placeholder", length = 64)
+    private String placeholder;
+    
+    @Column(name = "original_content_hash", length = 64)
+    private String originalContentHash;
+    
+    @Column(name = "original_file_size")
+    private Long originalFileSize;
+    
     @Lob
     @Basic(fetch = FetchType.LAZY)
-    @Column(name = "image_data", nullable = false, columnDefinition = "BYTEA")
+    @Column(name = "image_data", columnDefinition = "BYTEA")
     private byte[] imageData;
     
     @Column(name = "is_main", nullable = false)
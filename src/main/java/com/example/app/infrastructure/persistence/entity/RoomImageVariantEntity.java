@@ -0,0 +1,61 @@
+package com.example.app.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the room_image_variants table.
+ * One row per image and width bucket; the bytes themselves live in image storage.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(RoomImageVariantEntity.Key.class)
+@Table(name = "room_image_variants")
+public class RoomImageVariantEntity {
+    
+    @Id
+    @Column(name = "image_id", nullable = false)
+    private UUID imageId;
+    
+    @Id
+    @Column(name = "width", nullable = false)
+    private int width;
+    
+    @Column(name = "height", nullable = false)
+    private int height;
+    
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+    
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+    
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    /**
+     * Composite primary key (image_id, width)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID imageId;
+        private int width;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.app.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the room_rate_changes table.
+ * One row per room, holding when its rate overrides last changed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "room_rate_changes", indexes = {
+    @Index(name = "idx_room_rate_changes_changed", columnList = "changed_at")
+})
+public class RoomRateChangeEntity {
+    
+    @Id
+    @Column(name = "room_id", nullable = false)
+    private UUID roomId;
+    
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,47 @@
+package com.example.app.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * JPA Entity for the room_rates table.
+ * One row per room and overridden day; other days use the room's base price.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@IdClass(RoomRateEntity.Key.class)
+@Table(name = "room_rates")
+public class RoomRateEntity {
+    
+    @Id
+    @Column(name = "room_id", nullable = false)
+    private UUID roomId;
+    
+    @Id
+    @Column(name = "rate_date", nullable = false)
+    private LocalDate rateDate;
+    
+    @Column(name = "price_cents", nullable = false)
+    private int priceCents;
+    
+    /**
+     * Composite primary key (room_id, rate_date)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID roomId;
+        private LocalDate rateDate;
+    }
+}
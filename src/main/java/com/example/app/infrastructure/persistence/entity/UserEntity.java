@@ -17,7 +17,8 @@ import java.util.Set;
 @Table(name = "users", indexes = {
     @Index(name = "idx_username", columnList = "username"),
     @Index(name = "idx_email", columnList = "email"),
-    @Index(name = "idx_provider_provider_id", columnList = "provider, provider_id")
+    @Index(name = "idx_provider_provider_id", columnList = "provider, provider_id"),
+    @Index(name = "idx_users_updated_at", columnList = "updated_at")
 })
 @Data
 @SuperBuilder
@@ -0,0 +1,76 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import com.example.app.infrastructure.persistence.entity.BookingEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for BookingEntity
+ */
+@Repository
+public interface BookingJpaRepository extends JpaRepository<BookingEntity, UUID> {
+    
+    /**
+     * Keyset page of bookings checked out before the cutoff, ordered by (check-in, id)
+     */
+    @Query(value = "SELECT * FROM bookings " +
+            "WHERE check_out_date < :cutoff " +
+            "AND (check_in_date, id) > (:afterCheckIn, :afterId) " +
+            "ORDER BY check_in_date, id " +
+            "LIMIT :limit", nativeQuery = true)
+    List<BookingEntity> findCheckedOutBefore(@Param("cutoff") LocalDate cutoff,
+                                             @Param("afterCheckIn") LocalDate afterCheckIn,
+                                             @Param("afterId") UUID afterId,
+                                             @Param("limit") int limit);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BookingEntity b WHERE b.id = :id")
+    Optional<BookingEntity> findByIdForUpdate(@Param("id") UUID id);
+    
+    @Modifying
+    @Query("DELETE FROM BookingEntity b WHERE b.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Check whether an active booking overlaps the half-open stay [checkIn, checkOut)
+     */
+    @Query("SELECT CASE WHEN COUNT(b) > 0 THEN true ELSE false END FROM BookingEntity b " +
+            "WHERE b.roomId = :roomId AND b.status <> 'CANCELLED' " +
+            "AND b.checkInDate < :checkOut AND b.checkOutDate > :checkIn")
+    boolean existsOverlapping(@Param("roomId") UUID roomId,
+                              @Param("checkIn") LocalDate checkIn,
+                              @Param("checkOut") LocalDate checkOut);
+    
+    /**
+     * Active bookings of the given rooms overlapping [from, to), for in-memory availability checks
+     */
+    @Query("SELECT b FROM BookingEntity b " +
+            "WHERE b.roomId IN :roomIds AND b.status <> 'CANCELLED' " +
+            "AND b.checkInDate < :to AND b.checkOutDate > :from")
+    List<BookingEntity> findActiveOverlapping(@Param("roomIds") Collection<UUID> roomIds,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+    
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM BookingEntity b WHERE b.id IN :ids ORDER BY b.id")
+    List<BookingEntity> findAllByIdInForUpdate(@Param("ids") Collection<UUID> ids);
+    
+    @Modifying
+    @Query("UPDATE BookingEntity b SET b.status = 'CANCELLED', b.updatedAt = :now WHERE b.id IN :ids")
+    int markCancelled(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+    
+    @Query("SELECT DISTINCT b.roomId FROM BookingEntity b")
+    List<UUID> findDistinctRoomIds();
+}
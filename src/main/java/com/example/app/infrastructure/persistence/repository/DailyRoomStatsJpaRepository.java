@@ -0,0 +1,84 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import com.example.app.infrastructure.persistence.entity.DailyRoomStatsEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for DailyRoomStatsEntity.
+ * Writes are set-based upserts so a booking touches its nights in a single statement.
+ */
+@Repository
+public interface DailyRoomStatsJpaRepository extends JpaRepository<DailyRoomStatsEntity, DailyRoomStatsEntity.Key> {
+    
+    /**
+     * Add (or subtract) one booking's contribution to every night in [checkIn, checkOut)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_room_stats (room_id, stat_date, nights_sold, revenue) " +
+            "SELECT :roomId, CAST(d AS date), :nightsDelta, :revenueDelta " +
+            "FROM generate_series(CAST(:checkIn AS date), CAST(:checkOut AS date) - 1, INTERVAL '1 day') d " +
+            "ON CONFLICT (room_id, stat_date) DO UPDATE SET " +
+            "nights_sold = daily_room_stats.nights_sold + EXCLUDED.nights_sold, " +
+            "revenue = daily_room_stats.revenue + EXCLUDED.revenue", nativeQuery = true)
+    int applyDelta(@Param("roomId") UUID roomId,
+                   @Param("checkIn") LocalDate checkIn,
+                   @Param("checkOut") LocalDate checkOut,
+                   @Param("nightsDelta") int nightsDelta,
+                   @Param("revenueDelta") BigDecimal revenueDelta);
+    
+    /**
+     * Add (sign = 1) or subtract (sign = -1) the contribution of many bookings in one statement
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_room_stats (room_id, stat_date, nights_sold, revenue) " +
+            "SELECT b.room_id, CAST(d AS date), COUNT(*) * :sign, SUM(b.price_per_night) * :sign " +
+            "FROM bookings b " +
+            "CROSS JOIN LATERAL generate_series(b.check_in_date, b.check_out_date - 1, INTERVAL '1 day') d " +
+            "WHERE b.id IN (:bookingIds) " +
+            "GROUP BY b.room_id, CAST(d AS date) " +
+            "ON CONFLICT (room_id, stat_date) DO UPDATE SET " +
+            "nights_sold = daily_room_stats.nights_sold + EXCLUDED.nights_sold, " +
+            "revenue = daily_room_stats.revenue + EXCLUDED.revenue", nativeQuery = true)
+    int applyBookings(@Param("bookingIds") Collection<UUID> bookingIds, @Param("sign") int sign);
+    
+    /**
+     * Delete the rollups of the given rooms from the first night of their earliest active booking on.
+     * Earlier nights belong to archived bookings, which no longer have rows to rebuild from.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM daily_room_stats s " +
+            "USING (SELECT room_id, MIN(check_in_date) AS first_night FROM bookings " +
+            "WHERE status <> 'CANCELLED' AND room_id IN (:roomIds) GROUP BY room_id) f " +
+            "WHERE s.room_id = f.room_id AND s.stat_date >= f.first_night", nativeQuery = true)
+    int deleteLiveNightsByRoomIds(@Param("roomIds") Collection<UUID> roomIds);
+    
+    /**
+     * Recompute the rollups of the given rooms from their active bookings
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_room_stats (room_id, stat_date, nights_sold, revenue) " +
+            "SELECT b.room_id, CAST(d AS date), COUNT(*), SUM(b.price_per_night) " +
+            "FROM bookings b " +
+            "CROSS JOIN LATERAL generate_series(b.check_in_date, b.check_out_date - 1, INTERVAL '1 day') d " +
+            "WHERE b.status <> 'CANCELLED' AND b.room_id IN (:roomIds) " +
+            "GROUP BY b.room_id, CAST(d AS date)", nativeQuery = true)
+    int rebuildForRooms(@Param("roomIds") Collection<UUID> roomIds);
+    
+    /**
+     * Totals per night across all rooms; rows are (statDate, nightsSold, revenue)
+     */
+    @Query("SELECT s.statDate, SUM(s.nightsSold), SUM(s.revenue) FROM DailyRoomStatsEntity s " +
+            "WHERE s.statDate BETWEEN :from AND :to " +
+            "GROUP BY s.statDate ORDER BY s.statDate")
+    List<Object[]> sumByDate(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
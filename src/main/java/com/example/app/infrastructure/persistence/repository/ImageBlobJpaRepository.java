@@ -0,0 +1,70 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import com.example.app.infrastructure.persistence.entity.ImageBlobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for ImageBlobEntity.
+ */
+@Repository
+public interface ImageBlobJpaRepository extends JpaRepository<ImageBlobEntity, String> {
+    
+    /**
+     * Register a blob or add references to an existing one
+     */
+    @Modifying
+    @Query(value = "INSERT INTO image_blobs (content_hash, size, ref_count, created_at, updated_at) " +
+                   "VALUES (:contentHash, :size, :count, now(), now()) " +
+                   "ON CONFLICT (content_hash) DO UPDATE " +
+                   "SET ref_count = image_blobs.ref_count + EXCLUDED.ref_count, updated_at = now()",
+           nativeQuery = true)
+    int addReferences(@Param("contentHash") String contentHash, @Param("size") long size, @Param("count") int count);
+    
+    /**
+     * Drop the references held by the given images, their retained originals and all of their variants
+     */
+    @Modifying
+    @Query(value = "UPDATE image_blobs b SET ref_count = b.ref_count - r.refs, updated_at = now() " +
+                   "FROM (SELECT content_hash, COUNT(*) AS refs FROM (" +
+                   "  SELECT content_hash FROM room_images WHERE id IN (:imageIds) AND content_hash IS NOT NULL " +
+                   "  UNION ALL " +
+                   "  SELECT original_content_hash FROM room_images " +
+                   "  WHERE id IN (:imageIds) AND original_content_hash IS NOT NULL " +
+                   "  UNION ALL " +
+                   "  SELECT content_hash FROM room_image_variants WHERE image_id IN (:imageIds)" +
+                   ") refs GROUP BY content_hash) r " +
+                   "WHERE b.content_hash = r.content_hash",
+           nativeQuery = true)
+    int releaseImageReferences(@Param("imageIds") Collection<UUID> imageIds);
+    
+    /**
+     * Drop one reference to a blob
+     */
+    @Modifying
+    @Query(value = "UPDATE image_blobs SET ref_count = ref_count - 1, updated_at = now() WHERE content_hash = :contentHash",
+           nativeQuery = true)
+    int releaseReference(@Param("contentHash") String contentHash);
+    
+    /**
+     * Hashes of blobs that lost their last reference before the cutoff
+     */
+    @Query(value = "SELECT content_hash FROM image_blobs WHERE ref_count <= 0 AND updated_at < :cutoff " +
+                   "ORDER BY updated_at LIMIT :limit", nativeQuery = true)
+    List<String> findUnreferencedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+    
+    /**
+     * Remove a blob row if it is still unreferenced
+     */
+    @Modifying
+    @Query(value = "DELETE FROM image_blobs WHERE content_hash = :contentHash AND ref_count <= 0", nativeQuery = true)
+    int deleteUnreferenced(@Param("contentHash") String contentHash);
+}
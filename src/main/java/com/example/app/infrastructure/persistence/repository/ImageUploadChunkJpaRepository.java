@@ -0,0 +1,33 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import com.example.app.infrastructure.persistence.entity.ImageUploadChunkEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for ImageUploadChunkEntity.
+ */
+@Repository
+public interface ImageUploadChunkJpaRepository extends JpaRepository<ImageUploadChunkEntity, ImageUploadChunkEntity.Key> {
+    
+    /**
+     * Record a chunk; a chunk sent again is already recorded
+     */
+    @Modifying
+    @Query(value = "INSERT INTO image_upload_chunks (session_id, chunk_index) VALUES (:sessionId, :chunkIndex) " +
+                   "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("sessionId") UUID sessionId, @Param("chunkIndex") int chunkIndex);
+    
+    @Query("SELECT c.chunkIndex FROM ImageUploadChunkEntity c WHERE c.sessionId = :sessionId ORDER BY c.chunkIndex")
+    List<Integer> findChunkIndexes(@Param("sessionId") UUID sessionId);
+    
+    @Modifying
+    @Query("DELETE FROM ImageUploadChunkEntity c WHERE c.sessionId = :sessionId")
+    int deleteBySessionId(@Param("sessionId") UUID sessionId);
+}
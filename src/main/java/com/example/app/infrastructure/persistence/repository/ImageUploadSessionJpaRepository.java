@@ -0,0 +1,37 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import com.example.app.infrastructure.persistence.entity.ImageUploadSessionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for ImageUploadSessionEntity.
+ */
+@Repository
+public interface ImageUploadSessionJpaRepository extends JpaRepository<ImageUploadSessionEntity, UUID> {
+    
+    @Modifying
+    @Query("UPDATE ImageUploadSessionEntity s SET s.expiresAt = :expiresAt WHERE s.id = :id")
+    int extendExpiry(@Param("id") UUID id, @Param("expiresAt") LocalDateTime expiresAt);
+    
+    @Modifying
+    @Query("UPDATE ImageUploadSessionEntity s SET s.status = :newStatus WHERE s.id = :id AND s.status = :expectedStatus")
+    int updateStatus(@Param("id") UUID id,
+                     @Param("expectedStatus") String expectedStatus,
+                     @Param("newStatus") String newStatus);
+    
+    @Query(value = "SELECT id FROM image_upload_sessions WHERE expires_at < :now ORDER BY expires_at LIMIT :limit",
+           nativeQuery = true)
+    List<UUID> findExpiredIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+    
+    @Modifying
+    @Query("DELETE FROM ImageUploadSessionEntity s WHERE s.id = :id AND s.expiresAt < :now")
+    int deleteExpired(@Param("id") UUID id, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,71 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import com.example.app.infrastructure.persistence.entity.OutboxEventEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for OutboxEventEntity.
+ * Polling uses row locks with SKIP LOCKED so several relay instances can drain the outbox concurrently.
+ */
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventEntity, UUID> {
+    
+    /**
+     * Lock the next batch of pending events, skipping rows already locked by another relay
+     */
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE processed_at IS NULL AND attempts < :maxAttempts " +
+            "ORDER BY created_at " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEventEntity> lockNextBatch(@Param("limit") int limit, @Param("maxAttempts") int maxAttempts);
+    
+    /**
+     * Mark a batch of events as processed in a single statement
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.processedAt = :processedAt WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") Collection<UUID> ids, @Param("processedAt") LocalDateTime processedAt);
+    
+    /**
+     * Record a failed delivery attempt so the event is retried on a later poll
+     */
+    @Modifying
+    @Query("UPDATE OutboxEventEntity e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id = :id")
+    int recordFailure(@Param("id") UUID id, @Param("error") String error);
+    
+    /**
+     * Delete processed events older than the retention cutoff, in bounded chunks
+     */
+    @Modifying
+    @Query(value = "DELETE FROM outbox_events WHERE id IN (" +
+            "SELECT id FROM outbox_events WHERE processed_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+    
+    /**
+     * Count dead letters: pending events the relay gave up on after maxAttempts failures
+     */
+    @Query(value = "SELECT COUNT(*) FROM outbox_events " +
+            "WHERE processed_at IS NULL AND attempts >= :maxAttempts", nativeQuery = true)
+    long countDeadLetters(@Param("maxAttempts") int maxAttempts);
+    
+    /**
+     * Delete dead letters created before the cutoff, in bounded chunks
+     */
+    @Modifying
+    @Query(value = "DELETE FROM outbox_events WHERE id IN (" +
+            "SELECT id FROM outbox_events WHERE processed_at IS NULL AND attempts >= :maxAttempts " +
+            "AND created_at < :cutoff LIMIT :limit)", nativeQuery = true)
+    int deleteDeadLettersBefore(@Param("cutoff") LocalDateTime cutoff,
+                                @Param("maxAttempts") int maxAttempts,
+                                @Param("limit") int limit);
+}
@@ -16,13 +16,24 @@ import java.util.UUID;
 @Repository
 public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, UUID> {
     
-    Optional<RefreshTokenEntity> findByToken(String token);
+    Optional<RefreshTokenEntity> findByTokenHash(byte[] tokenHash);
+    
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity r WHERE r.tokenHash = :tokenHash")
+    int deleteByTokenHash(byte[] tokenHash);
     
     @Modifying
     @Query("DELETE FROM RefreshTokenEntity r WHERE r.userId = :userId")
     void deleteByUserId(UUID userId);
     
+    /**
+     * Delete up to limit expired tokens; a bounded batch keeps each delete's locks short
+     */
     @Modifying
-    @Query("DELETE FROM RefreshTokenEntity r WHERE r.expiryDate < :now")
-    void deleteExpiredTokens(LocalDateTime now);
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN ("
+            + "SELECT id FROM refresh_tokens WHERE expiry_date < :now LIMIT :limit)", nativeQuery = true)
+    int deleteExpiredBatch(LocalDateTime now, int limit);
+    
+    @Query(value = "SELECT pg_total_relation_size('refresh_tokens')", nativeQuery = true)
+    long totalRelationSize();
 }
@@ -0,0 +1,24 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import com.example.app.infrastructure.persistence.entity.RevokedAccessTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for RevokedAccessTokenEntity
+ */
+@Repository
+public interface RevokedAccessTokenJpaRepository extends JpaRepository<RevokedAccessTokenEntity, String> {
+    
+    @Query("SELECT r FROM RevokedAccessTokenEntity r WHERE r.revokedAt >= :since AND r.expiresAt > :now")
+    List<RevokedAccessTokenEntity> findRevokedSince(LocalDateTime since, LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM RevokedAccessTokenEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(LocalDateTime now);
+}
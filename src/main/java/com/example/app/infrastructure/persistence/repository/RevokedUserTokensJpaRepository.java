@@ -0,0 +1,25 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import com.example.app.infrastructure.persistence.entity.RevokedUserTokensEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for RevokedUserTokensEntity
+ */
+@Repository
+public interface RevokedUserTokensJpaRepository extends JpaRepository<RevokedUserTokensEntity, UUID> {
+    
+    @Query("SELECT r FROM RevokedUserTokensEntity r WHERE r.revokedBefore >= :since AND r.expiresAt > :now")
+    List<RevokedUserTokensEntity> findRevokedSince(LocalDateTime since, LocalDateTime now);
+    
+    @Modifying
+    @Query("DELETE FROM RevokedUserTokensEntity r WHERE r.expiresAt <= :now")
+    int deleteExpired(LocalDateTime now);
+}
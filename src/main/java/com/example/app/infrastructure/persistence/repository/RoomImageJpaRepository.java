@@ -1,11 +1,15 @@
 package com.example.app.infrastructure.persistence.repository;
 
 import com.example.app.infrastructure.persistence.entity.RoomImageEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,19 +21,135 @@ import java.util.UUID;
 public interface RoomImageJpaRepository extends JpaRepository<RoomImageEntity, UUID> {
     
     /**
-     * Find all images for a specific room
+     * Select list of the metadata projection. Naming the columns keeps image_data out of the SQL;
+     * its LAZY fetch hint is ignored without bytecode enhancement, so entity queries would load it.
      */
-    @Query("SELECT ri FROM RoomImageEntity ri WHERE ri.room.id = :roomId ORDER BY ri.displayOrder ASC")
-    List<RoomImageEntity> findByRoomId(@Param("roomId") UUID roomId);
+    String SELECT_METADATA = "SELECT ri.id AS id, ri.room.id AS roomId, ri.filename AS filename, " +
+            "ri.contentType AS contentType, ri.fileSize AS fileSize, ri.contentHash AS contentHash, " +
+            "ri.placeholder AS placeholder, ri.originalFileSize AS originalFileSize, ri.isMain AS main, ri.displayOrder AS displayOrder, ri.createdAt AS createdAt, " +
+            "ri.updatedAt AS updatedAt FROM RoomImageEntity ri ";
     
     /**
-     * Find the main image for a room
+     * Find the metadata of all images for a specific room
      */
-    @Query("SELECT ri FROM RoomImageEntity ri WHERE ri.room.id = :roomId AND ri.isMain = true")
-    Optional<RoomImageEntity> findByRoomIdAndIsMainTrue(@Param("roomId") UUID roomId);
+    @Query(SELECT_METADATA + "WHERE ri.room.id = :roomId ORDER BY ri.displayOrder ASC")
+    List<RoomImageMetadataView> findMetadataByRoomId(@Param("roomId") UUID roomId);
     
     /**
-     * Delete all images for a room
+     * Find the metadata of all images for many rooms, grouped by room
      */
-    void deleteByRoomId(UUID roomId);
+    @Query(SELECT_METADATA + "WHERE ri.room.id IN :roomIds ORDER BY ri.room.id ASC, ri.displayOrder ASC")
+    List<RoomImageMetadataView> findMetadataByRoomIds(@Param("roomIds") Collection<UUID> roomIds);
+    
+    /**
+     * Number of images and latest update across many rooms, as {count, max(updatedAt)}
+     */
+    @Query("SELECT COUNT(ri), MAX(ri.updatedAt) FROM RoomImageEntity ri WHERE ri.room.id IN :roomIds")
+    List<Object[]> findVersionByRoomIds(@Param("roomIds") Collection<UUID> roomIds);
+    
+    /**
+     * Mark images as changed, e.g. when their variants are generated
+     */
+    @Modifying
+    @Query("UPDATE RoomImageEntity ri SET ri.updatedAt = :now WHERE ri.id IN :ids")
+    int touch(@Param("ids") Collection<UUID> ids, @Param("now") LocalDateTime now);
+    
+    /**
+     * Find the metadata of the main image for a room
+     */
+    @Query(SELECT_METADATA + "WHERE ri.room.id = :roomId AND ri.isMain = true")
+    Optional<RoomImageMetadataView> findMainMetadataByRoomId(@Param("roomId") UUID roomId);
+    
+    /**
+     * Find the metadata of an image without reading its inline bytes
+     */
+    @Query(SELECT_METADATA + "WHERE ri.id = :id")
+    Optional<RoomImageMetadataView> findMetadataById(@Param("id") UUID id);
+    
+    /**
+     * Find the metadata of stored images that have no placeholder yet, after the given ID
+     */
+    @Query(SELECT_METADATA + "WHERE ri.placeholder IS NULL AND ri.contentHash IS NOT NULL AND ri.id > :afterId " +
+           "ORDER BY ri.id ASC")
+    List<RoomImageMetadataView> findMetadataWithoutPlaceholder(@Param("afterId") UUID afterId, Pageable pageable);
+    
+    /**
+     * Set the placeholder of an image
+     */
+    @Modifying
+    @Query("UPDATE RoomImageEntity ri SET ri.placeholder = :placeholder, ri.updatedAt = :now WHERE ri.id = :id")
+    int updatePlaceholder(@Param("id") UUID id, @Param("placeholder") String placeholder, @Param("now") LocalDateTime now);
+    
+    /**
+     * Unset the main flag of a room's current main image
+     */
+    @Modifying
+    @Query("UPDATE RoomImageEntity ri SET ri.isMain = false, ri.updatedAt = :now WHERE ri.room.id = :roomId AND ri.isMain = true")
+    int clearMainImage(@Param("roomId") UUID roomId, @Param("now") LocalDateTime now);
+    
+    /**
+     * IDs of all images for a room
+     */
+    @Query("SELECT ri.id FROM RoomImageEntity ri WHERE ri.room.id = :roomId")
+    List<UUID> findIdsByRoomId(@Param("roomId") UUID roomId);
+    
+    /**
+     * Delete images in one statement, without loading them first
+     */
+    @Modifying
+    @Query("DELETE FROM RoomImageEntity ri WHERE ri.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * IDs of legacy images whose bytes are still held inline in image_data, after the given ID
+     */
+    @Query(value = "SELECT id FROM room_images WHERE content_hash IS NULL AND image_data IS NOT NULL " +
+                   "AND id > :afterId ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<UUID> findInlineImageIds(@Param("afterId") UUID afterId, @Param("limit") int limit);
+    
+    /**
+     * Read the inline bytes of a single image
+     */
+    @Query(value = "SELECT image_data FROM room_images WHERE id = :id", nativeQuery = true)
+    byte[] findImageDataById(@Param("id") UUID id);
+    
+    /**
+     * Read part of the inline bytes of a single image
+     * @param start 1-based offset, as used by Postgres substring
+     */
+    @Query(value = "SELECT substring(image_data FROM :start FOR :length) FROM room_images WHERE id = :id",
+           nativeQuery = true)
+    byte[] findImageDataRange(@Param("id") UUID id, @Param("start") long start, @Param("length") int length);
+    
+    /**
+     * Point an image at re-encoded content if it still has the expected content and was not re-encoded before.
+     * The previous content is kept as the original when requested, and its size is recorded either way.
+     */
+    @Modifying
+    @Query(value = "UPDATE room_images SET " +
+                   "original_content_hash = CASE WHEN :keepOriginal THEN content_hash ELSE NULL END, " +
+                   "original_file_size = file_size, content_hash = :contentHash, file_size = :size, " +
+                   "content_type = :contentType, updated_at = now() " +
+                   "WHERE id = :id AND content_hash = :expectedHash AND original_file_size IS NULL", nativeQuery = true)
+    int replaceContent(@Param("id") UUID id,
+                       @Param("expectedHash") String expectedHash,
+                       @Param("contentHash") String contentHash,
+                       @Param("size") long size,
+                       @Param("contentType") String contentType,
+                       @Param("keepOriginal") boolean keepOriginal);
+    
+    /**
+     * Record that an image was checked on ingest and kept as uploaded
+     */
+    @Modifying
+    @Query("UPDATE RoomImageEntity ri SET ri.originalFileSize = ri.fileSize WHERE ri.id = :id AND ri.originalFileSize IS NULL")
+    int markUnchanged(@Param("id") UUID id);
+    
+    /**
+     * Point an inline image at its stored object and drop the inline bytes
+     */
+    @Modifying
+    @Query(value = "UPDATE room_images SET content_hash = :contentHash, image_data = NULL " +
+                   "WHERE id = :id AND content_hash IS NULL", nativeQuery = true)
+    int moveToStorage(@Param("id") UUID id, @Param("contentHash") String contentHash);
 }
@@ -0,0 +1,34 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of a room_images row without the image_data column.
+ */
+public interface RoomImageMetadataView {
+    
+    UUID getId();
+    
+    UUID getRoomId();
+    
+    String getFilename();
+    
+    String getContentType();
+    
+    Long getFileSize();
+    
+    String getContentHash();
+    
+    String getPlaceholder();
+    
+    Long getOriginalFileSize();
+    
+    boolean isMain();
+    
+    Integer getDisplayOrder();
+    
+    LocalDateTime getCreatedAt();
+    
+    LocalDateTime getUpdatedAt();
+}
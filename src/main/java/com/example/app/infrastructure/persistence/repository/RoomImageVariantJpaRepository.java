@@ -0,0 +1,32 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import com.example.app.infrastructure.persistence.entity.RoomImageVariantEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for RoomImageVariantEntity.
+ */
+@Repository
+public interface RoomImageVariantJpaRepository extends JpaRepository<RoomImageVariantEntity, RoomImageVariantEntity.Key> {
+    
+    /**
+     * Find the variants of many images, narrowest first
+     */
+    @Query("SELECT v FROM RoomImageVariantEntity v WHERE v.imageId IN :imageIds ORDER BY v.imageId, v.width")
+    List<RoomImageVariantEntity> findByImageIds(@Param("imageIds") Collection<UUID> imageIds);
+    
+    /**
+     * Delete the variants of many images
+     */
+    @Modifying
+    @Query("DELETE FROM RoomImageVariantEntity v WHERE v.imageId IN :imageIds")
+    int deleteByImageIds(@Param("imageIds") Collection<UUID> imageIds);
+}
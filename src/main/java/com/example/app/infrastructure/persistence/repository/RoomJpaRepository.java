@@ -5,10 +5,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,4 +42,24 @@ public interface RoomJpaRepository extends JpaRepository<RoomEntity, UUID>, JpaS
      */
     @Query("SELECT CASE WHEN COUNT(r) > 0 THEN true ELSE false END FROM RoomEntity r WHERE r.id = :id AND r.deleted = false")
     boolean existsByIdAndDeletedFalse(@Param("id") UUID id);
+    
+    /**
+     * Find a non-deleted room and lock its row, serializing bookings for that room
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RoomEntity r WHERE r.id = :id AND r.deleted = false")
+    Optional<RoomEntity> findByIdAndDeletedFalseForUpdate(@Param("id") UUID id);
+    
+    /**
+     * Find and lock non-deleted rooms; locks are taken in ID order to avoid deadlocks between batches
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RoomEntity r WHERE r.id IN :ids AND r.deleted = false ORDER BY r.id")
+    List<RoomEntity> findAllByIdInAndDeletedFalseForUpdate(@Param("ids") Collection<UUID> ids);
+    
+    /**
+     * Count non-deleted rooms (sellable inventory)
+     */
+    @Query("SELECT COUNT(r) FROM RoomEntity r WHERE r.deleted = false")
+    long countByDeletedFalse();
 }
@@ -0,0 +1,59 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import com.example.app.infrastructure.persistence.entity.RoomRateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Spring Data JPA repository for RoomRateEntity.
+ * Range updates are single set-based statements touching only the affected days.
+ */
+@Repository
+public interface RoomRateJpaRepository extends JpaRepository<RoomRateEntity, RoomRateEntity.Key> {
+    
+    /**
+     * Set the rate of every day in [from, to]
+     */
+    @Modifying
+    @Query(value = "INSERT INTO room_rates (room_id, rate_date, price_cents) " +
+            "SELECT :roomId, CAST(d AS date), :priceCents " +
+            "FROM generate_series(CAST(:from AS date), CAST(:to AS date), INTERVAL '1 day') d " +
+            "ON CONFLICT (room_id, rate_date) DO UPDATE SET price_cents = EXCLUDED.price_cents", nativeQuery = true)
+    int upsertRange(@Param("roomId") UUID roomId,
+                    @Param("from") LocalDate from,
+                    @Param("to") LocalDate to,
+                    @Param("priceCents") int priceCents);
+    
+    /**
+     * Remove overrides for [from, to] so those days fall back to the base price
+     */
+    @Modifying
+    @Query("DELETE FROM RoomRateEntity r WHERE r.roomId = :roomId AND r.rateDate BETWEEN :from AND :to")
+    int deleteRange(@Param("roomId") UUID roomId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+    
+    /**
+     * Record that the overrides of a room changed, for other instances to drop their cached calendar
+     */
+    @Modifying
+    @Query(value = "INSERT INTO room_rate_changes (room_id, changed_at) VALUES (:roomId, :changedAt) " +
+            "ON CONFLICT (room_id) DO UPDATE SET changed_at = EXCLUDED.changed_at", nativeQuery = true)
+    int recordChange(@Param("roomId") UUID roomId, @Param("changedAt") LocalDateTime changedAt);
+    
+    @Query("SELECT c.roomId FROM RoomRateChangeEntity c WHERE c.changedAt >= :since")
+    List<UUID> findRoomsChangedSince(@Param("since") LocalDateTime since);
+    
+    @Query("SELECT r FROM RoomRateEntity r " +
+            "WHERE r.roomId IN :roomIds AND r.rateDate >= :from AND r.rateDate < :to")
+    List<RoomRateEntity> findByRoomIdsBetween(@Param("roomIds") Collection<UUID> roomIds,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to);
+}
@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -31,4 +33,7 @@ public interface UserJpaRepository extends JpaRepository<UserEntity, UUID> {
     
     @Query("SELECT COUNT(u) FROM UserEntity u WHERE u.deleted = false")
     long countActive();
+    
+    @Query("SELECT u.id FROM UserEntity u WHERE u.updatedAt >= :since")
+    List<UUID> findIdsUpdatedSince(LocalDateTime since);
 }
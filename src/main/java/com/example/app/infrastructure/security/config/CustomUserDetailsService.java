@@ -14,16 +14,23 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
- * Custom UserDetailsService to load user from database
+ * Custom UserDetailsService to load user from database.
+ * Loaded users are cached by username and email; see UserDetailsCache for invalidation.
  */
 @Service
 @RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
     
     private final UserRepositoryPort userRepositoryPort;
+    private final UserDetailsCache userDetailsCache;
     
     @Override
     public UserDetails loadUserByUsername(String usernameOrEmail) throws UsernameNotFoundException {
+        UserDetails cached = userDetailsCache.get(usernameOrEmail);
+        if (cached != null) {
+            return cached;
+        }
+        
         // Try to find by username first, then by email
         User user = userRepositoryPort.findByUsername(usernameOrEmail)
                 .or(() -> userRepositoryPort.findByEmail(usernameOrEmail))
@@ -33,7 +40,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .map(role -> new SimpleGrantedAuthority(role.getName()))
                 .collect(Collectors.toSet());
         
-        return org.springframework.security.core.userdetails.User.builder()
+        UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
                 .username(user.getUsername())
                 .password(user.getPassword() != null ? user.getPassword() : "")
                 .authorities(authorities)
@@ -42,5 +49,9 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .credentialsExpired(!user.isCredentialsNonExpired())
                 .disabled(!user.isEnabled())
                 .build();
+        
+        userDetailsCache.put(user.getId(), userDetails, user.getUsername(),
+                user.getEmail() != null ? user.getEmail().getValue() : null);
+        return userDetails;
     }
 }
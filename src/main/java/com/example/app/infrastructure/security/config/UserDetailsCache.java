@@ -0,0 +1,147 @@
+package com.example.app.infrastructure.security.config;
+
+import com.example.app.domain.port.out.UserDetailsCachePort;
+import com.example.app.domain.port.out.UserRepositoryPort;
+import com.example.app.infrastructure.cache.ConcurrentLruMap;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Adapter implementing UserDetailsCachePort with a bounded LRU of UserDetails, keyed by both
+ * username and email, whose entries expire after a fixed time to live.
+ * Evictions are precise: every entry of a user is dropped when an admin changes that user.
+ * Changes made through another instance are picked up by polling users updated since the last poll,
+ * so a stale entry outlives such a change by at most one sync interval.
+ * Lookups take no lock, as every request authenticated by session or login goes through this cache.
+ */
+@Slf4j
+@Component
+public class UserDetailsCache implements UserDetailsCachePort {
+    
+    // Overlap between polls, so a change committed just after the previous poll started is not missed
+    private static final long SYNC_OVERLAP_SECONDS = 10;
+    
+    private final UserRepositoryPort userRepositoryPort;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final ConcurrentLruMap<String, Entry> entries;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private volatile LocalDateTime lastSync = LocalDateTime.now();
+    
+    public UserDetailsCache(
+            UserRepositoryPort userRepositoryPort,
+            @Value("${app.cache.user-details.enabled:true}") boolean enabled,
+            @Value("${app.cache.user-details.max-entries:10000}") int maxEntries,
+            @Value("${app.cache.user-details.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry) {
+        this.userRepositoryPort = userRepositoryPort;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new ConcurrentLruMap<>(maxEntries);
+        
+        registerMetrics(meterRegistry);
+    }
+    
+    /**
+     * @return Cached details for the username or email, or null if absent or expired
+     */
+    public UserDetails get(String usernameOrEmail) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(usernameOrEmail);
+        if (entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(usernameOrEmail, entry);
+            entry = null;
+        }
+        (entry != null ? hits : misses).incrementAndGet();
+        return entry != null ? entry.userDetails : null;
+    }
+    
+    /**
+     * Cache the details of a user under each of the given keys
+     */
+    public void put(UUID userId, UserDetails userDetails, String... keys) {
+        if (!enabled) {
+            return;
+        }
+        Entry entry = new Entry(userId, userDetails, System.currentTimeMillis() + ttlMillis);
+        for (String key : keys) {
+            if (key != null) {
+                entries.put(key, entry);
+            }
+        }
+    }
+    
+    @Override
+    public void evictUser(UUID userId) {
+        int removed = evict(Set.of(userId));
+        if (removed > 0) {
+            log.debug("Evicted {} cached user details entries for user {}", removed, userId);
+        }
+    }
+    
+    /**
+     * Evict users changed through any instance since the previous poll
+     */
+    @Scheduled(fixedDelayString = "${app.cache.user-details.sync-interval-ms:15000}")
+    public void sync() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<UUID> changed = userRepositoryPort.findIdsUpdatedSince(lastSync.minusSeconds(SYNC_OVERLAP_SECONDS));
+        lastSync = now;
+        if (!changed.isEmpty()) {
+            int removed = evict(new HashSet<>(changed));
+            log.debug("Evicted {} cached user details entries for {} changed users", removed, changed.size());
+        }
+    }
+    
+    private int evict(Set<UUID> userIds) {
+        int removed = entries.removeIf(entry -> userIds.contains(entry.userId));
+        evictions.addAndGet(removed);
+        return removed;
+    }
+    
+    private int entryCount() {
+        return entries.size();
+    }
+    
+    private void registerMetrics(MeterRegistry registry) {
+        FunctionCounter.builder("app.security.user.cache.hits", hits, AtomicLong::get).register(registry);
+        FunctionCounter.builder("app.security.user.cache.misses", misses, AtomicLong::get).register(registry);
+        FunctionCounter.builder("app.security.user.cache.evictions", evictions, AtomicLong::get)
+                .description("Entries dropped because the user was changed")
+                .register(registry);
+        Gauge.builder("app.security.user.cache.entries", this, UserDetailsCache::entryCount).register(registry);
+    }
+    
+    private static final class Entry {
+        private final UUID userId;
+        private final UserDetails userDetails;
+        private final long expiresAt;
+        
+        private Entry(UUID userId, UserDetails userDetails, long expiresAt) {
+            this.userId = userId;
+            this.userDetails = userDetails;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.app.infrastructure.security.jwt;
+
+import com.example.app.domain.port.out.AccessTokenRevocationPort;
+import com.example.app.domain.port.out.RevokedAccessTokenRepositoryPort;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapter implementing AccessTokenRevocationPort with in-memory denylists, checked on every request
+ * with a hash lookup and no I/O. An entry is only kept until the tokens it covers have expired,
+ * so both lists stay as small as the number of revocations within one access token lifetime.
+ * <p>
+ * Revoked token ids and user-wide revocations are also written to the revoked_access_tokens and
+ * revoked_user_tokens tables: both lists are rebuilt from them at startup, and each instance polls
+ * them for revocations made through another instance.
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist implements AccessTokenRevocationPort {
+    
+    // Overlap between polls, so a row committed just after the previous poll started is not missed
+    private static final long SYNC_OVERLAP_SECONDS = 10;
+    
+    private final RevokedAccessTokenRepositoryPort revokedAccessTokenRepositoryPort;
+    private final long accessTokenExpiration;
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<UUID, Instant> revokedBefore = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastSync;
+    
+    public AccessTokenDenylist(
+            RevokedAccessTokenRepositoryPort revokedAccessTokenRepositoryPort,
+            @Value("${jwt.access-token-expiration}") long accessTokenExpiration) {
+        this.revokedAccessTokenRepositoryPort = revokedAccessTokenRepositoryPort;
+        this.accessTokenExpiration = accessTokenExpiration;
+    }
+    
+    /**
+     * Rebuild the token denylist before the first request is served
+     */
+    @PostConstruct
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minusSeconds(accessTokenExpiration / 1000 + 1);
+        int loaded = merge(revokedAccessTokenRepositoryPort.findRevokedSince(since));
+        int users = mergeUsers(revokedAccessTokenRepositoryPort.findUserRevocationsSince(since));
+        lastSync = now;
+        log.info("Loaded {} revoked access tokens and {} user revocations", loaded, users);
+    }
+    
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval-ms:15000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSync.minusSeconds(SYNC_OVERLAP_SECONDS);
+        int merged = merge(revokedAccessTokenRepositoryPort.findRevokedSince(since));
+        int users = mergeUsers(revokedAccessTokenRepositoryPort.findUserRevocationsSince(since));
+        lastSync = now;
+        
+        Instant current = Instant.now();
+        Instant expired = current.minusMillis(accessTokenExpiration);
+        revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(current));
+        revokedBefore.values().removeIf(revokedAt -> revokedAt.isBefore(expired));
+        if (merged > 0 || users > 0) {
+            log.debug("Merged {} revoked access tokens and {} user revocations", merged, users);
+        }
+    }
+    
+    @Scheduled(cron = "${jwt.revocation.purge-cron:0 15 * * * *}")
+    public void purgeExpired() {
+        int deleted = revokedAccessTokenRepositoryPort.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired access token revocations", deleted);
+        }
+    }
+    
+    @Override
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        revokedTokens.put(tokenId, expiresAt);
+        revokedAccessTokenRepositoryPort.save(tokenId, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault()));
+        log.debug("Revoked access token {}", tokenId);
+    }
+    
+    @Override
+    public void revokeUserTokens(UUID userId) {
+        // Tokens carry their issue time in milliseconds, so only tokens issued in the same millisecond go too
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        revokedBefore.merge(userId, now, (a, b) -> a.isAfter(b) ? a : b);
+        revokedAccessTokenRepositoryPort.saveUserRevocation(userId,
+                LocalDateTime.ofInstant(now, ZoneId.systemDefault()),
+                LocalDateTime.ofInstant(now.plusMillis(accessTokenExpiration), ZoneId.systemDefault()));
+        log.info("Revoked access tokens of user {}", userId);
+    }
+    
+    @Override
+    public boolean isRevoked(String tokenId, UUID userId, Instant issuedAt) {
+        if (tokenId != null && revokedTokens.containsKey(tokenId)) {
+            return true;
+        }
+        Instant revokedAt = userId != null ? revokedBefore.get(userId) : null;
+        return revokedAt != null && (issuedAt == null || !issuedAt.isAfter(revokedAt));
+    }
+    
+    private int merge(Map<String, LocalDateTime> revoked) {
+        revoked.forEach((tokenId, expiresAt) ->
+                revokedTokens.put(tokenId, expiresAt.atZone(ZoneId.systemDefault()).toInstant()));
+        return revoked.size();
+    }
+    
+    private int mergeUsers(Map<UUID, LocalDateTime> revoked) {
+        revoked.forEach((userId, revokedAt) ->
+                revokedBefore.merge(userId, revokedAt.atZone(ZoneId.systemDefault()).toInstant(), (a, b) -> a.isAfter(b) ? a : b));
+        return revoked.size();
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.app.infrastructure.security.jwt;
 
 import com.example.app.common.exception.InvalidTokenException;
+import com.example.app.domain.port.out.AccessTokenRevocationPort;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -17,17 +20,37 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
- * JWT Authentication Filter that validates JWT tokens on each request
+ * JWT Authentication Filter that validates JWT tokens on each request.
+ * In stateless mode the principal is built from the verified claims (subject, user id, roles)
+ * without a database lookup; tokens are then revoked through the denylist and short expiry.
+ * Tokens without a user id claim always fall back to loading the user.
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final AccessTokenRevocationPort accessTokenRevocationPort;
+    private final boolean stateless;
+    
+    public JwtAuthenticationFilter(
+            JwtTokenProvider jwtTokenProvider,
+            UserDetailsService userDetailsService,
+            AccessTokenRevocationPort accessTokenRevocationPort,
+            @Value("${jwt.stateless:false}") boolean stateless) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userDetailsService = userDetailsService;
+        this.accessTokenRevocationPort = accessTokenRevocationPort;
+        this.stateless = stateless;
+    }
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -36,16 +59,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
-                
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            if (StringUtils.hasText(jwt)) {
+                Claims claims = jwtTokenProvider.parseClaims(jwt);
+                String username = claims.getSubject();
+                UUID userId = getUserId(claims);
                 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-                log.debug("Set authentication for user: {}", username);
+                if (accessTokenRevocationPort.isRevoked(claims.getId(), userId, toInstant(claims))) {
+                    log.debug("Rejected revoked token of user: {}", username);
+                } else {
+                    UserDetails userDetails = stateless && userId != null
+                            ? new JwtUserPrincipal(userId, username, getAuthorities(claims))
+                            : userDetailsService.loadUserByUsername(username);
+                    if (!userDetails.isEnabled() || !userDetails.isAccountNonLocked()) {
+                        log.debug("Rejected token of disabled or locked user: {}", username);
+                    } else {
+                        UsernamePasswordAuthenticationToken authentication = 
+                                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                        log.debug("Set authentication for user: {}", username);
+                    }
+                }
             }
         } catch (InvalidTokenException ex) {
             log.error("Could not set user authentication in security context", ex);
@@ -56,6 +91,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
+    private UUID getUserId(Claims claims) {
+        String userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, String.class);
+        return userId != null ? UUID.fromString(userId) : null;
+    }
+    
+    private Instant toInstant(Claims claims) {
+        Long issuedAtMillis = claims.get(JwtTokenProvider.CLAIM_ISSUED_AT_MILLIS, Long.class);
+        if (issuedAtMillis != null) {
+            return Instant.ofEpochMilli(issuedAtMillis);
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null;
+    }
+    
+    private Collection<SimpleGrantedAuthority> getAuthorities(Claims claims) {
+        List<?> roles = claims.get(JwtTokenProvider.CLAIM_ROLES, List.class);
+        if (roles == null) {
+            return List.of();
+        }
+        return roles.stream()
+                .map(role -> new SimpleGrantedAuthority(role.toString()))
+                .collect(Collectors.toList());
+    }
+    
     /**
      * Extract JWT token from Authorization header
      */
@@ -3,6 +3,10 @@ package com.example.app.infrastructure.security.jwt;
 import com.example.app.common.exception.InvalidTokenException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -13,29 +17,53 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
- * JWT Token Provider for generating and validating JWT tokens
+ * JWT Token Provider for generating and validating JWT tokens.
+ * Tokens are verified with one shared parser, and the claims of recently verified tokens are cached
+ * until the token expires, so a client reusing its access token skips the signature check.
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
     
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
+    // Issue time in milliseconds; iat only has second precision, too coarse to order tokens around a revocation
+    public static final String CLAIM_ISSUED_AT_MILLIS = "iat_ms";
+    
     private final SecretKey secretKey;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
     private final String issuer;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
     
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
             @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
-            @Value("${jwt.issuer}") String issuer) {
+            @Value("${jwt.issuer}") String issuer,
+            @Value("${jwt.verified-cache.max-entries:10000}") int verifiedCacheMaxEntries,
+            MeterRegistry meterRegistry) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
         this.issuer = issuer;
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        this.verifiedTokens = verifiedCacheMaxEntries > 0 ? new VerifiedTokenCache(verifiedCacheMaxEntries) : null;
+        
+        if (verifiedTokens != null) {
+            FunctionCounter.builder("app.jwt.verified.cache.hits", verifiedTokens.hits, AtomicLong::get).register(meterRegistry);
+            FunctionCounter.builder("app.jwt.verified.cache.misses", verifiedTokens.misses, AtomicLong::get).register(meterRegistry);
+            Gauge.builder("app.jwt.verified.cache.entries", verifiedTokens, VerifiedTokenCache::size).register(meterRegistry);
+        }
     }
     
     /**
@@ -51,17 +79,30 @@ public class JwtTokenProvider {
     /**
      * Generate access token from username and roles
      */
-    public String generateAccessToken(String username, java.util.List<String> roles) {
+    public String generateAccessToken(String username, List<String> roles) {
+        return generateAccessToken(null, username, roles);
+    }
+    
+    /**
+     * Generate access token carrying everything needed to authenticate without a user lookup
+     */
+    public String generateAccessToken(UUID userId, String username, List<String> roles) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + accessTokenExpiration);
         
-        return Jwts.builder()
-                .setSubject(username)
-                .setIssuer(issuer)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .claim("roles", roles)
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+        JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(username)
+                .issuer(issuer)
+                .issuedAt(now)
+                .expiration(expiryDate)
+                .claim(CLAIM_ISSUED_AT_MILLIS, now.getTime())
+                .claim(CLAIM_ROLES, roles);
+        if (userId != null) {
+            builder.claim(CLAIM_USER_ID, userId.toString());
+        }
+        return builder
+                .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
     }
     
@@ -73,12 +114,12 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + refreshTokenExpiration);
         
         return Jwts.builder()
-                .setSubject(username)
-                .setIssuer(issuer)
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
+                .subject(username)
+                .issuer(issuer)
+                .issuedAt(now)
+                .expiration(expiryDate)
                 .claim("type", "refresh")
-                .signWith(secretKey, SignatureAlgorithm.HS256)
+                .signWith(secretKey, Jwts.SIG.HS256)
                 .compact();
     }
     
@@ -86,25 +127,37 @@ public class JwtTokenProvider {
      * Get username from JWT token
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
     
     /**
      * Validate JWT token
      */
     public boolean validateToken(String token) {
+        parseClaims(token);
+        return true;
+    }
+    
+    /**
+     * Verify a JWT token and return its claims, served from the verified-token cache when possible
+     * @throws InvalidTokenException if the token is invalid or expired
+     */
+    public Claims parseClaims(String token) {
+        if (verifiedTokens == null || token == null) {
+            return verify(token);
+        }
+        String key = VerifiedTokenCache.digest(token);
+        Claims claims = verifiedTokens.get(key);
+        if (claims == null) {
+            claims = verify(token);
+            verifiedTokens.put(key, claims);
+        }
+        return claims;
+    }
+    
+    private Claims verify(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return parser.parseSignedClaims(token).getPayload();
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature");
             throw new InvalidTokenException("Invalid JWT signature", ex);
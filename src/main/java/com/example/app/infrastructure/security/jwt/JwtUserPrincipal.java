@@ -0,0 +1,24 @@
+package com.example.app.infrastructure.security.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Principal of a request authenticated from access token claims alone
+ */
+public class JwtUserPrincipal extends User {
+    
+    private final UUID userId;
+    
+    public JwtUserPrincipal(UUID userId, String username, Collection<? extends GrantedAuthority> authorities) {
+        super(username, "", authorities);
+        this.userId = userId;
+    }
+    
+    public UUID getUserId() {
+        return userId;
+    }
+}
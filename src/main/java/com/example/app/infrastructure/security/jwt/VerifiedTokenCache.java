@@ -0,0 +1,70 @@
+package com.example.app.infrastructure.security.jwt;
+
+import com.example.app.infrastructure.cache.ConcurrentLruMap;
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of the claims of recently verified tokens, keyed by the SHA-256 digest of the token
+ * so the tokens themselves are not kept in memory. An entry is only served until the token expires.
+ * Lookups take no lock, as every authenticated request goes through this cache.
+ */
+final class VerifiedTokenCache {
+    
+    private final ConcurrentLruMap<String, Entry> entries;
+    
+    final AtomicLong hits = new AtomicLong();
+    final AtomicLong misses = new AtomicLong();
+    
+    VerifiedTokenCache(int maxEntries) {
+        this.entries = new ConcurrentLruMap<>(maxEntries);
+    }
+    
+    /**
+     * @return Claims of the token if it was verified before and has not expired since, otherwise null
+     */
+    Claims get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            entry = null;
+        }
+        (entry != null ? hits : misses).incrementAndGet();
+        return entry != null ? entry.claims : null;
+    }
+    
+    void put(String key, Claims claims) {
+        if (claims.getExpiration() == null) {
+            return;
+        }
+        entries.put(key, new Entry(claims, claims.getExpiration().getTime()));
+    }
+    
+    int size() {
+        return entries.size();
+    }
+    
+    static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    private static final class Entry {
+        private final Claims claims;
+        private final long expiresAt;
+        
+        private Entry(Claims claims, long expiresAt) {
+            this.claims = claims;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -18,7 +18,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
         OAuth2User oAuth2User = super.loadUser(userRequest);
         
-        log.info("OAuth2 user loaded: {}", oAuth2User.getAttribute("email"));
+        log.info("OAuth2 user loaded: {}", (Object) oAuth2User.getAttribute("email"));
         
         // Additional processing can be done here if needed
         // For now, we just return the OAuth2User as-is
@@ -56,6 +56,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         
         // Generate JWT tokens
         String accessToken = jwtTokenProvider.generateAccessToken(
+                user.getId(),
                 user.getUsername(),
                 user.getRoles().stream()
                         .map(role -> role.getName())
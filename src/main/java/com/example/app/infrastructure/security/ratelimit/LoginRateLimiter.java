@@ -0,0 +1,119 @@
+package com.example.app.infrastructure.security.ratelimit;
+
+import com.example.app.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles login attempts with one token bucket per client IP and one per account name,
+ * checked before any user lookup or password hashing. Buckets that have refilled completely
+ * are swept periodically, so only clients that attempted recently take up memory.
+ */
+@Slf4j
+@Component
+public class LoginRateLimiter {
+    
+    private final boolean enabled;
+    private final Limit ipLimit;
+    private final Limit accountLimit;
+    private final Map<String, TokenBucket> ipBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> accountBuckets = new ConcurrentHashMap<>();
+    
+    private final Counter allowedAttempts;
+    private final Counter throttledByIp;
+    private final Counter throttledByAccount;
+    
+    public LoginRateLimiter(
+            @Value("${app.auth.login-rate-limit.enabled:true}") boolean enabled,
+            @Value("${app.auth.login-rate-limit.per-ip.capacity:20}") int ipCapacity,
+            @Value("${app.auth.login-rate-limit.per-ip.refill-per-minute:10}") int ipRefillPerMinute,
+            @Value("${app.auth.login-rate-limit.per-account.capacity:5}") int accountCapacity,
+            @Value("${app.auth.login-rate-limit.per-account.refill-per-minute:3}") int accountRefillPerMinute,
+            MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.ipLimit = new Limit(ipCapacity, ipRefillPerMinute);
+        this.accountLimit = new Limit(accountCapacity, accountRefillPerMinute);
+        
+        this.allowedAttempts = Counter.builder("app.auth.login.attempts")
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        this.throttledByIp = Counter.builder("app.auth.login.attempts")
+                .tag("result", "throttled")
+                .tag("limit", "ip")
+                .register(meterRegistry);
+        this.throttledByAccount = Counter.builder("app.auth.login.attempts")
+                .tag("result", "throttled")
+                .tag("limit", "account")
+                .register(meterRegistry);
+        Gauge.builder("app.auth.login.buckets", ipBuckets, Map::size).tag("limit", "ip").register(meterRegistry);
+        Gauge.builder("app.auth.login.buckets", accountBuckets, Map::size).tag("limit", "account").register(meterRegistry);
+    }
+    
+    /**
+     * Take a login attempt from the client's and the account's buckets
+     * @throws RateLimitExceededException if either bucket is empty
+     */
+    public void checkLoginAllowed(String usernameOrEmail, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        
+        long wait = take(ipBuckets, clientIp, ipLimit, now);
+        if (wait > 0) {
+            throttledByIp.increment();
+            log.warn("Throttled login attempt from {}", clientIp);
+            throw tooManyAttempts(wait);
+        }
+        
+        String account = usernameOrEmail != null ? usernameOrEmail.trim().toLowerCase(Locale.ROOT) : "";
+        wait = take(accountBuckets, account, accountLimit, now);
+        if (wait > 0) {
+            throttledByAccount.increment();
+            log.warn("Throttled login attempt for account {} from {}", account, clientIp);
+            throw tooManyAttempts(wait);
+        }
+        allowedAttempts.increment();
+    }
+    
+    /**
+     * Drop buckets that have refilled completely. A bucket taken from while it is being dropped
+     * loses that one attempt from its count, which only ever errs towards allowing a login.
+     */
+    @Scheduled(fixedDelayString = "${app.auth.login-rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        ipBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        accountBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+    
+    private long take(Map<String, TokenBucket> buckets, String key, Limit limit, long now) {
+        TokenBucket bucket = buckets.computeIfAbsent(key == null ? "" : key, k -> new TokenBucket(now));
+        return bucket.tryTake(now, limit.intervalNanos, limit.capacityNanos);
+    }
+    
+    private RateLimitExceededException tooManyAttempts(long waitNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        return new RateLimitExceededException("Too many login attempts, please retry later", retryAfterSeconds);
+    }
+    
+    private static final class Limit {
+        private final long intervalNanos;
+        private final long capacityNanos;
+        
+        private Limit(int capacity, int refillPerMinute) {
+            this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, refillPerMinute);
+            this.capacityNanos = intervalNanos * Math.max(1, capacity);
+        }
+    }
+}
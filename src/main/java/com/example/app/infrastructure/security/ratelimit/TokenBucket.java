@@ -0,0 +1,44 @@
+package com.example.app.infrastructure.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket, kept as the single time at which the bucket will be full again
+ * (the generic cell rate algorithm). Taking a token pushes that time back by one refill interval;
+ * the request is refused if that would put it more than the capacity's worth of intervals ahead.
+ */
+final class TokenBucket {
+    
+    private final AtomicLong fullAt;
+    
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+    
+    /**
+     * Take a token if one is available
+     * @param intervalNanos Time to refill one token
+     * @param capacityNanos Capacity of the bucket times the refill interval
+     * @return 0 if a token was taken, otherwise nanoseconds until one is available
+     */
+    long tryTake(long now, long intervalNanos, long capacityNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long excess = next - now - capacityNanos;
+            if (excess > 0) {
+                return excess;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+    
+    /**
+     * A full bucket behaves exactly like a new one, so it can be dropped
+     */
+    boolean isFull(long now) {
+        return fullAt.get() <= now;
+    }
+}
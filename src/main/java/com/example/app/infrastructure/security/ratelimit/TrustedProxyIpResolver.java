@@ -0,0 +1,74 @@
+package com.example.app.infrastructure.security.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves the client IP that rate limits are keyed on. Forwarding headers are only believed when the
+ * request comes from a configured trusted proxy, and then only up to the first hop the trusted proxies
+ * did not add themselves, so a client cannot pick its own bucket by sending X-Forwarded-For.
+ */
+@Component
+public class TrustedProxyIpResolver {
+    
+    // Only literal addresses are matched, so a forged hop never triggers a DNS lookup
+    private static final Pattern IP_LITERAL = Pattern.compile("[0-9A-Fa-f.:]+");
+    
+    private final List<IpAddressMatcher> trustedProxies;
+    
+    public TrustedProxyIpResolver(@Value("${app.security.trusted-proxies:}") List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * The remote address, or when that is a trusted proxy the right-most untrusted X-Forwarded-For hop
+     */
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrusted(remoteAddr)) {
+            return remoteAddr;
+        }
+        
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            String realIp = request.getHeader("X-Real-IP");
+            return realIp != null && !realIp.isBlank() ? realIp.trim() : remoteAddr;
+        }
+        
+        String[] hops = forwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty() || "unknown".equalsIgnoreCase(hop)) {
+                continue;
+            }
+            client = hop;
+            if (!isTrusted(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+    
+    private boolean isTrusted(String address) {
+        if (address == null || trustedProxies.isEmpty() || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+        for (IpAddressMatcher proxy : trustedProxies) {
+            if (proxy.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.app.infrastructure.storage;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Encoder for BlurHash placeholders (https://blurha.sh).
+ * The image is reduced to a few DCT components whose colours are packed into a short base83 string;
+ * clients decode it into a blurred preview of the image. Input should already be scaled down to a few
+ * dozen pixels, as the cost is proportional to pixels times components.
+ */
+final class BlurHashEncoder {
+    
+    private static final String BASE83 =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+    
+    private BlurHashEncoder() {
+    }
+    
+    /**
+     * @param componentsX Horizontal components, 1 to 9
+     * @param componentsY Vertical components, 1 to 9
+     */
+    static String encode(BufferedImage image, int componentsX, int componentsY) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+        
+        double[][] factors = new double[componentsX * componentsY][];
+        for (int j = 0; j < componentsY; j++) {
+            for (int i = 0; i < componentsX; i++) {
+                factors[j * componentsX + i] = basisFactor(pixels, width, height, i, j);
+            }
+        }
+        
+        double maximumValue = 1;
+        int quantisedMaximum = 0;
+        if (factors.length > 1) {
+            double actualMaximum = 0;
+            for (int k = 1; k < factors.length; k++) {
+                for (double channel : factors[k]) {
+                    actualMaximum = Math.max(actualMaximum, Math.abs(channel));
+                }
+            }
+            quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+            maximumValue = (quantisedMaximum + 1) / 166.0;
+        }
+        
+        StringBuilder hash = new StringBuilder(4 + 2 * factors.length);
+        appendBase83(hash, (componentsX - 1) + (componentsY - 1) * 9, 1);
+        appendBase83(hash, quantisedMaximum, 1);
+        appendBase83(hash, encodeDc(factors[0]), 4);
+        for (int k = 1; k < factors.length; k++) {
+            appendBase83(hash, encodeAc(factors[k], maximumValue), 2);
+        }
+        return hash.toString();
+    }
+    
+    private static double[] basisFactor(int[] pixels, int width, int height, int componentX, int componentY) {
+        double r = 0;
+        double g = 0;
+        double b = 0;
+        for (int y = 0; y < height; y++) {
+            double basisY = Math.cos(Math.PI * componentY * y / height);
+            for (int x = 0; x < width; x++) {
+                double basis = Math.cos(Math.PI * componentX * x / width) * basisY;
+                int pixel = pixels[y * width + x];
+                r += basis * srgbToLinear((pixel >> 16) & 0xFF);
+                g += basis * srgbToLinear((pixel >> 8) & 0xFF);
+                b += basis * srgbToLinear(pixel & 0xFF);
+            }
+        }
+        double scale = (componentX == 0 && componentY == 0 ? 1.0 : 2.0) / (width * height);
+        return new double[]{r * scale, g * scale, b * scale};
+    }
+    
+    private static int encodeDc(double[] colour) {
+        return (linearToSrgb(colour[0]) << 16) + (linearToSrgb(colour[1]) << 8) + linearToSrgb(colour[2]);
+    }
+    
+    private static int encodeAc(double[] colour, double maximumValue) {
+        int r = quantiseAc(colour[0] / maximumValue);
+        int g = quantiseAc(colour[1] / maximumValue);
+        int b = quantiseAc(colour[2] / maximumValue);
+        return r * 19 * 19 + g * 19 + b;
+    }
+    
+    private static int quantiseAc(double value) {
+        double signedSqrt = Math.copySign(Math.sqrt(Math.abs(value)), value);
+        return (int) Math.max(0, Math.min(18, Math.floor(signedSqrt * 9 + 9.5)));
+    }
+    
+    private static double srgbToLinear(int value) {
+        double v = value / 255.0;
+        return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+    }
+    
+    private static int linearToSrgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        return v <= 0.0031308
+                ? (int) (v * 12.92 * 255 + 0.5)
+                : (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+    
+    private static void appendBase83(StringBuilder hash, int value, int length) {
+        for (int i = 1; i <= length; i++) {
+            int digit = (value / (int) Math.pow(83, length - i)) % 83;
+            hash.append(BASE83.charAt(digit));
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.app.infrastructure.storage;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the EXIF orientation of a JPEG and applies it to decoded pixels.
+ * ImageIO ignores the tag, so without this a portrait photo taken on a phone comes out sideways
+ * once it is re-encoded without its metadata.
+ */
+final class ExifOrientation {
+    
+    static final int NORMAL = 1;
+    
+    private static final int ORIENTATION_TAG = 0x0112;
+    
+    private ExifOrientation() {
+    }
+    
+    /**
+     * Scan the JPEG markers up to the image data for an EXIF segment
+     * @return Orientation 1 to 8; 1 if the stream has none or is not a JPEG
+     */
+    static int read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readUnsignedShort() != 0xFFD8) {
+            return NORMAL;
+        }
+        while (true) {
+            int marker = data.readUnsignedShort();
+            if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+                return NORMAL;
+            }
+            int length = data.readUnsignedShort() - 2;
+            if (length < 0) {
+                return NORMAL;
+            }
+            if (marker == 0xFFE1) {
+                int orientation = parseExif(data.readNBytes(length));
+                if (orientation != 0) {
+                    return orientation;
+                }
+            } else {
+                data.skipNBytes(length);
+            }
+        }
+    }
+    
+    /**
+     * Redraw the image upright
+     */
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        if (orientation <= NORMAL || orientation > 8) {
+            return image;
+        }
+        int w = image.getWidth();
+        int h = image.getHeight();
+        boolean transposed = orientation >= 5;
+        
+        // AffineTransform(m00, m10, m01, m11, m02, m12) mapping stored pixels to upright ones
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // Mirrored horizontally
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // Rotated 180
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // Mirrored vertically
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // Transposed
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // Rotated 90 clockwise
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // Transversed
+            default -> new AffineTransform(0, -1, 1, 0, 0, w);  // Rotated 90 counter-clockwise
+        };
+        
+        int type = image.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage upright = new BufferedImage(transposed ? h : w, transposed ? w : h, type);
+        Graphics2D graphics = upright.createGraphics();
+        graphics.drawImage(image, transform, null);
+        graphics.dispose();
+        return upright;
+    }
+    
+    /**
+     * Find the orientation tag in IFD0 of an APP1 segment
+     * @return Orientation, or 0 if the segment is not EXIF or has no orientation
+     */
+    private static int parseExif(byte[] segment) {
+        if (segment.length < 14 || segment[0] != 'E' || segment[1] != 'x' || segment[2] != 'i' || segment[3] != 'f') {
+            return 0;
+        }
+        int tiff = 6;
+        boolean littleEndian = segment[tiff] == 'I';
+        int ifd = tiff + (int) readInt(segment, tiff + 4, littleEndian);
+        if (ifd < tiff || ifd + 2 > segment.length) {
+            return 0;
+        }
+        int entries = readShort(segment, ifd, littleEndian);
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > segment.length) {
+                return 0;
+            }
+            if (readShort(segment, entry, littleEndian) == ORIENTATION_TAG) {
+                return readShort(segment, entry + 8, littleEndian);
+            }
+        }
+        return 0;
+    }
+    
+    private static int readShort(byte[] bytes, int offset, boolean littleEndian) {
+        int b0 = bytes[offset] & 0xFF;
+        int b1 = bytes[offset + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+    
+    private static long readInt(byte[] bytes, int offset, boolean littleEndian) {
+        long high = readShort(bytes, offset + (littleEndian ? 2 : 0), littleEndian);
+        long low = readShort(bytes, offset + (littleEndian ? 0 : 2), littleEndian);
+        return (high << 16) | low;
+    }
+}
@@ -1,30 +1,121 @@
 package com.example.app.infrastructure.storage;
 
+import com.example.app.domain.model.StoredImage;
+import com.example.app.domain.port.out.ImageBlobRepositoryPort;
+import com.example.app.domain.port.out.ImageStoragePort;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
-import java.util.Arrays;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Service for handling image storage operations.
- * Validates and processes multipart file uploads.
+ * Validates multipart file uploads and streams them into image storage.
+ * Files of a multi-file upload are stored concurrently on a shared bounded pool, with at most
+ * a fixed number of files of any one request in flight so a large upload cannot starve the others.
  */
 @Slf4j
 @Service
 public class ImageStorageService {
     
-    private static final List<String> ALLOWED_CONTENT_TYPES = Arrays.asList(
-            "image/jpeg",
-            "image/jpg",
-            "image/png",
-            "image/webp"
-    );
-    
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
+    private static final int SNIFF_LENGTH = 12;
+    
+    private final ImageStoragePort imageStoragePort;
+    private final ImageBlobRepositoryPort imageBlobRepositoryPort;
+    private final int perRequestParallelism;
+    private final ThreadPoolExecutor uploadExecutor;
+    
+    public ImageStorageService(
+            ImageStoragePort imageStoragePort,
+            ImageBlobRepositoryPort imageBlobRepositoryPort,
+            @Value("${app.storage.images.upload.threads:8}") int threads,
+            @Value("${app.storage.images.upload.per-request-parallelism:4}") int perRequestParallelism) {
+        this.imageStoragePort = imageStoragePort;
+        this.imageBlobRepositoryPort = imageBlobRepositoryPort;
+        this.perRequestParallelism = Math.max(1, perRequestParallelism);
+        
+        // The queue needs no bound: each request holds at most perRequestParallelism tasks
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.uploadExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
+    
+    /**
+     * Store the files of a multi-file upload concurrently.
+     * A rejected file does not stop the others; its reason is reported in its result instead.
+     * @return One result per file, in upload order
+     */
+    public List<ImageUploadResult> storeImages(MultipartFile[] files) {
+        Semaphore permits = new Semaphore(perRequestParallelism);
+        List<Future<StoredImage>> futures = new ArrayList<>(files.length);
+        try {
+            for (MultipartFile file : files) {
+                permits.acquire();
+                try {
+                    futures.add(uploadExecutor.submit(() -> {
+                        try {
+                            return storeImage(file);
+                        } finally {
+                            permits.release();
+                        }
+                    }));
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    throw e;
+                }
+            }
+            
+            List<ImageUploadResult> results = new ArrayList<>(files.length);
+            for (int i = 0; i < files.length; i++) {
+                ImageUploadResult.ImageUploadResultBuilder result = ImageUploadResult.builder()
+                        .index(i)
+                        .originalFilename(files[i].getOriginalFilename());
+                try {
+                    result.storedImage(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    Throwable cause = e.getCause();
+                    if (!(cause instanceof IllegalArgumentException)) {
+                        log.error("Error storing uploaded image {}: {}", files[i].getOriginalFilename(), cause.getMessage(), cause);
+                    }
+                    result.error(cause instanceof IllegalArgumentException ? cause.getMessage() : "Failed to process image file");
+                }
+                results.add(result.build());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Image upload interrupted", e);
+        }
+    }
     
     /**
      * Validate image file
@@ -34,26 +125,81 @@ public class ImageStorageService {
             throw new IllegalArgumentException("File is empty");
         }
         
-        if (file.getSize() > MAX_FILE_SIZE) {
+        validateImageSize(file.getSize());
+    }
+    
+    /**
+     * Validate the size of an image before accepting its bytes
+     */
+    public void validateImageSize(long size) {
+        if (size > MAX_FILE_SIZE) {
             throw new IllegalArgumentException("File size exceeds maximum allowed size of 10MB");
         }
+    }
+    
+    /**
+     * Stream an uploaded image into image storage.
+     * The part is read once: its type is sniffed from the leading bytes and its hash and size
+     * are computed while it is copied, so the file is never held in memory as a whole.
+     * @return Stored image with the sniffed content type
+     */
+    public StoredImage storeImage(MultipartFile file) {
+        validateImage(file);
         
-        String contentType = file.getContentType();
-        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
-            throw new IllegalArgumentException("Invalid file type. Only JPEG, PNG, and WebP are allowed");
+        try (InputStream in = file.getInputStream()) {
+            return storeImage(in);
+        } catch (IOException e) {
+            log.error("Error reading uploaded image: {}", e.getMessage(), e);
+            throw new UncheckedIOException("Failed to process image file", e);
         }
     }
     
     /**
-     * Convert MultipartFile to byte array
+     * Stream an image into image storage, sniffing its type from the leading bytes.
+     * The stored object is registered as an unreferenced blob, so it is cleaned up if no room image
+     * ever refers to it.
+     * @return Stored image with the sniffed content type
      */
-    public byte[] convertToByteArray(MultipartFile file) {
-        try {
-            return file.getBytes();
+    public StoredImage storeImage(InputStream content) {
+        try (InputStream in = new BufferedInputStream(content)) {
+            in.mark(SNIFF_LENGTH);
+            String contentType = detectContentType(in.readNBytes(SNIFF_LENGTH));
+            in.reset();
+            
+            if (contentType == null) {
+                throw new IllegalArgumentException("Invalid file type. Only JPEG, PNG, and WebP are allowed");
+            }
+            
+            StoredImage stored = imageStoragePort.store(in);
+            stored.setContentType(contentType);
+            imageBlobRepositoryPort.registerBlob(stored.getContentHash(), stored.getSize());
+            return stored;
         } catch (IOException e) {
-            log.error("Error converting file to byte array: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to process image file", e);
+            log.error("Error reading uploaded image: {}", e.getMessage(), e);
+            throw new UncheckedIOException("Failed to process image file", e);
+        }
+    }
+    
+    /**
+     * Detect the image type from its magic bytes
+     * @return Media type, or null if the bytes are not a JPEG, PNG or WebP image
+     */
+    public String detectContentType(byte[] header) {
+        if (header.length >= 3
+                && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (header.length >= 8
+                && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G'
+                && header[4] == 0x0D && header[5] == 0x0A && header[6] == 0x1A && header[7] == 0x0A) {
+            return "image/png";
+        }
+        if (header.length >= 12
+                && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return "image/webp";
         }
+        return null;
     }
     
     /**
@@ -0,0 +1,27 @@
+package com.example.app.infrastructure.storage;
+
+import com.example.app.domain.model.StoredImage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of storing one file of a multi-file upload.
+ * Either the stored image or the reason the file was rejected is set.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadResult {
+    
+    private int index;
+    private String originalFilename;
+    private StoredImage storedImage;
+    private String error;
+    
+    public boolean isSucceeded() {
+        return storedImage != null;
+    }
+}
@@ -0,0 +1,391 @@
+package com.example.app.infrastructure.storage;
+
+import com.example.app.domain.model.ImageVariant;
+import com.example.app.domain.model.RoomImage;
+import com.example.app.domain.model.StoredImage;
+import com.example.app.domain.port.out.ImageStoragePort;
+import com.example.app.domain.port.out.ImageVariantGeneratorPort;
+import com.example.app.domain.port.out.ImageVariantRepositoryPort;
+import com.example.app.domain.port.out.RoomImageRepositoryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adapter implementing ImageVariantGeneratorPort with ImageIO on a bounded worker pool.
+ * The upload is decoded once, subsampled while decoding when it is much larger than needed, and turned
+ * upright according to its EXIF orientation. The ingest stage then re-encodes it without metadata, capped
+ * to the maximum dimension and with PNG photos as JPEG, and replaces the upload if that made it smaller;
+ * an upload that is kept still loses its metadata.
+ * Each narrower variant is scaled from the previous one. Variants are only produced for buckets
+ * narrower than the image, so a request for a wider image falls back to the image itself.
+ * The BlurHash placeholder is computed from the narrowest variant, so it costs next to nothing extra.
+ */
+@Slf4j
+@Component
+public class ImageVariantPipeline implements ImageVariantGeneratorPort {
+    
+    private static final int PLACEHOLDER_WIDTH = 32;
+    
+    private final ImageStoragePort imageStoragePort;
+    private final ImageVariantRepositoryPort imageVariantRepositoryPort;
+    private final RoomImageRepositoryPort roomImageRepositoryPort;
+    private final int[] widths;
+    private final float jpegQuality;
+    private final boolean ingestEnabled;
+    private final int maxDimension;
+    private final float ingestJpegQuality;
+    private final boolean keepOriginal;
+    private final ThreadPoolExecutor executor;
+    private final Counter bytesBeforeIngest;
+    private final Counter bytesAfterIngest;
+    private final Counter normalizedImages;
+    private final Counter unchangedImages;
+    
+    public ImageVariantPipeline(
+            ImageStoragePort imageStoragePort,
+            ImageVariantRepositoryPort imageVariantRepositoryPort,
+            RoomImageRepositoryPort roomImageRepositoryPort,
+            @Value("${app.storage.images.variants.widths:320,640,1280}") int[] widths,
+            @Value("${app.storage.images.variants.jpeg-quality:0.82}") float jpegQuality,
+            @Value("${app.storage.images.variants.threads:2}") int threads,
+            @Value("${app.storage.images.variants.queue-capacity:500}") int queueCapacity,
+            @Value("${app.storage.images.ingest.enabled:true}") boolean ingestEnabled,
+            @Value("${app.storage.images.ingest.max-dimension:2560}") int maxDimension,
+            @Value("${app.storage.images.ingest.jpeg-quality:0.85}") float ingestJpegQuality,
+            @Value("${app.storage.images.ingest.keep-original:false}") boolean keepOriginal,
+            MeterRegistry meterRegistry) {
+        this.imageStoragePort = imageStoragePort;
+        this.imageVariantRepositoryPort = imageVariantRepositoryPort;
+        this.roomImageRepositoryPort = roomImageRepositoryPort;
+        this.widths = Arrays.stream(widths).distinct().sorted().toArray();
+        this.jpegQuality = jpegQuality;
+        this.ingestEnabled = ingestEnabled;
+        this.maxDimension = maxDimension;
+        this.ingestJpegQuality = ingestJpegQuality;
+        this.keepOriginal = keepOriginal;
+        
+        this.bytesBeforeIngest = Counter.builder("app.image.ingest.bytes.before")
+                .description("Size of uploads that went through ingest, as uploaded")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.bytesAfterIngest = Counter.builder("app.image.ingest.bytes.after")
+                .description("Size of uploads that went through ingest, as stored")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.normalizedImages = Counter.builder("app.image.ingest.images").tag("result", "normalized").register(meterRegistry);
+        this.unchangedImages = Counter.builder("app.image.ingest.images").tag("result", "unchanged").register(meterRegistry);
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variants-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+    
+    @Override
+    public void submit(Collection<RoomImage> images) {
+        for (RoomImage image : images) {
+            if (image.getContentHash() == null) {
+                continue;
+            }
+            try {
+                executor.execute(() -> process(image));
+            } catch (RejectedExecutionException e) {
+                // The upload is still served as is; the image just has no smaller variants
+                log.warn("Variant queue full, skipping ingest and variants for image {}", image.getId());
+            }
+        }
+    }
+    
+    @Override
+    public String generatePlaceholder(RoomImage image) {
+        try {
+            BufferedImage decoded = decodeUpright(image, PLACEHOLDER_WIDTH);
+            return decoded != null ? encodePlaceholder(decoded) : null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode image " + image.getId(), e);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+    
+    private void process(RoomImage image) {
+        try {
+            BufferedImage current = decodeUpright(image, Math.max(widths[widths.length - 1], ingestEnabled ? maxDimension : 0));
+            if (current == null) {
+                log.debug("No ImageIO reader for {} image {}, skipping variants", image.getContentType(), image.getId());
+                return;
+            }
+            if (ingestEnabled) {
+                current = normalize(image, current);
+            }
+            
+            List<ImageVariant> variants = new ArrayList<>();
+            for (int i = widths.length - 1; i >= 0; i--) {
+                if (widths[i] >= current.getWidth()) {
+                    continue;
+                }
+                current = scale(current, widths[i]);
+                variants.add(store(image, current));
+            }
+            
+            if (!variants.isEmpty()) {
+                imageVariantRepositoryPort.saveAll(variants);
+                log.debug("Generated {} variants for image {}", variants.size(), image.getId());
+            }
+            if (image.getPlaceholder() == null) {
+                roomImageRepositoryPort.updatePlaceholder(image.getId(), encodePlaceholder(current));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to generate variants for image {}: {}", image.getId(), e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Ingest stage: re-encode the upload without its metadata, capped to the maximum dimension, PNG photos as JPEG.
+     * The result replaces the upload if it had to be downscaled or came out smaller. Otherwise an upright JPEG
+     * is kept with only its metadata segments removed, and any other upload carrying metadata is replaced by the
+     * re-encoded image anyway, so no EXIF or XMP (GPS position among it) is ever served. Both sizes are recorded.
+     * @return Image to generate the variants from
+     */
+    private BufferedImage normalize(RoomImage image, BufferedImage decoded) throws IOException {
+        if (image.getOriginalFileSize() != null) {
+            return decoded;
+        }
+        boolean alpha = decoded.getColorModel().hasAlpha();
+        boolean oversized = Math.max(decoded.getWidth(), decoded.getHeight()) > maxDimension;
+        BufferedImage normalized = oversized ? scale(decoded, fitWidth(decoded, maxDimension)) : decoded;
+        String format = alpha ? "png" : "jpeg";
+        byte[] content = encode(alpha ? normalized : toRgb(normalized), format, ingestJpegQuality);
+        String contentType = "image/" + format;
+        long originalSize = image.getFileSize();
+        
+        if (!oversized && content.length >= originalSize) {
+            byte[] stripped = stripMetadata(image);
+            if (stripped != null && stripped.length == originalSize) {
+                roomImageRepositoryPort.markContentUnchanged(image.getId());
+                bytesBeforeIngest.increment(originalSize);
+                bytesAfterIngest.increment(originalSize);
+                unchangedImages.increment();
+                log.debug("Kept image {} as uploaded; it has no metadata and re-encoding gave {} bytes for {}",
+                        image.getId(), content.length, originalSize);
+                return decoded;
+            }
+            if (stripped != null) {
+                content = stripped;
+                contentType = image.getContentType();
+                normalized = decoded;
+            }
+        }
+        
+        StoredImage stored = imageStoragePort.store(new ByteArrayInputStream(content));
+        if (!roomImageRepositoryPort.replaceContent(image.getId(), image.getContentHash(),
+                stored.getContentHash(), stored.getSize(), contentType, keepOriginal)) {
+            // Changed or deleted meanwhile; the re-encoded object is left unreferenced for cleanup
+            log.debug("Image {} changed during ingest, keeping it as is", image.getId());
+            return decoded;
+        }
+        
+        bytesBeforeIngest.increment(originalSize);
+        bytesAfterIngest.increment(stored.getSize());
+        normalizedImages.increment();
+        log.info("Normalized image {}: {} {} bytes -> {} {}x{} {} bytes", image.getId(), image.getContentType(),
+                originalSize, contentType, normalized.getWidth(), normalized.getHeight(), stored.getSize());
+        
+        image.setOriginalFileSize(originalSize);
+        image.setContentHash(stored.getContentHash());
+        image.setFileSize(stored.getSize());
+        image.setContentType(contentType);
+        return normalized;
+    }
+    
+    /**
+     * Drop the metadata segments of an upright JPEG upload without re-encoding it.
+     * A JPEG that relies on its EXIF orientation cannot lose it losslessly, so it is left to re-encoding.
+     * @return Upload without metadata, or null if it is not an upright JPEG
+     */
+    private byte[] stripMetadata(RoomImage image) throws IOException {
+        if (!"image/jpeg".equals(image.getContentType())) {
+            return null;
+        }
+        byte[] upload;
+        try (InputStream in = imageStoragePort.load(image.getContentHash()).getInputStream()) {
+            upload = in.readAllBytes();
+        }
+        if (ExifOrientation.read(new ByteArrayInputStream(upload)) != ExifOrientation.NORMAL) {
+            return null;
+        }
+        return JpegMetadata.strip(upload);
+    }
+    
+    /**
+     * Decode an image and turn it upright according to its EXIF orientation
+     * @return Decoded image, or null if no reader supports the format
+     */
+    private BufferedImage decodeUpright(RoomImage image, int targetSize) throws IOException {
+        BufferedImage decoded = decode(image, targetSize);
+        if (decoded == null || !"image/jpeg".equals(image.getContentType())) {
+            return decoded;
+        }
+        try (InputStream in = imageStoragePort.load(image.getContentHash()).getInputStream()) {
+            return ExifOrientation.apply(decoded, ExifOrientation.read(in));
+        }
+    }
+    
+    /**
+     * Decode an image, subsampling during decode so its longer side ends up between the target size and twice that
+     * @return Decoded image, or null if no reader supports the format
+     */
+    private BufferedImage decode(RoomImage image, int targetSize) throws IOException {
+        try (InputStream in = imageStoragePort.load(image.getContentHash()).getInputStream();
+             ImageInputStream imageInput = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInput);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int longerSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, (int) Math.ceil(longerSide / (targetSize * 2.0)));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+    
+    /**
+     * BlurHash of a thumbnail; portrait images get more vertical than horizontal components
+     */
+    private String encodePlaceholder(BufferedImage image) {
+        BufferedImage thumbnail = image.getWidth() > PLACEHOLDER_WIDTH ? scale(image, PLACEHOLDER_WIDTH) : image;
+        boolean portrait = thumbnail.getHeight() > thumbnail.getWidth();
+        return BlurHashEncoder.encode(thumbnail, portrait ? 3 : 4, portrait ? 4 : 3);
+    }
+    
+    /**
+     * Width at which the longer side of the image equals the given size
+     */
+    private int fitWidth(BufferedImage image, int size) {
+        return image.getWidth() >= image.getHeight()
+                ? size
+                : Math.max(1, Math.round((float) image.getWidth() * size / image.getHeight()));
+    }
+    
+    /**
+     * Copy into a plain RGB raster, which the JPEG writer accepts whatever the source layout was
+     */
+    private BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_3BYTE_BGR) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return rgb;
+    }
+    
+    /**
+     * Downscale in halving steps with bilinear filtering, which avoids the aliasing of a single large step
+     */
+    private BufferedImage scale(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, Math.round((float) source.getHeight() * targetWidth / source.getWidth()));
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            
+            BufferedImage next = new BufferedImage(width, height, type);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(current, 0, 0, width, height, null);
+            graphics.dispose();
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        
+        return current;
+    }
+    
+    /**
+     * Encode a variant (JPEG, or PNG when it has transparency) and write it to image storage
+     */
+    private ImageVariant store(RoomImage image, BufferedImage variant) throws IOException {
+        boolean alpha = variant.getColorModel().hasAlpha();
+        String format = alpha ? "png" : "jpeg";
+        
+        StoredImage stored = imageStoragePort.store(new ByteArrayInputStream(encode(variant, format, jpegQuality)));
+        return ImageVariant.builder()
+                .imageId(image.getId())
+                .width(variant.getWidth())
+                .height(variant.getHeight())
+                .contentType("image/" + format)
+                .contentHash(stored.getContentHash())
+                .fileSize(stored.getSize())
+                .build();
+    }
+    
+    /**
+     * Encode without any metadata; the quality only applies to JPEG
+     */
+    private byte[] encode(BufferedImage image, String format, float quality) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(imageOutput);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if ("jpeg".equals(format)) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
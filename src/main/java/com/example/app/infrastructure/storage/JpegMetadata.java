@@ -0,0 +1,79 @@
+package com.example.app.infrastructure.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Removes metadata segments from a JPEG without touching the compressed image data.
+ * EXIF (including GPS position and camera serial numbers), XMP, IPTC and comments are dropped;
+ * the JFIF header, an embedded ICC colour profile and everything the decoder needs are kept.
+ */
+final class JpegMetadata {
+    
+    private static final byte[] ICC_PROFILE = "ICC_PROFILE\0".getBytes(StandardCharsets.US_ASCII);
+    
+    private JpegMetadata() {
+    }
+    
+    /**
+     * Copy the JPEG without its metadata segments
+     * @return Stripped JPEG, the same array if there was nothing to strip, or null if the bytes are not a JPEG
+     */
+    static byte[] strip(byte[] jpeg) {
+        if (jpeg.length < 4 || (jpeg[0] & 0xFF) != 0xFF || (jpeg[1] & 0xFF) != 0xD8) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream(jpeg.length);
+        out.write(jpeg, 0, 2);
+        boolean stripped = false;
+        int offset = 2;
+        while (offset + 4 <= jpeg.length) {
+            if ((jpeg[offset] & 0xFF) != 0xFF) {
+                return null;
+            }
+            int marker = jpeg[offset + 1] & 0xFF;
+            if (marker == 0xDA || marker == 0xD9) {
+                // Start of scan: the rest is entropy-coded data and is copied as is
+                out.write(jpeg, offset, jpeg.length - offset);
+                return stripped ? out.toByteArray() : jpeg;
+            }
+            int length = ((jpeg[offset + 2] & 0xFF) << 8) | (jpeg[offset + 3] & 0xFF);
+            int end = offset + 2 + length;
+            if (length < 2 || end > jpeg.length) {
+                return null;
+            }
+            if (isMetadata(jpeg, marker, offset + 4, end)) {
+                stripped = true;
+            } else {
+                out.write(jpeg, offset, end - offset);
+            }
+            offset = end;
+        }
+        return null;
+    }
+    
+    /**
+     * APP1 to APP15 and COM segments, other than an ICC profile in APP2
+     */
+    private static boolean isMetadata(byte[] jpeg, int marker, int payload, int end) {
+        if (marker == 0xFE) {
+            return true;
+        }
+        if (marker < 0xE1 || marker > 0xEF) {
+            return false;
+        }
+        return marker != 0xE2 || !startsWith(jpeg, payload, end, ICC_PROFILE);
+    }
+    
+    private static boolean startsWith(byte[] bytes, int offset, int end, byte[] prefix) {
+        if (end - offset < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.app.infrastructure.storage;
+
+import com.example.app.common.exception.ResourceNotFoundException;
+import com.example.app.domain.model.StoredImage;
+import com.example.app.domain.port.out.ImageStoragePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Adapter implementing ImageStoragePort on the local filesystem.
+ * Objects live at {@code <root>/ab/cd/<sha256>}: the stream is hashed while it is copied to a
+ * temporary file, which is then renamed into place, so readers never observe a partial object.
+ */
+@Slf4j
+@Component
+public class LocalDiskImageStorage implements ImageStoragePort {
+    
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path directory;
+    
+    public LocalDiskImageStorage(@Value("${app.storage.images.directory:./data/images}") String directory) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+    }
+    
+    @Override
+    public StoredImage store(InputStream content) {
+        Path temp = directory.resolve("tmp").resolve(UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(temp.getParent());
+            
+            MessageDigest digest = sha256();
+            long size = 0;
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                    ByteBuffer chunk = ByteBuffer.wrap(buffer, 0, read);
+                    while (chunk.hasRemaining()) {
+                        channel.write(chunk);
+                    }
+                    size += read;
+                }
+                channel.force(true);
+            }
+            
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(contentHash);
+            if (Files.exists(target)) {
+                Files.delete(temp);
+                // Marks the object as in use so blob cleanup leaves it alone
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                log.debug("Image {} already stored, reusing existing object", contentHash);
+            } else {
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+                log.debug("Stored image {} ({} bytes)", contentHash, size);
+            }
+            return StoredImage.builder().contentHash(contentHash).size(size).build();
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("Failed to store image", e);
+        }
+    }
+    
+    @Override
+    public Resource load(String contentHash) {
+        Path path = resolve(contentHash);
+        if (!Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("Stored image", "contentHash", contentHash);
+        }
+        return new FileSystemResource(path);
+    }
+    
+    @Override
+    public boolean exists(String contentHash) {
+        return Files.isRegularFile(resolve(contentHash));
+    }
+    
+    @Override
+    public boolean deleteIfUnusedSince(String contentHash, Instant cutoff) {
+        Path path = resolve(contentHash);
+        try {
+            if (!Files.exists(path) || Files.getLastModifiedTime(path).toInstant().isAfter(cutoff)) {
+                return false;
+            }
+            return Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete stored image " + contentHash, e);
+        }
+    }
+    
+    /**
+     * Two levels of fan-out keep directory sizes small even with millions of objects
+     */
+    private Path resolve(String contentHash) {
+        if (contentHash == null || !HASH_PATTERN.matcher(contentHash).matches()) {
+            throw new IllegalArgumentException("Invalid content hash: " + contentHash);
+        }
+        return directory.resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash);
+    }
+    
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+    
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temporary image file {}: {}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.app.infrastructure.storage;
+
+import com.example.app.common.exception.ResourceNotFoundException;
+import com.example.app.domain.port.out.UploadSessionStoragePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Adapter implementing UploadSessionStoragePort on the local filesystem.
+ * Each session is one sparse file at {@code <root>/<sessionId>.part}; chunks are written with positional
+ * writes, so concurrent chunks of the same session never contend on a shared file position.
+ */
+@Slf4j
+@Component
+public class LocalDiskUploadSessionStorage implements UploadSessionStoragePort {
+    
+    private static final String SUFFIX = ".part";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path directory;
+    
+    public LocalDiskUploadSessionStorage(
+            @Value("${app.storage.images.upload-sessions.directory:./data/upload-sessions}") String directory) {
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+    }
+    
+    @Override
+    public void writeChunk(UUID sessionId, long offset, long length, InputStream data) {
+        Path path = resolve(sessionId);
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                long written = 0;
+                while (written < length) {
+                    buffer.clear().limit((int) Math.min(BUFFER_SIZE, length - written));
+                    int read = data.read(buffer.array(), 0, buffer.limit());
+                    if (read == -1) {
+                        throw new IllegalArgumentException("Chunk ended after " + written + " of " + length + " bytes");
+                    }
+                    buffer.limit(read);
+                    while (buffer.hasRemaining()) {
+                        written += channel.write(buffer, offset + written);
+                    }
+                }
+                if (data.read() != -1) {
+                    throw new IllegalArgumentException("Chunk is longer than " + length + " bytes");
+                }
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write chunk of upload session " + sessionId, e);
+        }
+    }
+    
+    @Override
+    public InputStream open(UUID sessionId) {
+        try {
+            return Files.newInputStream(resolve(sessionId));
+        } catch (NoSuchFileException e) {
+            throw new ResourceNotFoundException("Upload session file", "sessionId", sessionId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open upload session " + sessionId, e);
+        }
+    }
+    
+    @Override
+    public void delete(UUID sessionId) {
+        try {
+            Files.deleteIfExists(resolve(sessionId));
+        } catch (IOException e) {
+            log.warn("Failed to delete file of upload session {}: {}", sessionId, e.getMessage());
+        }
+    }
+    
+    @Override
+    public List<UUID> findNotModifiedSince(Instant cutoff) {
+        List<UUID> sessionIds = new ArrayList<>();
+        if (!Files.isDirectory(directory)) {
+            return sessionIds;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                try {
+                    if (Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                        sessionIds.add(UUID.fromString(name.substring(0, name.length() - SUFFIX.length())));
+                    }
+                } catch (IllegalArgumentException | NoSuchFileException e) {
+                    // Not a session file, or deleted meanwhile
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list upload session files", e);
+        }
+        return sessionIds;
+    }
+    
+    private Path resolve(UUID sessionId) {
+        return directory.resolve(sessionId + SUFFIX);
+    }
+}
@@ -0,0 +1,15 @@
+-- Migration: Responsive image variants
+-- Version: V10
+-- Description: Downscaled copies of room images, one per width bucket, generated asynchronously after upload.
+--              Variant bytes live in image storage like originals; this table only records where they are
+
+CREATE TABLE IF NOT EXISTS room_image_variants (
+    image_id UUID NOT NULL REFERENCES room_images(id) ON DELETE CASCADE,
+    width INTEGER NOT NULL,
+    height INTEGER NOT NULL,
+    content_type VARCHAR(255) NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    file_size BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (image_id, width)
+);
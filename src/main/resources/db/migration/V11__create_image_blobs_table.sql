@@ -0,0 +1,32 @@
+-- Migration: Reference-counted image blobs
+-- Version: V11
+-- Description: One row per stored object in image storage, shared by every room image and variant with the
+--              same content hash. ref_count tracks the referencing rows; objects that drop to zero are
+--              removed by the blob cleanup job after a grace period
+
+CREATE TABLE IF NOT EXISTS image_blobs (
+    content_hash VARCHAR(64) PRIMARY KEY,
+    size BIGINT NOT NULL,
+    ref_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Cleanup job scans for unreferenced blobs, oldest release first
+CREATE INDEX IF NOT EXISTS idx_image_blob_unreferenced ON image_blobs(updated_at) WHERE ref_count <= 0;
+
+-- Backfill from images and variants already in image storage
+INSERT INTO image_blobs (content_hash, size, ref_count)
+SELECT content_hash, MAX(file_size), COUNT(*)
+FROM (
+    SELECT content_hash, file_size FROM room_images WHERE content_hash IS NOT NULL
+    UNION ALL
+    SELECT content_hash, file_size FROM room_image_variants
+) refs
+GROUP BY content_hash
+ON CONFLICT (content_hash) DO NOTHING;
+
+ALTER TABLE room_images
+    ADD CONSTRAINT fk_room_image_blob FOREIGN KEY (content_hash) REFERENCES image_blobs(content_hash);
+ALTER TABLE room_image_variants
+    ADD CONSTRAINT fk_room_image_variant_blob FOREIGN KEY (content_hash) REFERENCES image_blobs(content_hash);
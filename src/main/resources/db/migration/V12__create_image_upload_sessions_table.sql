@@ -0,0 +1,27 @@
+-- Migration: Resumable image upload sessions
+-- Version: V12
+-- Description: One row per image being uploaded in chunks, plus the chunks received so far. The bytes are
+--              written to a temporary file per session; abandoned sessions expire and are garbage-collected
+
+CREATE TABLE IF NOT EXISTS image_upload_sessions (
+    id UUID PRIMARY KEY,
+    room_id UUID NOT NULL REFERENCES rooms(id) ON DELETE CASCADE,
+    filename VARCHAR(255),
+    total_size BIGINT NOT NULL,
+    chunk_size INTEGER NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    is_main BOOLEAN NOT NULL DEFAULT FALSE,
+    display_order INTEGER NOT NULL DEFAULT 0,
+    status VARCHAR(20) NOT NULL DEFAULT 'OPEN',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS image_upload_chunks (
+    session_id UUID NOT NULL REFERENCES image_upload_sessions(id) ON DELETE CASCADE,
+    chunk_index INTEGER NOT NULL,
+    PRIMARY KEY (session_id, chunk_index)
+);
+
+-- Garbage collection scans for expired sessions
+CREATE INDEX IF NOT EXISTS idx_image_upload_session_expires ON image_upload_sessions(expires_at);
@@ -0,0 +1,10 @@
+-- Migration: Low-quality image placeholders
+-- Version: V13
+-- Description: BlurHash of each room image, generated after upload and embedded in image and search responses
+--              so clients can paint a placeholder before the image itself loads
+
+ALTER TABLE room_images ADD COLUMN IF NOT EXISTS placeholder VARCHAR(64);
+
+-- Placeholder backfill pages through the images that still lack one
+CREATE INDEX IF NOT EXISTS idx_room_image_missing_placeholder ON room_images(id)
+    WHERE placeholder IS NULL AND content_hash IS NOT NULL;
@@ -0,0 +1,11 @@
+-- Migration: Image normalization on ingest
+-- Version: V14
+-- Description: Uploaded images are re-encoded after upload (metadata stripped, dimensions capped, PNG photos
+--              converted to JPEG). original_file_size records the uploaded size next to file_size, and
+--              original_content_hash keeps the uploaded object referenced when originals are retained
+
+ALTER TABLE room_images ADD COLUMN IF NOT EXISTS original_content_hash VARCHAR(64);
+ALTER TABLE room_images ADD COLUMN IF NOT EXISTS original_file_size BIGINT;
+
+ALTER TABLE room_images
+    ADD CONSTRAINT fk_room_image_original_blob FOREIGN KEY (original_content_hash) REFERENCES image_blobs(content_hash);
@@ -0,0 +1,14 @@
+-- Migration: Revoked access tokens
+-- Version: V15
+-- Description: Access tokens revoked before they expire (logout), by token id. Every instance keeps the
+--              live rows in memory, rebuilds them at startup and polls for rows revoked elsewhere
+
+CREATE TABLE IF NOT EXISTS revoked_access_tokens (
+    token_id VARCHAR(36) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Instances poll for recent revocations; the purge job drops rows once their token has expired
+CREATE INDEX IF NOT EXISTS idx_revoked_access_token_revoked ON revoked_access_tokens(revoked_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_access_token_expires ON revoked_access_tokens(expires_at);
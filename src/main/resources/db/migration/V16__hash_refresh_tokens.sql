@@ -0,0 +1,17 @@
+-- Migration: Look up refresh tokens by digest
+-- Version: V16
+-- Description: Refresh tokens are stored and indexed as their 32-byte SHA-256 digest instead of the full JWT,
+--              which keeps the unique index small and the raw tokens out of the database
+
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash BYTEA;
+
+UPDATE refresh_tokens SET token_hash = sha256(convert_to(token, 'UTF8')) WHERE token_hash IS NULL;
+
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+CREATE UNIQUE INDEX IF NOT EXISTS idx_refresh_token_hash ON refresh_tokens(token_hash);
+
+DROP INDEX IF EXISTS idx_token;
+ALTER TABLE refresh_tokens DROP COLUMN IF EXISTS token;
+
+-- The purge job deletes expired tokens in batches
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expiry ON refresh_tokens(expiry_date);
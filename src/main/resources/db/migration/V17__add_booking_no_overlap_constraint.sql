@@ -0,0 +1,10 @@
+-- Migration: Reject overlapping stays in the database
+-- Version: V17
+-- Description: Concurrent create and bulk requests can both pass the application-level overlap check.
+--              The exclusion constraint makes the second insert fail, surfacing as a 409 conflict.
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE bookings ADD CONSTRAINT ex_booking_room_no_overlap
+    EXCLUDE USING gist (room_id WITH =, daterange(check_in_date, check_out_date) WITH &&)
+    WHERE (status <> 'CANCELLED');
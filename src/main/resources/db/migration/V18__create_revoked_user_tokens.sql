@@ -0,0 +1,15 @@
+-- Migration: Revoked user tokens
+-- Version: V18
+-- Description: Revocations of every access token of a user (disable, delete, role removal). Tokens issued
+--              up to revoked_before are rejected. Instances rebuild the live rows at startup and poll for
+--              rows written elsewhere, like revoked_access_tokens
+
+CREATE TABLE IF NOT EXISTS revoked_user_tokens (
+    user_id UUID PRIMARY KEY,
+    revoked_before TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Instances poll for recent revocations; the purge job drops rows once every covered token has expired
+CREATE INDEX IF NOT EXISTS idx_revoked_user_token_revoked ON revoked_user_tokens(revoked_before);
+CREATE INDEX IF NOT EXISTS idx_revoked_user_token_expires ON revoked_user_tokens(expires_at);
@@ -0,0 +1,6 @@
+-- Migration: Index users by last update
+-- Version: V19
+-- Description: Every instance polls for users changed since its last poll to evict them from its
+--              authentication cache, so the poll must be an index range scan
+
+CREATE INDEX IF NOT EXISTS idx_users_updated_at ON users(updated_at);
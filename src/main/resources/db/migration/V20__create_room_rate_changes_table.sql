@@ -0,0 +1,11 @@
+-- Migration: Room rate change log
+-- Version: V20
+-- Description: Last time the rate overrides of each room changed. Every instance caches rate calendars
+--              in memory and polls this table to drop calendars changed through another instance
+
+CREATE TABLE IF NOT EXISTS room_rate_changes (
+    room_id UUID PRIMARY KEY REFERENCES rooms(id) ON DELETE CASCADE,
+    changed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_room_rate_changes_changed ON room_rate_changes(changed_at);
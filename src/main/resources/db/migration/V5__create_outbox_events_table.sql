@@ -0,0 +1,23 @@
+-- Migration: Create transactional outbox table for domain change events
+-- Version: V5
+-- Description: Events are written in the same transaction as the business change and relayed asynchronously
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    processed_at TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000)
+);
+
+-- Partial index keeps the relay's polling query cheap no matter how many processed rows are retained
+CREATE INDEX IF NOT EXISTS idx_outbox_pending ON outbox_events(created_at) WHERE processed_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_processed_at ON outbox_events(processed_at);
+
+-- Add comments
+COMMENT ON TABLE outbox_events IS 'Transactional outbox of room, booking and user change events';
+COMMENT ON COLUMN outbox_events.processed_at IS 'Set once every in-process listener has handled the event';
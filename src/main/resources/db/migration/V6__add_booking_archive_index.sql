@@ -0,0 +1,5 @@
+-- Migration: Support keyset scans of bookings for cold archival
+-- Version: V6
+-- Description: Archival streams bookings in (check_in_date, id) order; this index keeps each page an index range scan
+
+CREATE INDEX IF NOT EXISTS idx_booking_check_in_id ON bookings(check_in_date, id);
@@ -0,0 +1,30 @@
+-- Migration: Create daily_room_stats rollup table
+-- Version: V7
+-- Description: Per room and night aggregates maintained on booking create/cancel, so occupancy,
+--              ADR and RevPAR reports never scan the bookings table
+
+-- Nightly rate captured when the booking is made, so cancellations reverse exactly what was added
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS price_per_night DECIMAL(10, 2);
+
+-- Existing bookings take the room's current rate so every rollup query reads one column
+UPDATE bookings b SET price_per_night = r.price_per_night
+FROM rooms r
+WHERE b.room_id = r.id AND b.price_per_night IS NULL;
+
+ALTER TABLE bookings ALTER COLUMN price_per_night SET NOT NULL;
+
+CREATE TABLE IF NOT EXISTS daily_room_stats (
+    room_id UUID NOT NULL,
+    stat_date DATE NOT NULL,
+    nights_sold INTEGER NOT NULL DEFAULT 0,
+    revenue DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    PRIMARY KEY (room_id, stat_date)
+);
+
+-- Covering index: date-range reports are answered by an index-only scan
+CREATE INDEX IF NOT EXISTS idx_daily_room_stats_date
+    ON daily_room_stats(stat_date) INCLUDE (nights_sold, revenue);
+
+COMMENT ON TABLE daily_room_stats IS 'Incremental per room/night booking rollups for management reports';
+COMMENT ON COLUMN daily_room_stats.nights_sold IS 'Active (non-cancelled) bookings covering this night, 0 or 1 per room';
+COMMENT ON COLUMN daily_room_stats.revenue IS 'Room revenue recognized for this night';
@@ -0,0 +1,14 @@
+-- Migration: Create room_rates table
+-- Version: V8
+-- Description: Per-day rate overrides (weekend, seasonal, event pricing). Days without a row
+--              are sold at rooms.price_per_night, so only overridden days are stored.
+
+CREATE TABLE IF NOT EXISTS room_rates (
+    room_id UUID NOT NULL REFERENCES rooms(id) ON DELETE CASCADE,
+    rate_date DATE NOT NULL,
+    price_cents INTEGER NOT NULL CHECK (price_cents > 0),
+    PRIMARY KEY (room_id, rate_date)
+);
+
+COMMENT ON TABLE room_rates IS 'Per room and day rate overrides; loaded into in-memory prefix-sum calendars';
+COMMENT ON COLUMN room_rates.price_cents IS 'Nightly rate in minor currency units';
@@ -0,0 +1,13 @@
+-- Migration: Move room image bytes out of the database
+-- Version: V9
+-- Description: Images are kept in content-addressed file storage keyed by SHA-256; image_data only remains
+--              on legacy rows until the storage migration job has moved them out
+
+ALTER TABLE room_images ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE room_images ALTER COLUMN image_data DROP NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_room_image_content_hash ON room_images(content_hash);
+
+-- Lets the migration job find the remaining inline rows without scanning the table
+CREATE INDEX IF NOT EXISTS idx_room_image_inline_pending ON room_images(id)
+    WHERE content_hash IS NULL AND image_data IS NOT NULL;
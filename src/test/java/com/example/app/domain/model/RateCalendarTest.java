@@ -0,0 +1,98 @@
+package com.example.app.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateCalendarTest {
+    
+    private static final LocalDate ORIGIN = LocalDate.of(2024, 1, 1);
+    private static final long BASE = 10_000L;
+    
+    @Test
+    void pricesStayFromOverridesAndBase() {
+        RateCalendar calendar = RateCalendar.of(ORIGIN, 30, Map.of(
+                ORIGIN.plusDays(2), 15_000L,
+                ORIGIN.plusDays(3), 20_000L));
+        
+        assertThat(calendar.stayPriceCents(ORIGIN, ORIGIN.plusDays(5), BASE))
+                .isEqualTo(3 * BASE + 15_000L + 20_000L);
+        assertThat(calendar.stayPriceCents(ORIGIN.plusDays(3), ORIGIN.plusDays(4), BASE)).isEqualTo(20_000L);
+        assertThat(calendar.stayPriceCents(ORIGIN.plusDays(3), ORIGIN.plusDays(3), BASE)).isZero();
+    }
+    
+    @Test
+    void nightsOutsideWindowUseBase() {
+        RateCalendar calendar = RateCalendar.of(ORIGIN, 10, Map.of(
+                ORIGIN, 1_000L,
+                ORIGIN.plusDays(9), 2_000L,
+                ORIGIN.plusDays(10), 99_000L));
+        
+        assertThat(calendar.overrideCents(ORIGIN.plusDays(10))).isNull();
+        assertThat(calendar.stayPriceCents(ORIGIN.minusDays(2), ORIGIN.plusDays(1), BASE))
+                .isEqualTo(2 * BASE + 1_000L);
+        assertThat(calendar.stayPriceCents(ORIGIN.plusDays(9), ORIGIN.plusDays(12), BASE))
+                .isEqualTo(2_000L + 2 * BASE);
+        assertThat(calendar.stayPriceCents(ORIGIN.minusDays(5), ORIGIN.minusDays(1), BASE)).isEqualTo(4 * BASE);
+    }
+    
+    @Test
+    void withRatesLeavesOriginalUntouched() {
+        RateCalendar calendar = RateCalendar.of(ORIGIN, 10, Map.of(ORIGIN.plusDays(4), 5_000L));
+        
+        RateCalendar updated = calendar.withRates(ORIGIN.plusDays(3), ORIGIN.plusDays(5), 7_000L);
+        RateCalendar reset = updated.withRates(ORIGIN.plusDays(4), ORIGIN.plusDays(4), null);
+        
+        assertThat(calendar.overrideCents(ORIGIN.plusDays(3))).isNull();
+        assertThat(calendar.overrideCents(ORIGIN.plusDays(4))).isEqualTo(5_000L);
+        assertThat(updated.overrideCents(ORIGIN.plusDays(4))).isEqualTo(7_000L);
+        assertThat(reset.overrideCents(ORIGIN.plusDays(4))).isNull();
+        assertThat(reset.stayPriceCents(ORIGIN.plusDays(3), ORIGIN.plusDays(6), BASE))
+                .isEqualTo(7_000L + BASE + 7_000L);
+        assertThat(calendar.withRates(ORIGIN.plusDays(20), ORIGIN.plusDays(25), 1L)).isSameAs(calendar);
+    }
+    
+    @Test
+    void incrementalUpdatesMatchRebuiltCalendar() {
+        Random random = new Random(42);
+        int days = 60;
+        Map<LocalDate, Long> overrides = new HashMap<>();
+        RateCalendar calendar = RateCalendar.of(ORIGIN, days, overrides);
+        
+        for (int round = 0; round < 200; round++) {
+            LocalDate from = ORIGIN.plusDays(random.nextInt(days + 10) - 5);
+            LocalDate to = from.plusDays(random.nextInt(8));
+            Long price = random.nextInt(4) == 0 ? null : (long) random.nextInt(50_000);
+            calendar = calendar.withRates(from, to, price);
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                if (price == null) {
+                    overrides.remove(day);
+                } else {
+                    overrides.put(day, price);
+                }
+            }
+            
+            RateCalendar rebuilt = RateCalendar.of(ORIGIN, days, overrides);
+            LocalDate checkIn = ORIGIN.plusDays(random.nextInt(days + 10) - 5);
+            LocalDate checkOut = checkIn.plusDays(random.nextInt(15));
+            assertThat(calendar.stayPriceCents(checkIn, checkOut, BASE))
+                    .isEqualTo(rebuilt.stayPriceCents(checkIn, checkOut, BASE))
+                    .isEqualTo(bruteForce(overrides, days, checkIn, checkOut));
+        }
+    }
+    
+    private static long bruteForce(Map<LocalDate, Long> overrides, int days, LocalDate checkIn, LocalDate checkOut) {
+        long total = 0;
+        for (LocalDate night = checkIn; night.isBefore(checkOut); night = night.plusDays(1)) {
+            boolean inWindow = !night.isBefore(ORIGIN) && night.isBefore(ORIGIN.plusDays(days));
+            Long override = inWindow ? overrides.get(night) : null;
+            total += override != null ? override : BASE;
+        }
+        return total;
+    }
+}
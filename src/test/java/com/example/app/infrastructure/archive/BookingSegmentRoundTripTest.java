@@ -0,0 +1,79 @@
+package com.example.app.infrastructure.archive;
+
+import com.example.app.domain.model.Booking;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingSegmentRoundTripTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void readsBackEveryColumn() throws Exception {
+        List<Booking> bookings = List.of(
+                booking(LocalDate.of(2022, 1, 3), 2, "CONFIRMED", new BigDecimal("120.50")),
+                booking(LocalDate.of(2022, 1, 3), 5, "CANCELLED", null),
+                booking(LocalDate.of(2022, 2, 14), 1, "PENDING", new BigDecimal("99.99")));
+        Path file = directory.resolve("segment" + BookingSegmentFormat.FILE_SUFFIX);
+        new BookingSegmentWriter(6).write(bookings, file);
+        
+        BookingSegmentReader.Footer footer = BookingSegmentReader.readFooter(file);
+        List<Booking> read = new ArrayList<>();
+        long matched = BookingSegmentReader.scan(file, footer, LocalDate.MIN, LocalDate.MAX, read::add);
+        
+        assertThat(footer.rowCount).isEqualTo(3);
+        assertThat(matched).isEqualTo(3);
+        for (int i = 0; i < bookings.size(); i++) {
+            Booking expected = bookings.get(i);
+            Booking actual = read.get(i);
+            assertThat(actual.getId()).isEqualTo(expected.getId());
+            assertThat(actual.getRoomId()).isEqualTo(expected.getRoomId());
+            assertThat(actual.getCheckInDate()).isEqualTo(expected.getCheckInDate());
+            assertThat(actual.getCheckOutDate()).isEqualTo(expected.getCheckOutDate());
+            assertThat(actual.getStatus()).isEqualTo(expected.getStatus());
+            assertThat(actual.getCreatedAt()).isEqualTo(expected.getCreatedAt());
+            assertThat(actual.getPricePerNight()).isEqualTo(expected.getPricePerNight());
+        }
+    }
+    
+    @Test
+    void scanSkipsRowsOutsideTheRange() throws Exception {
+        List<Booking> bookings = List.of(
+                booking(LocalDate.of(2022, 1, 1), 1, "CONFIRMED", BigDecimal.TEN),
+                booking(LocalDate.of(2022, 1, 10), 1, "CONFIRMED", new BigDecimal("20.00")),
+                booking(LocalDate.of(2022, 1, 20), 1, "CONFIRMED", BigDecimal.ONE));
+        Path file = directory.resolve("range" + BookingSegmentFormat.FILE_SUFFIX);
+        new BookingSegmentWriter(1).write(bookings, file);
+        
+        BookingSegmentReader.Footer footer = BookingSegmentReader.readFooter(file);
+        List<Booking> read = new ArrayList<>();
+        BookingSegmentReader.scan(file, footer, LocalDate.of(2022, 1, 5), LocalDate.of(2022, 1, 15), read::add);
+        
+        assertThat(read).extracting(Booking::getId).containsExactly(bookings.get(1).getId());
+        assertThat(read.get(0).getPricePerNight()).isEqualByComparingTo("20");
+        assertThat(footer.overlaps(LocalDate.of(2022, 2, 1), LocalDate.of(2022, 3, 1))).isFalse();
+    }
+    
+    private Booking booking(LocalDate checkIn, int nights, String status, BigDecimal price) {
+        return Booking.builder()
+                .id(UUID.randomUUID())
+                .roomId(UUID.randomUUID())
+                .checkInDate(checkIn)
+                .checkOutDate(checkIn.plusDays(nights))
+                .status(status)
+                .pricePerNight(price)
+                .createdAt(LocalDateTime.of(2021, 12, 1, 10, 30, 15))
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.app.infrastructure.archive;
+
+import com.example.app.domain.model.Booking;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalDiskBookingArchiveTest {
+    
+    @TempDir
+    Path directory;
+    
+    @Test
+    void writingTheSameBookingsAgainDoesNotArchiveThemTwice() {
+        LocalDiskBookingArchive archive = new LocalDiskBookingArchive(directory.toString(), 6);
+        List<Booking> first = List.of(booking(LocalDate.of(2022, 3, 1)), booking(LocalDate.of(2022, 3, 2)));
+        List<Booking> retried = new ArrayList<>(first);
+        retried.add(booking(LocalDate.of(2022, 3, 2)));
+        
+        assertThat(archive.writeSegment(first)).isNotNull();
+        assertThat(archive.writeSegment(retried)).isNotNull();
+        assertThat(archive.writeSegment(first)).isNull();
+        
+        List<UUID> scanned = new ArrayList<>();
+        archive.scan(LocalDate.of(2022, 1, 1), LocalDate.of(2022, 12, 31), booking -> scanned.add(booking.getId()));
+        assertThat(scanned).containsExactlyInAnyOrderElementsOf(retried.stream().map(Booking::getId).toList());
+        assertThat(archive.countSegments()).isEqualTo(2);
+    }
+    
+    private Booking booking(LocalDate checkIn) {
+        return Booking.builder()
+                .id(UUID.randomUUID())
+                .roomId(UUID.randomUUID())
+                .checkInDate(checkIn)
+                .checkOutDate(checkIn.plusDays(2))
+                .status("CONFIRMED")
+                .pricePerNight(new BigDecimal("80.00"))
+                .build();
+    }
+}
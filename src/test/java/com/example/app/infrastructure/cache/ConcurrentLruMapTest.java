@@ -0,0 +1,45 @@
+package com.example.app.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentLruMapTest {
+    
+    @Test
+    void evictsLeastRecentlyReadEntriesOnceOverBound() {
+        ConcurrentLruMap<String, Integer> map = new ConcurrentLruMap<>(16);
+        for (int i = 0; i < 16; i++) {
+            map.put("key-" + i, i);
+        }
+        // Read the first half so the second half becomes the least recently used
+        for (int i = 0; i < 8; i++) {
+            map.get("key-" + i);
+        }
+        
+        map.put("new", 16);
+        
+        assertThat(map.size()).isLessThanOrEqualTo(16);
+        assertThat(map.get("new")).isEqualTo(16);
+        for (int i = 0; i < 8; i++) {
+            assertThat(map.get("key-" + i)).isEqualTo(i);
+        }
+    }
+    
+    @Test
+    void removesOnlyMatchingValues() {
+        ConcurrentLruMap<String, Integer> map = new ConcurrentLruMap<>(16);
+        Integer first = 1000;
+        Integer second = 2000;
+        map.put("a", first);
+        map.put("b", 2);
+        map.put("c", 3);
+        
+        map.put("a", second);
+        map.remove("a", first);
+        
+        assertThat(map.get("a")).isSameAs(second);
+        assertThat(map.removeIf(value -> value < 10)).isEqualTo(2);
+        assertThat(map.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.app.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FrequencySketchTest {
+    
+    @Test
+    void countsIncrementsUpToSaturation() {
+        FrequencySketch sketch = new FrequencySketch(1024);
+        
+        for (int i = 0; i < 3; i++) {
+            sketch.increment("hero");
+        }
+        assertThat(sketch.frequency("hero")).isEqualTo(3);
+        assertThat(sketch.frequency("never-seen")).isZero();
+        
+        for (int i = 0; i < 100; i++) {
+            sketch.increment("hero");
+        }
+        assertThat(sketch.frequency("hero")).isEqualTo(15);
+    }
+    
+    @Test
+    void halvesCountersOnceSampleIsFull() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        for (int i = 0; i < 15; i++) {
+            sketch.increment("hero");
+        }
+        
+        // Sample size is 160 additions; the hero key contributed 15 of them
+        for (int i = 0; i < 145; i++) {
+            sketch.increment("other-" + i);
+        }
+        
+        assertThat(sketch.frequency("hero")).isBetween(7, 8);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.app.infrastructure.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapImageCacheTest {
+    
+    private static final int PAGE = 1024;
+    
+    // Four pages of one kilobyte each, filled as soon as a miss is admitted
+    private final OffHeapImageCache cache = new OffHeapImageCache(true, 4 * PAGE, PAGE, PAGE, 4 * PAGE,
+            Runnable::run, new SimpleMeterRegistry());
+    private final Map<String, AtomicInteger> loads = new HashMap<>();
+    
+    @Test
+    void admittedMissIsServedFromSourceWhileFilling() {
+        List<Runnable> pendingFills = new ArrayList<>();
+        OffHeapImageCache deferred = new OffHeapImageCache(true, 4 * PAGE, PAGE, PAGE, 4 * PAGE,
+                pendingFills::add, new SimpleMeterRegistry());
+        ByteArrayResource source = image("a", PAGE);
+        
+        assertThat(deferred.getOrLoad("a", PAGE, () -> source)).isSameAs(source);
+        assertThat(deferred.getOrLoad("a", PAGE, () -> source)).isSameAs(source);
+        
+        // Only one fill is scheduled for concurrent misses, and the entry is visible once it completes
+        assertThat(pendingFills).hasSize(1);
+        pendingFills.forEach(Runnable::run);
+        assertThat(deferred.getOrLoad("a", PAGE, () -> source)).isNotSameAs(source);
+    }
+    
+    @Test
+    void servesCachedBytesWithoutLoading() throws IOException {
+        byte[] expected = image("a", 3 * PAGE / 2).getByteArray();
+        
+        get("a", 3 * PAGE / 2);
+        Resource cached = get("a", 3 * PAGE / 2);
+        
+        assertThat(loads.get("a")).hasValue(1);
+        try (InputStream in = cached.getInputStream()) {
+            assertThat(in.readAllBytes()).isEqualTo(expected);
+        }
+    }
+    
+    @Test
+    void rejectedCandidateEvictsNothing() {
+        get("cold", PAGE);
+        touch("hot", 3 * PAGE, 6);
+        
+        // Beats the cold entry but would also need the hot one's pages
+        touch("candidate", 2 * PAGE, 2);
+        
+        assertThat(loads.get("candidate")).hasValue(2);
+        get("cold", PAGE);
+        get("hot", 3 * PAGE);
+        assertThat(loads.get("cold")).hasValue(1);
+        assertThat(loads.get("hot")).hasValue(1);
+    }
+    
+    @Test
+    void pinnedEntriesAreNotChosenAsVictims() throws IOException {
+        byte[] expected = image("pinned", 2 * PAGE).getByteArray();
+        get("pinned", 2 * PAGE);
+        Resource pinned = get("pinned", 2 * PAGE);
+        get("other", 2 * PAGE);
+        
+        try (InputStream in = pinned.getInputStream()) {
+            touch("candidate", 2 * PAGE, 3);
+            assertThat(in.readAllBytes()).isEqualTo(expected);
+        }
+        
+        assertThat(loads.get("candidate")).hasValue(2);
+        get("candidate", 2 * PAGE);
+        get("pinned", 2 * PAGE);
+        get("other", 2 * PAGE);
+        assertThat(loads.get("candidate")).hasValue(2);
+        assertThat(loads.get("pinned")).hasValue(1);
+        assertThat(loads.get("other")).hasValue(2);
+    }
+    
+    /**
+     * Request an image the given number of times; the first miss that is admitted caches it
+     */
+    private void touch(String key, int size, int times) {
+        for (int i = 0; i < times; i++) {
+            get(key, size);
+        }
+    }
+    
+    private Resource get(String key, int size) {
+        Supplier<Resource> loader = () -> {
+            loads.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+            return image(key, size);
+        };
+        return cache.getOrLoad(key, size, loader);
+    }
+    
+    private static ByteArrayResource image(String key, int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (key.hashCode() + i);
+        }
+        return new ByteArrayResource(bytes);
+    }
+}
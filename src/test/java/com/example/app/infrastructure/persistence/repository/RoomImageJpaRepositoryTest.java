@@ -0,0 +1,123 @@
+package com.example.app.infrastructure.persistence.repository;
+
+import com.example.app.domain.valueobject.BedType;
+import com.example.app.domain.valueobject.RoomStatus;
+import com.example.app.infrastructure.persistence.entity.RoomEntity;
+import com.example.app.infrastructure.persistence.entity.RoomImageEntity;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Metadata queries must never read the inline image bytes.
+ * Runs without the dev profile, so Hibernate detects the H2 dialect instead of using the configured PostgreSQL one.
+ */
+@ActiveProfiles("test")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.example.app.infrastructure.persistence.repository.RoomImageJpaRepositoryTest$RecordingInspector"
+})
+class RoomImageJpaRepositoryTest {
+    
+    @Autowired
+    private RoomImageJpaRepository roomImageJpaRepository;
+    
+    @Autowired
+    private TestEntityManager entityManager;
+    
+    private RoomEntity room;
+    private RoomImageEntity image;
+    
+    @BeforeEach
+    void setUp() {
+        room = entityManager.persist(RoomEntity.builder()
+                .title("Sea view suite")
+                .pricePerNight(new BigDecimal("180.00"))
+                .maxGuests(2)
+                .bedType(BedType.DOUBLE)
+                .status(RoomStatus.AVAILABLE)
+                .build());
+        image = entityManager.persist(RoomImageEntity.builder()
+                .room(room)
+                .filename("suite.jpg")
+                .contentType("image/jpeg")
+                .fileSize(4L)
+                .imageData(new byte[] {1, 2, 3, 4})
+                .isMain(true)
+                .displayOrder(0)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        RecordingInspector.STATEMENTS.clear();
+    }
+    
+    @Test
+    void findMetadataByRoomIdSkipsImageData() {
+        List<RoomImageMetadataView> metadata = roomImageJpaRepository.findMetadataByRoomId(room.getId());
+        
+        assertThat(metadata).extracting(RoomImageMetadataView::getFilename).containsExactly("suite.jpg");
+        assertNoImageDataSelected();
+    }
+    
+    @Test
+    void findMetadataByRoomIdsSkipsImageData() {
+        List<RoomImageMetadataView> metadata = roomImageJpaRepository.findMetadataByRoomIds(
+                List.of(room.getId(), UUID.randomUUID()));
+        
+        assertThat(metadata).extracting(RoomImageMetadataView::getId).containsExactly(image.getId());
+        assertNoImageDataSelected();
+    }
+    
+    @Test
+    void findMainMetadataByRoomIdSkipsImageData() {
+        assertThat(roomImageJpaRepository.findMainMetadataByRoomId(room.getId()))
+                .get()
+                .extracting(RoomImageMetadataView::getId)
+                .isEqualTo(image.getId());
+        assertThat(roomImageJpaRepository.findMainMetadataByRoomId(UUID.randomUUID())).isEmpty();
+        assertNoImageDataSelected();
+    }
+    
+    @Test
+    void findMetadataByIdSkipsImageData() {
+        assertThat(roomImageJpaRepository.findMetadataById(image.getId()))
+                .get()
+                .extracting(RoomImageMetadataView::getFileSize)
+                .isEqualTo(4L);
+        assertThat(roomImageJpaRepository.findMetadataById(UUID.randomUUID())).isEmpty();
+        assertNoImageDataSelected();
+    }
+    
+    private static void assertNoImageDataSelected() {
+        assertThat(RecordingInspector.STATEMENTS)
+                .isNotEmpty()
+                .allSatisfy(sql -> assertThat(sql.toLowerCase(Locale.ROOT)).doesNotContain("image_data"));
+    }
+    
+    /**
+     * Records every SQL statement Hibernate prepares
+     */
+    public static class RecordingInspector implements StatementInspector {
+        
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+        
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.app.infrastructure.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    
+    private static final long INTERVAL = TimeUnit.SECONDS.toNanos(10);
+    private static final long CAPACITY = 3 * INTERVAL;
+    
+    @Test
+    void allowsBurstUpToCapacity() {
+        long now = 1_000_000_000L;
+        TokenBucket bucket = new TokenBucket(now);
+        
+        assertThat(bucket.tryTake(now, INTERVAL, CAPACITY)).isZero();
+        assertThat(bucket.tryTake(now, INTERVAL, CAPACITY)).isZero();
+        assertThat(bucket.tryTake(now, INTERVAL, CAPACITY)).isZero();
+        assertThat(bucket.tryTake(now, INTERVAL, CAPACITY)).isEqualTo(INTERVAL);
+    }
+    
+    @Test
+    void refillsOneTokenPerInterval() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(now);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryTake(now, INTERVAL, CAPACITY);
+        }
+        
+        assertThat(bucket.tryTake(now + INTERVAL / 2, INTERVAL, CAPACITY)).isEqualTo(INTERVAL / 2);
+        assertThat(bucket.tryTake(now + INTERVAL, INTERVAL, CAPACITY)).isZero();
+        assertThat(bucket.tryTake(now + INTERVAL, INTERVAL, CAPACITY)).isEqualTo(INTERVAL);
+    }
+    
+    @Test
+    void refusedRequestsDoNotConsumeTokens() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(now);
+        for (int i = 0; i < 3; i++) {
+            bucket.tryTake(now, INTERVAL, CAPACITY);
+        }
+        for (int i = 0; i < 100; i++) {
+            assertThat(bucket.tryTake(now, INTERVAL, CAPACITY)).isPositive();
+        }
+        
+        assertThat(bucket.tryTake(now + INTERVAL, INTERVAL, CAPACITY)).isZero();
+    }
+    
+    @Test
+    void isFullOnceEveryTokenIsBack() {
+        long now = 0;
+        TokenBucket bucket = new TokenBucket(now);
+        assertThat(bucket.isFull(now)).isTrue();
+        
+        bucket.tryTake(now, INTERVAL, CAPACITY);
+        bucket.tryTake(now, INTERVAL, CAPACITY);
+        
+        assertThat(bucket.isFull(now + INTERVAL)).isFalse();
+        assertThat(bucket.isFull(now + 2 * INTERVAL)).isTrue();
+        assertThat(bucket.tryTake(now + 10 * INTERVAL, INTERVAL, CAPACITY)).isZero();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.app.infrastructure.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrustedProxyIpResolverTest {
+    
+    private final TrustedProxyIpResolver resolver = new TrustedProxyIpResolver(List.of("10.0.0.0/8", "192.168.1.5"));
+    
+    @Test
+    void ignoresForwardingHeadersFromUntrustedPeers() {
+        MockHttpServletRequest request = request("203.0.113.7", "198.51.100.1");
+        request.addHeader("X-Real-IP", "198.51.100.2");
+        
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+    
+    @Test
+    void takesRightMostUntrustedHopBehindTrustedProxies() {
+        // The client forged the first hop; the proxies appended the real peer and each other
+        MockHttpServletRequest request = request("10.0.0.2", "1.2.3.4, 203.0.113.7, 192.168.1.5");
+        
+        assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+    }
+    
+    @Test
+    void fallsBackWhenOnlyTrustedHopsArePresent() {
+        assertThat(resolver.resolve(request("10.0.0.2", "10.1.1.1"))).isEqualTo("10.1.1.1");
+        assertThat(resolver.resolve(request("10.0.0.2", null))).isEqualTo("10.0.0.2");
+    }
+    
+    @Test
+    void trustsNothingByDefault() {
+        TrustedProxyIpResolver untrusting = new TrustedProxyIpResolver(List.of());
+        
+        assertThat(untrusting.resolve(request("10.0.0.2", "203.0.113.7"))).isEqualTo("10.0.0.2");
+    }
+    
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        if (forwardedFor != null) {
+            request.addHeader("X-Forwarded-For", forwardedFor);
+        }
+        return request;
+    }
+}
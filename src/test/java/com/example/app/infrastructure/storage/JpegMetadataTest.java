@@ -0,0 +1,72 @@
+package com.example.app.infrastructure.storage;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JpegMetadataTest {
+    
+    @Test
+    void dropsExifXmpAndCommentsButKeepsImageData() throws IOException {
+        byte[] plain = jpeg();
+        byte[] tagged = withSegments(plain,
+                segment(0xE1, "Exif\0\0GPS 52.37N 4.89E"),
+                segment(0xE1, "http://ns.adobe.com/xap/1.0/\0<x:xmpmeta/>"),
+                segment(0xFE, "taken at home"));
+        
+        byte[] stripped = JpegMetadata.strip(tagged);
+        
+        assertThat(stripped).isEqualTo(plain);
+        assertThat(new String(stripped, StandardCharsets.ISO_8859_1)).doesNotContain("GPS", "xmpmeta", "home");
+        assertThat(ImageIO.read(new ByteArrayInputStream(stripped)).getWidth()).isEqualTo(8);
+    }
+    
+    @Test
+    void keepsIccProfileAndReturnsSameArrayWhenNothingToStrip() throws IOException {
+        byte[] profiled = withSegments(jpeg(), segment(0xE2, "ICC_PROFILE\0\1\1profile"));
+        
+        assertThat(JpegMetadata.strip(profiled)).isSameAs(profiled);
+        assertThat(JpegMetadata.strip("not a jpeg".getBytes(StandardCharsets.US_ASCII))).isNull();
+    }
+    
+    private static byte[] jpeg() throws IOException {
+        BufferedImage image = new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(3, 3, 0xFF8800);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", out);
+        return out.toByteArray();
+    }
+    
+    /**
+     * Insert segments right after the JFIF header, where cameras put their metadata
+     */
+    private static byte[] withSegments(byte[] jpeg, byte[]... segments) {
+        int jfifEnd = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, jfifEnd);
+        for (byte[] segment : segments) {
+            out.writeBytes(segment);
+        }
+        out.write(jpeg, jfifEnd, jpeg.length - jfifEnd);
+        return out.toByteArray();
+    }
+    
+    private static byte[] segment(int marker, String payload) {
+        byte[] data = payload.getBytes(StandardCharsets.ISO_8859_1);
+        int length = data.length + 2;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(0xFF);
+        out.write(marker);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(data);
+        return out.toByteArray();
+    }
+}